@@ -0,0 +1,2326 @@
+package redis.clients.jedis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.params.GeoRadiusParam;
+import redis.clients.jedis.params.MigrateParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.params.ZAddParams;
+import redis.clients.jedis.params.ZIncrByParams;
+
+/**
+ * Asynchronous counterpart of {@link Jedis}. Every command returns a {@link JedisFuture} right
+ * away, decoded by the same {@link BuilderFactory} builders as the blocking API, so that many
+ * commands can be in flight at once without a thread blocked on each of them: listeners added to
+ * the futures are called back by the event loop once the replies arrive.
+ * <p>
+ * Commands are written over one or a few shared {@link NioConnection}s, see
+ * {@link MultiplexedPipeline}. An instance is thread-safe and meant to be shared.
+ */
+public class AsyncJedis extends MultiplexedPipeline {
+
+  public AsyncJedis(final String host, final int port) {
+    super(host, port);
+  }
+
+  public AsyncJedis(final HostAndPort hostAndPort, final String password) {
+    super(hostAndPort, password);
+  }
+
+  public AsyncJedis(final String host, final int port, final int timeout, final String password) {
+    super(host, port, timeout, password);
+  }
+
+  public AsyncJedis(final NioEventLoop eventLoop, final JedisSocketFactory jedisSocketFactory,
+      final int connections, final String user, final String password, final int database) {
+    super(eventLoop, jedisSocketFactory, connections, user, password, database);
+  }
+
+  @Override
+  public JedisFuture<Long> append(final String key, final String value) {
+    return (JedisFuture<Long>) super.append(key, value);
+  }
+
+  @Override
+  public JedisFuture<List<String>> blpop(final String arg) {
+    return (JedisFuture<List<String>>) super.blpop(arg);
+  }
+
+  @Override
+  public JedisFuture<List<String>> brpop(final String arg) {
+    return (JedisFuture<List<String>>) super.brpop(arg);
+  }
+
+  @Override
+  public JedisFuture<Long> decr(final String key) {
+    return (JedisFuture<Long>) super.decr(key);
+  }
+
+  @Override
+  public JedisFuture<Long> decrBy(final String key, final long decrement) {
+    return (JedisFuture<Long>) super.decrBy(key, decrement);
+  }
+
+  @Override
+  public JedisFuture<Long> del(final String key) {
+    return (JedisFuture<Long>) super.del(key);
+  }
+
+  @Override
+  public JedisFuture<Long> unlink(final String key) {
+    return (JedisFuture<Long>) super.unlink(key);
+  }
+
+  @Override
+  public JedisFuture<String> echo(final String string) {
+    return (JedisFuture<String>) super.echo(string);
+  }
+
+  @Override
+  public JedisFuture<Boolean> exists(final String key) {
+    return (JedisFuture<Boolean>) super.exists(key);
+  }
+
+  @Override
+  public JedisFuture<Long> expire(final String key, final int seconds) {
+    return (JedisFuture<Long>) super.expire(key, seconds);
+  }
+
+  @Override
+  public JedisFuture<Long> pexpire(final String key, final long milliseconds) {
+    return (JedisFuture<Long>) super.pexpire(key, milliseconds);
+  }
+
+  @Override
+  public JedisFuture<Long> expireAt(final String key, final long unixTime) {
+    return (JedisFuture<Long>) super.expireAt(key, unixTime);
+  }
+
+  @Override
+  public JedisFuture<Long> pexpireAt(final String key, final long millisecondsTimestamp) {
+    return (JedisFuture<Long>) super.pexpireAt(key, millisecondsTimestamp);
+  }
+
+  @Override
+  public JedisFuture<String> get(final String key) {
+    return (JedisFuture<String>) super.get(key);
+  }
+
+  @Override
+  public JedisFuture<Boolean> getbit(final String key, final long offset) {
+    return (JedisFuture<Boolean>) super.getbit(key, offset);
+  }
+
+  @Override
+  public JedisFuture<String> getrange(final String key, final long startOffset,
+      final long endOffset) {
+    return (JedisFuture<String>) super.getrange(key, startOffset, endOffset);
+  }
+
+  @Override
+  public JedisFuture<String> getSet(final String key, final String value) {
+    return (JedisFuture<String>) super.getSet(key, value);
+  }
+
+  @Override
+  public JedisFuture<Long> hdel(final String key, final String... field) {
+    return (JedisFuture<Long>) super.hdel(key, field);
+  }
+
+  @Override
+  public JedisFuture<Boolean> hexists(final String key, final String field) {
+    return (JedisFuture<Boolean>) super.hexists(key, field);
+  }
+
+  @Override
+  public JedisFuture<String> hget(final String key, final String field) {
+    return (JedisFuture<String>) super.hget(key, field);
+  }
+
+  @Override
+  public JedisFuture<Map<String, String>> hgetAll(final String key) {
+    return (JedisFuture<Map<String, String>>) super.hgetAll(key);
+  }
+
+  @Override
+  public JedisFuture<Long> hincrBy(final String key, final String field, final long value) {
+    return (JedisFuture<Long>) super.hincrBy(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> hkeys(final String key) {
+    return (JedisFuture<Set<String>>) super.hkeys(key);
+  }
+
+  @Override
+  public JedisFuture<Long> hlen(final String key) {
+    return (JedisFuture<Long>) super.hlen(key);
+  }
+
+  @Override
+  public JedisFuture<List<String>> hmget(final String key, final String... fields) {
+    return (JedisFuture<List<String>>) super.hmget(key, fields);
+  }
+
+  @Override
+  public JedisFuture<String> hmset(final String key, final Map<String, String> hash) {
+    return (JedisFuture<String>) super.hmset(key, hash);
+  }
+
+  @Override
+  public JedisFuture<Long> hset(final String key, final String field, final String value) {
+    return (JedisFuture<Long>) super.hset(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<Long> hset(final String key, final Map<String, String> hash) {
+    return (JedisFuture<Long>) super.hset(key, hash);
+  }
+
+  @Override
+  public JedisFuture<Long> hsetnx(final String key, final String field, final String value) {
+    return (JedisFuture<Long>) super.hsetnx(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<List<String>> hvals(final String key) {
+    return (JedisFuture<List<String>>) super.hvals(key);
+  }
+
+  @Override
+  public JedisFuture<Long> incr(final String key) {
+    return (JedisFuture<Long>) super.incr(key);
+  }
+
+  @Override
+  public JedisFuture<Long> incrBy(final String key, final long increment) {
+    return (JedisFuture<Long>) super.incrBy(key, increment);
+  }
+
+  @Override
+  public JedisFuture<String> lindex(final String key, final long index) {
+    return (JedisFuture<String>) super.lindex(key, index);
+  }
+
+  @Override
+  public JedisFuture<Long> linsert(final String key, final ListPosition where, final String pivot,
+      final String value) {
+    return (JedisFuture<Long>) super.linsert(key, where, pivot, value);
+  }
+
+  @Override
+  public JedisFuture<Long> llen(final String key) {
+    return (JedisFuture<Long>) super.llen(key);
+  }
+
+  @Override
+  public JedisFuture<String> lpop(final String key) {
+    return (JedisFuture<String>) super.lpop(key);
+  }
+
+  @Override
+  public JedisFuture<Long> lpush(final String key, final String... string) {
+    return (JedisFuture<Long>) super.lpush(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> lpushx(final String key, final String... string) {
+    return (JedisFuture<Long>) super.lpushx(key, string);
+  }
+
+  @Override
+  public JedisFuture<List<String>> lrange(final String key, final long start, final long stop) {
+    return (JedisFuture<List<String>>) super.lrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> lrem(final String key, final long count, final String value) {
+    return (JedisFuture<Long>) super.lrem(key, count, value);
+  }
+
+  @Override
+  public JedisFuture<String> lset(final String key, final long index, final String value) {
+    return (JedisFuture<String>) super.lset(key, index, value);
+  }
+
+  @Override
+  public JedisFuture<String> ltrim(final String key, final long start, final long stop) {
+    return (JedisFuture<String>) super.ltrim(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> move(final String key, final int dbIndex) {
+    return (JedisFuture<Long>) super.move(key, dbIndex);
+  }
+
+  @Override
+  public JedisFuture<Long> persist(final String key) {
+    return (JedisFuture<Long>) super.persist(key);
+  }
+
+  @Override
+  public JedisFuture<String> rpop(final String key) {
+    return (JedisFuture<String>) super.rpop(key);
+  }
+
+  @Override
+  public JedisFuture<Long> rpush(final String key, final String... string) {
+    return (JedisFuture<Long>) super.rpush(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> rpushx(final String key, final String... string) {
+    return (JedisFuture<Long>) super.rpushx(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> sadd(final String key, final String... member) {
+    return (JedisFuture<Long>) super.sadd(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> scard(final String key) {
+    return (JedisFuture<Long>) super.scard(key);
+  }
+
+  @Override
+  public JedisFuture<Boolean> sismember(final String key, final String member) {
+    return (JedisFuture<Boolean>) super.sismember(key, member);
+  }
+
+  @Override
+  public JedisFuture<String> set(final String key, final String value) {
+    return (JedisFuture<String>) super.set(key, value);
+  }
+
+  @Override
+  public JedisFuture<Boolean> setbit(final String key, final long offset, final boolean value) {
+    return (JedisFuture<Boolean>) super.setbit(key, offset, value);
+  }
+
+  @Override
+  public JedisFuture<String> setex(final String key, final int seconds, final String value) {
+    return (JedisFuture<String>) super.setex(key, seconds, value);
+  }
+
+  @Override
+  public JedisFuture<Long> setnx(final String key, final String value) {
+    return (JedisFuture<Long>) super.setnx(key, value);
+  }
+
+  @Override
+  public JedisFuture<Long> setrange(final String key, final long offset, final String value) {
+    return (JedisFuture<Long>) super.setrange(key, offset, value);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> smembers(final String key) {
+    return (JedisFuture<Set<String>>) super.smembers(key);
+  }
+
+  @Override
+  public JedisFuture<List<String>> sort(final String key) {
+    return (JedisFuture<List<String>>) super.sort(key);
+  }
+
+  @Override
+  public JedisFuture<List<String>> sort(final String key, final SortingParams sortingParameters) {
+    return (JedisFuture<List<String>>) super.sort(key, sortingParameters);
+  }
+
+  @Override
+  public JedisFuture<String> spop(final String key) {
+    return (JedisFuture<String>) super.spop(key);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> spop(final String key, final long count) {
+    return (JedisFuture<Set<String>>) super.spop(key, count);
+  }
+
+  @Override
+  public JedisFuture<String> srandmember(final String key) {
+    return (JedisFuture<String>) super.srandmember(key);
+  }
+
+  @Override
+  public JedisFuture<Long> srem(final String key, final String... member) {
+    return (JedisFuture<Long>) super.srem(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> strlen(final String key) {
+    return (JedisFuture<Long>) super.strlen(key);
+  }
+
+  @Override
+  public JedisFuture<String> substr(final String key, final int start, final int end) {
+    return (JedisFuture<String>) super.substr(key, start, end);
+  }
+
+  @Override
+  public JedisFuture<Long> touch(final String key) {
+    return (JedisFuture<Long>) super.touch(key);
+  }
+
+  @Override
+  public JedisFuture<Long> ttl(final String key) {
+    return (JedisFuture<Long>) super.ttl(key);
+  }
+
+  @Override
+  public JedisFuture<Long> pttl(final String key) {
+    return (JedisFuture<Long>) super.pttl(key);
+  }
+
+  @Override
+  public JedisFuture<String> type(final String key) {
+    return (JedisFuture<String>) super.type(key);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final String key, final double score, final String member) {
+    return (JedisFuture<Long>) super.zadd(key, score, member);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final String key, final double score, final String member,
+      final ZAddParams params) {
+    return (JedisFuture<Long>) super.zadd(key, score, member, params);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final String key, final Map<String, Double> scoreMembers) {
+    return (JedisFuture<Long>) super.zadd(key, scoreMembers);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final String key, final Map<String, Double> scoreMembers,
+      final ZAddParams params) {
+    return (JedisFuture<Long>) super.zadd(key, scoreMembers, params);
+  }
+
+  @Override
+  public JedisFuture<Long> zcard(final String key) {
+    return (JedisFuture<Long>) super.zcard(key);
+  }
+
+  @Override
+  public JedisFuture<Long> zcount(final String key, final double min, final double max) {
+    return (JedisFuture<Long>) super.zcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> zcount(final String key, final String min, final String max) {
+    return (JedisFuture<Long>) super.zcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Double> zincrby(final String key, final double increment,
+      final String member) {
+    return (JedisFuture<Double>) super.zincrby(key, increment, member);
+  }
+
+  @Override
+  public JedisFuture<Double> zincrby(final String key, final double increment, final String member,
+      final ZIncrByParams params) {
+    return (JedisFuture<Double>) super.zincrby(key, increment, member, params);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrange(final String key, final long start, final long stop) {
+    return (JedisFuture<Set<String>>) super.zrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByScore(final String key, final double min,
+      final double max) {
+    return (JedisFuture<Set<String>>) super.zrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByScore(final String key, final String min,
+      final String max) {
+    return (JedisFuture<Set<String>>) super.zrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByScore(final String key, final double min,
+      final double max, final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrangeByScore(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByScore(final String key, final String min,
+      final String max, final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrangeByScore(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min,
+      final double max) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min,
+      final double max, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByScore(final String key, final double max,
+      final double min) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByScore(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByScore(final String key, final String max,
+      final String min) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByScore(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByScore(final String key, final double max,
+      final double min, final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByScore(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByScore(final String key, final String max,
+      final String min, final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByScore(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final double max,
+      final double min) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final String max,
+      final String min) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final double max,
+      final double min, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final String max,
+      final String min, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeWithScores(final String key, final long start,
+      final long stop) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeWithScores(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zrank(final String key, final String member) {
+    return (JedisFuture<Long>) super.zrank(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> zrem(final String key, final String... members) {
+    return (JedisFuture<Long>) super.zrem(key, members);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByRank(final String key, final long start, final long stop) {
+    return (JedisFuture<Long>) super.zremrangeByRank(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByScore(final String key, final double min, final double max) {
+    return (JedisFuture<Long>) super.zremrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByScore(final String key, final String min, final String max) {
+    return (JedisFuture<Long>) super.zremrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrange(final String key, final long start, final long stop) {
+    return (JedisFuture<Set<String>>) super.zrevrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeWithScores(final String key, final long start,
+      final long stop) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeWithScores(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zrevrank(final String key, final String member) {
+    return (JedisFuture<Long>) super.zrevrank(key, member);
+  }
+
+  @Override
+  public JedisFuture<Double> zscore(final String key, final String member) {
+    return (JedisFuture<Double>) super.zscore(key, member);
+  }
+
+  @Override
+  public JedisFuture<Tuple> zpopmax(final String key) {
+    return (JedisFuture<Tuple>) super.zpopmax(key);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zpopmax(final String key, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zpopmax(key, count);
+  }
+
+  @Override
+  public JedisFuture<Tuple> zpopmin(final String key) {
+    return (JedisFuture<Tuple>) super.zpopmin(key);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zpopmin(final String key, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zpopmin(key, count);
+  }
+
+  @Override
+  public JedisFuture<Long> zlexcount(final String key, final String min, final String max) {
+    return (JedisFuture<Long>) super.zlexcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByLex(final String key, final String min,
+      final String max) {
+    return (JedisFuture<Set<String>>) super.zrangeByLex(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrangeByLex(final String key, final String min, final String max,
+      final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrangeByLex(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByLex(final String key, final String max,
+      final String min) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByLex(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> zrevrangeByLex(final String key, final String max,
+      final String min, final int offset, final int count) {
+    return (JedisFuture<Set<String>>) super.zrevrangeByLex(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByLex(final String key, final String min, final String max) {
+    return (JedisFuture<Long>) super.zremrangeByLex(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> bitcount(final String key) {
+    return (JedisFuture<Long>) super.bitcount(key);
+  }
+
+  @Override
+  public JedisFuture<Long> bitcount(final String key, final long start, final long end) {
+    return (JedisFuture<Long>) super.bitcount(key, start, end);
+  }
+
+  @Override
+  public JedisFuture<Long> pfadd(final String key, final String... elements) {
+    return (JedisFuture<Long>) super.pfadd(key, elements);
+  }
+
+  @Override
+  public JedisFuture<Long> pfcount(final String key) {
+    return (JedisFuture<Long>) super.pfcount(key);
+  }
+
+  @Override
+  public JedisFuture<List<Long>> bitfield(final String key, final String... arguments) {
+    return (JedisFuture<List<Long>>) super.bitfield(key, arguments);
+  }
+
+  @Override
+  public JedisFuture<List<Long>> bitfieldReadonly(final String key, final String... arguments) {
+    return (JedisFuture<List<Long>>) super.bitfieldReadonly(key, arguments);
+  }
+
+  @Override
+  public JedisFuture<Long> hstrlen(final String key, final String field) {
+    return (JedisFuture<Long>) super.hstrlen(key, field);
+  }
+
+  @Override
+  public JedisFuture<byte[]> dump(final String key) {
+    return (JedisFuture<byte[]>) super.dump(key);
+  }
+
+  @Override
+  public JedisFuture<String> restore(final String key, final int ttl,
+      final byte[] serializedValue) {
+    return (JedisFuture<String>) super.restore(key, ttl, serializedValue);
+  }
+
+  @Override
+  public JedisFuture<String> restoreReplace(final String key, final int ttl,
+      final byte[] serializedValue) {
+    return (JedisFuture<String>) super.restoreReplace(key, ttl, serializedValue);
+  }
+
+  @Override
+  public JedisFuture<String> migrate(final String host, final int port, final String key,
+      final int destinationDB, final int timeout) {
+    return (JedisFuture<String>) super.migrate(host, port, key, destinationDB, timeout);
+  }
+
+  @Override
+  public JedisFuture<Long> geoadd(final String key, final double longitude, final double latitude,
+      final String member) {
+    return (JedisFuture<Long>) super.geoadd(key, longitude, latitude, member);
+  }
+
+  @Override
+  public JedisFuture<Long> geoadd(final String key,
+      final Map<String, GeoCoordinate> memberCoordinateMap) {
+    return (JedisFuture<Long>) super.geoadd(key, memberCoordinateMap);
+  }
+
+  @Override
+  public JedisFuture<Double> geodist(final String key, final String member1, final String member2) {
+    return (JedisFuture<Double>) super.geodist(key, member1, member2);
+  }
+
+  @Override
+  public JedisFuture<Double> geodist(final String key, final String member1, final String member2,
+      final GeoUnit unit) {
+    return (JedisFuture<Double>) super.geodist(key, member1, member2, unit);
+  }
+
+  @Override
+  public JedisFuture<List<String>> geohash(final String key, final String... members) {
+    return (JedisFuture<List<String>>) super.geohash(key, members);
+  }
+
+  @Override
+  public JedisFuture<List<GeoCoordinate>> geopos(final String key, final String... members) {
+    return (JedisFuture<List<GeoCoordinate>>) super.geopos(key, members);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadius(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadius(key, longitude, latitude, radius,
+      unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusReadonly(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusReadonly(key, longitude, latitude,
+      radius, unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadius(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadius(key, longitude, latitude, radius,
+      unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusReadonly(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusReadonly(key, longitude, latitude,
+      radius, unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMember(final String key,
+      final String member, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMember(key, member, radius,
+      unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final String key,
+      final String member, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMemberReadonly(key, member,
+      radius, unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMember(final String key,
+      final String member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMember(key, member, radius,
+      unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final String key,
+      final String member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMemberReadonly(key, member,
+      radius, unit, param);
+  }
+
+  @Override
+  public JedisFuture<StreamEntryID> xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash) {
+    return (JedisFuture<StreamEntryID>) super.xadd(key, id, hash);
+  }
+
+  @Override
+  public JedisFuture<StreamEntryID> xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash, final long maxLen, final boolean approximateLength) {
+    return (JedisFuture<StreamEntryID>) super.xadd(key, id, hash, maxLen, approximateLength);
+  }
+
+  @Override
+  public JedisFuture<Long> xlen(final String key) {
+    return (JedisFuture<Long>) super.xlen(key);
+  }
+
+  @Override
+  public JedisFuture<List<StreamEntry>> xrange(final String key, final StreamEntryID start,
+      final StreamEntryID end, final int count) {
+    return (JedisFuture<List<StreamEntry>>) super.xrange(key, start, end, count);
+  }
+
+  @Override
+  public JedisFuture<List<StreamEntry>> xrevrange(final String key, final StreamEntryID end,
+      final StreamEntryID start, final int count) {
+    return (JedisFuture<List<StreamEntry>>) super.xrevrange(key, end, start, count);
+  }
+
+  @Override
+  public JedisFuture<Long> xack(final String key, final String group, final StreamEntryID... ids) {
+    return (JedisFuture<Long>) super.xack(key, group, ids);
+  }
+
+  @Override
+  public JedisFuture<String> xgroupCreate(final String key, final String groupname,
+      final StreamEntryID id, final boolean makeStream) {
+    return (JedisFuture<String>) super.xgroupCreate(key, groupname, id, makeStream);
+  }
+
+  @Override
+  public JedisFuture<String> xgroupSetID(final String key, final String groupname,
+      final StreamEntryID id) {
+    return (JedisFuture<String>) super.xgroupSetID(key, groupname, id);
+  }
+
+  @Override
+  public JedisFuture<Long> xgroupDestroy(final String key, final String groupname) {
+    return (JedisFuture<Long>) super.xgroupDestroy(key, groupname);
+  }
+
+  @Override
+  public JedisFuture<Long> xgroupDelConsumer(final String key, final String groupname,
+      final String consumername) {
+    return (JedisFuture<Long>) super.xgroupDelConsumer(key, groupname, consumername);
+  }
+
+  @Override
+  public JedisFuture<List<StreamPendingEntry>> xpending(final String key, final String groupname,
+      final StreamEntryID start, final StreamEntryID end, final int count,
+      final String consumername) {
+    return (JedisFuture<List<StreamPendingEntry>>) super.xpending(key, groupname, start, end,
+      count, consumername);
+  }
+
+  @Override
+  public JedisFuture<Long> xdel(final String key, final StreamEntryID... ids) {
+    return (JedisFuture<Long>) super.xdel(key, ids);
+  }
+
+  @Override
+  public JedisFuture<Long> xtrim(final String key, final long maxLen,
+      final boolean approximateLength) {
+    return (JedisFuture<Long>) super.xtrim(key, maxLen, approximateLength);
+  }
+
+  @Override
+  public JedisFuture<List<StreamEntry>> xclaim(final String key, final String group,
+      final String consumername, final long minIdleTime, final long newIdleTime, final int retries,
+      final boolean force, final StreamEntryID... ids) {
+    return (JedisFuture<List<StreamEntry>>) super.xclaim(key, group, consumername, minIdleTime,
+      newIdleTime, retries, force, ids);
+  }
+
+  @Override
+  public JedisFuture<Long> bitpos(final String key, final boolean value) {
+    return (JedisFuture<Long>) super.bitpos(key, value);
+  }
+
+  @Override
+  public JedisFuture<Long> bitpos(final String key, final boolean value,
+      final BitPosParams params) {
+    return (JedisFuture<Long>) super.bitpos(key, value, params);
+  }
+
+  @Override
+  public JedisFuture<String> set(final String key, final String value, final SetParams params) {
+    return (JedisFuture<String>) super.set(key, value, params);
+  }
+
+  @Override
+  public JedisFuture<List<String>> srandmember(final String key, final int count) {
+    return (JedisFuture<List<String>>) super.srandmember(key, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min,
+      final String max) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min,
+      final String max, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Long> objectRefcount(final String key) {
+    return (JedisFuture<Long>) super.objectRefcount(key);
+  }
+
+  @Override
+  public JedisFuture<String> objectEncoding(final String key) {
+    return (JedisFuture<String>) super.objectEncoding(key);
+  }
+
+  @Override
+  public JedisFuture<Long> objectIdletime(final String key) {
+    return (JedisFuture<Long>) super.objectIdletime(key);
+  }
+
+  @Override
+  public JedisFuture<Long> objectFreq(final String key) {
+    return (JedisFuture<Long>) super.objectFreq(key);
+  }
+
+  @Override
+  public JedisFuture<Double> incrByFloat(final String key, final double increment) {
+    return (JedisFuture<Double>) super.incrByFloat(key, increment);
+  }
+
+  @Override
+  public JedisFuture<String> psetex(final String key, final long milliseconds, final String value) {
+    return (JedisFuture<String>) super.psetex(key, milliseconds, value);
+  }
+
+  @Override
+  public JedisFuture<Double> hincrByFloat(final String key, final String field,
+      final double increment) {
+    return (JedisFuture<Double>) super.hincrByFloat(key, field, increment);
+  }
+
+  @Override
+  public JedisFuture<Long> append(final byte[] key, final byte[] value) {
+    return (JedisFuture<Long>) super.append(key, value);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> blpop(final byte[] arg) {
+    return (JedisFuture<List<byte[]>>) super.blpop(arg);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> brpop(final byte[] arg) {
+    return (JedisFuture<List<byte[]>>) super.brpop(arg);
+  }
+
+  @Override
+  public JedisFuture<Long> decr(final byte[] key) {
+    return (JedisFuture<Long>) super.decr(key);
+  }
+
+  @Override
+  public JedisFuture<Long> decrBy(final byte[] key, final long decrement) {
+    return (JedisFuture<Long>) super.decrBy(key, decrement);
+  }
+
+  @Override
+  public JedisFuture<Long> del(final byte[] keys) {
+    return (JedisFuture<Long>) super.del(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> unlink(final byte[] keys) {
+    return (JedisFuture<Long>) super.unlink(keys);
+  }
+
+  @Override
+  public JedisFuture<byte[]> echo(final byte[] string) {
+    return (JedisFuture<byte[]>) super.echo(string);
+  }
+
+  @Override
+  public JedisFuture<Boolean> exists(final byte[] key) {
+    return (JedisFuture<Boolean>) super.exists(key);
+  }
+
+  @Override
+  public JedisFuture<Long> expire(final byte[] key, final int seconds) {
+    return (JedisFuture<Long>) super.expire(key, seconds);
+  }
+
+  @Override
+  public JedisFuture<Long> pexpire(final byte[] key, final long milliseconds) {
+    return (JedisFuture<Long>) super.pexpire(key, milliseconds);
+  }
+
+  @Override
+  public JedisFuture<Long> expireAt(final byte[] key, final long unixTime) {
+    return (JedisFuture<Long>) super.expireAt(key, unixTime);
+  }
+
+  @Override
+  public JedisFuture<Long> pexpireAt(final byte[] key, final long millisecondsTimestamp) {
+    return (JedisFuture<Long>) super.pexpireAt(key, millisecondsTimestamp);
+  }
+
+  @Override
+  public JedisFuture<byte[]> get(final byte[] key) {
+    return (JedisFuture<byte[]>) super.get(key);
+  }
+
+  @Override
+  public JedisFuture<Boolean> getbit(final byte[] key, final long offset) {
+    return (JedisFuture<Boolean>) super.getbit(key, offset);
+  }
+
+  @Override
+  public JedisFuture<byte[]> getSet(final byte[] key, final byte[] value) {
+    return (JedisFuture<byte[]>) super.getSet(key, value);
+  }
+
+  @Override
+  public JedisFuture<byte[]> getrange(final byte[] key, final long startOffset,
+      final long endOffset) {
+    return (JedisFuture<byte[]>) super.getrange(key, startOffset, endOffset);
+  }
+
+  @Override
+  public JedisFuture<Long> hdel(final byte[] key, final byte[]... field) {
+    return (JedisFuture<Long>) super.hdel(key, field);
+  }
+
+  @Override
+  public JedisFuture<Boolean> hexists(final byte[] key, final byte[] field) {
+    return (JedisFuture<Boolean>) super.hexists(key, field);
+  }
+
+  @Override
+  public JedisFuture<byte[]> hget(final byte[] key, final byte[] field) {
+    return (JedisFuture<byte[]>) super.hget(key, field);
+  }
+
+  @Override
+  public JedisFuture<Map<byte[], byte[]>> hgetAll(final byte[] key) {
+    return (JedisFuture<Map<byte[], byte[]>>) super.hgetAll(key);
+  }
+
+  @Override
+  public JedisFuture<Long> hincrBy(final byte[] key, final byte[] field, final long value) {
+    return (JedisFuture<Long>) super.hincrBy(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> hkeys(final byte[] key) {
+    return (JedisFuture<Set<byte[]>>) super.hkeys(key);
+  }
+
+  @Override
+  public JedisFuture<Long> hlen(final byte[] key) {
+    return (JedisFuture<Long>) super.hlen(key);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> hmget(final byte[] key, final byte[]... fields) {
+    return (JedisFuture<List<byte[]>>) super.hmget(key, fields);
+  }
+
+  @Override
+  public JedisFuture<String> hmset(final byte[] key, final Map<byte[], byte[]> hash) {
+    return (JedisFuture<String>) super.hmset(key, hash);
+  }
+
+  @Override
+  public JedisFuture<Long> hset(final byte[] key, final byte[] field, final byte[] value) {
+    return (JedisFuture<Long>) super.hset(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<Long> hset(final byte[] key, final Map<byte[], byte[]> hash) {
+    return (JedisFuture<Long>) super.hset(key, hash);
+  }
+
+  @Override
+  public JedisFuture<Long> hsetnx(final byte[] key, final byte[] field, final byte[] value) {
+    return (JedisFuture<Long>) super.hsetnx(key, field, value);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> hvals(final byte[] key) {
+    return (JedisFuture<List<byte[]>>) super.hvals(key);
+  }
+
+  @Override
+  public JedisFuture<Long> incr(final byte[] key) {
+    return (JedisFuture<Long>) super.incr(key);
+  }
+
+  @Override
+  public JedisFuture<Long> incrBy(final byte[] key, final long increment) {
+    return (JedisFuture<Long>) super.incrBy(key, increment);
+  }
+
+  @Override
+  public JedisFuture<byte[]> lindex(final byte[] key, final long index) {
+    return (JedisFuture<byte[]>) super.lindex(key, index);
+  }
+
+  @Override
+  public JedisFuture<Long> linsert(final byte[] key, final ListPosition where, final byte[] pivot,
+      final byte[] value) {
+    return (JedisFuture<Long>) super.linsert(key, where, pivot, value);
+  }
+
+  @Override
+  public JedisFuture<Long> llen(final byte[] key) {
+    return (JedisFuture<Long>) super.llen(key);
+  }
+
+  @Override
+  public JedisFuture<byte[]> lpop(final byte[] key) {
+    return (JedisFuture<byte[]>) super.lpop(key);
+  }
+
+  @Override
+  public JedisFuture<Long> lpush(final byte[] key, final byte[]... string) {
+    return (JedisFuture<Long>) super.lpush(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> lpushx(final byte[] key, final byte[]... bytes) {
+    return (JedisFuture<Long>) super.lpushx(key, bytes);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> lrange(final byte[] key, final long start, final long stop) {
+    return (JedisFuture<List<byte[]>>) super.lrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> lrem(final byte[] key, final long count, final byte[] value) {
+    return (JedisFuture<Long>) super.lrem(key, count, value);
+  }
+
+  @Override
+  public JedisFuture<String> lset(final byte[] key, final long index, final byte[] value) {
+    return (JedisFuture<String>) super.lset(key, index, value);
+  }
+
+  @Override
+  public JedisFuture<String> ltrim(final byte[] key, final long start, final long stop) {
+    return (JedisFuture<String>) super.ltrim(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> move(final byte[] key, final int dbIndex) {
+    return (JedisFuture<Long>) super.move(key, dbIndex);
+  }
+
+  @Override
+  public JedisFuture<Long> persist(final byte[] key) {
+    return (JedisFuture<Long>) super.persist(key);
+  }
+
+  @Override
+  public JedisFuture<byte[]> rpop(final byte[] key) {
+    return (JedisFuture<byte[]>) super.rpop(key);
+  }
+
+  @Override
+  public JedisFuture<Long> rpush(final byte[] key, final byte[]... string) {
+    return (JedisFuture<Long>) super.rpush(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> rpushx(final byte[] key, final byte[]... string) {
+    return (JedisFuture<Long>) super.rpushx(key, string);
+  }
+
+  @Override
+  public JedisFuture<Long> sadd(final byte[] key, final byte[]... member) {
+    return (JedisFuture<Long>) super.sadd(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> scard(final byte[] key) {
+    return (JedisFuture<Long>) super.scard(key);
+  }
+
+  @Override
+  public JedisFuture<String> set(final byte[] key, final byte[] value) {
+    return (JedisFuture<String>) super.set(key, value);
+  }
+
+  @Override
+  public JedisFuture<Boolean> setbit(final byte[] key, final long offset, final byte[] value) {
+    return (JedisFuture<Boolean>) super.setbit(key, offset, value);
+  }
+
+  @Override
+  public JedisFuture<Long> setrange(final byte[] key, final long offset, final byte[] value) {
+    return (JedisFuture<Long>) super.setrange(key, offset, value);
+  }
+
+  @Override
+  public JedisFuture<String> setex(final byte[] key, final int seconds, final byte[] value) {
+    return (JedisFuture<String>) super.setex(key, seconds, value);
+  }
+
+  @Override
+  public JedisFuture<Long> setnx(final byte[] key, final byte[] value) {
+    return (JedisFuture<Long>) super.setnx(key, value);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> smembers(final byte[] key) {
+    return (JedisFuture<Set<byte[]>>) super.smembers(key);
+  }
+
+  @Override
+  public JedisFuture<Boolean> sismember(final byte[] key, final byte[] member) {
+    return (JedisFuture<Boolean>) super.sismember(key, member);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> sort(final byte[] key) {
+    return (JedisFuture<List<byte[]>>) super.sort(key);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> sort(final byte[] key, final SortingParams sortingParameters) {
+    return (JedisFuture<List<byte[]>>) super.sort(key, sortingParameters);
+  }
+
+  @Override
+  public JedisFuture<byte[]> spop(final byte[] key) {
+    return (JedisFuture<byte[]>) super.spop(key);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> spop(final byte[] key, final long count) {
+    return (JedisFuture<Set<byte[]>>) super.spop(key, count);
+  }
+
+  @Override
+  public JedisFuture<byte[]> srandmember(final byte[] key) {
+    return (JedisFuture<byte[]>) super.srandmember(key);
+  }
+
+  @Override
+  public JedisFuture<Long> srem(final byte[] key, final byte[]... member) {
+    return (JedisFuture<Long>) super.srem(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> strlen(final byte[] key) {
+    return (JedisFuture<Long>) super.strlen(key);
+  }
+
+  @Override
+  public JedisFuture<String> substr(final byte[] key, final int start, final int end) {
+    return (JedisFuture<String>) super.substr(key, start, end);
+  }
+
+  @Override
+  public JedisFuture<Long> touch(final byte[] keys) {
+    return (JedisFuture<Long>) super.touch(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> ttl(final byte[] key) {
+    return (JedisFuture<Long>) super.ttl(key);
+  }
+
+  @Override
+  public JedisFuture<Long> pttl(final byte[] key) {
+    return (JedisFuture<Long>) super.pttl(key);
+  }
+
+  @Override
+  public JedisFuture<String> type(final byte[] key) {
+    return (JedisFuture<String>) super.type(key);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final byte[] key, final double score, final byte[] member) {
+    return (JedisFuture<Long>) super.zadd(key, score, member);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final byte[] key, final double score, final byte[] member,
+      final ZAddParams params) {
+    return (JedisFuture<Long>) super.zadd(key, score, member, params);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
+    return (JedisFuture<Long>) super.zadd(key, scoreMembers);
+  }
+
+  @Override
+  public JedisFuture<Long> zadd(final byte[] key, final Map<byte[], Double> scoreMembers,
+      final ZAddParams params) {
+    return (JedisFuture<Long>) super.zadd(key, scoreMembers, params);
+  }
+
+  @Override
+  public JedisFuture<Long> zcard(final byte[] key) {
+    return (JedisFuture<Long>) super.zcard(key);
+  }
+
+  @Override
+  public JedisFuture<Long> zcount(final byte[] key, final double min, final double max) {
+    return (JedisFuture<Long>) super.zcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> zcount(final byte[] key, final byte[] min, final byte[] max) {
+    return (JedisFuture<Long>) super.zcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Double> zincrby(final byte[] key, final double increment,
+      final byte[] member) {
+    return (JedisFuture<Double>) super.zincrby(key, increment, member);
+  }
+
+  @Override
+  public JedisFuture<Double> zincrby(final byte[] key, final double increment, final byte[] member,
+      final ZIncrByParams params) {
+    return (JedisFuture<Double>) super.zincrby(key, increment, member, params);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrange(final byte[] key, final long start, final long stop) {
+    return (JedisFuture<Set<byte[]>>) super.zrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByScore(final byte[] key, final double min,
+      final double max) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByScore(final byte[] key, final double min,
+      final double max, final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByScore(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min,
+      final byte[] max, final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByScore(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min,
+      final double max) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min,
+      final double max, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min,
+      final byte[] max, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeByScoreWithScores(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max,
+      final double min) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByScore(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max,
+      final byte[] min) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByScore(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max,
+      final double min, final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByScore(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max,
+      final byte[] min, final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByScore(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final double max,
+      final double min) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final byte[] max,
+      final byte[] min) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final double max,
+      final double min, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final byte[] max,
+      final byte[] min, final int offset, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrangeWithScores(final byte[] key, final long start,
+      final long stop) {
+    return (JedisFuture<Set<Tuple>>) super.zrangeWithScores(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zrank(final byte[] key, final byte[] member) {
+    return (JedisFuture<Long>) super.zrank(key, member);
+  }
+
+  @Override
+  public JedisFuture<Long> zrem(final byte[] key, final byte[]... members) {
+    return (JedisFuture<Long>) super.zrem(key, members);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByRank(final byte[] key, final long start, final long stop) {
+    return (JedisFuture<Long>) super.zremrangeByRank(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByScore(final byte[] key, final double min, final double max) {
+    return (JedisFuture<Long>) super.zremrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
+    return (JedisFuture<Long>) super.zremrangeByScore(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrange(final byte[] key, final long start, final long stop) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrange(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zrevrangeWithScores(final byte[] key, final long start,
+      final long stop) {
+    return (JedisFuture<Set<Tuple>>) super.zrevrangeWithScores(key, start, stop);
+  }
+
+  @Override
+  public JedisFuture<Long> zrevrank(final byte[] key, final byte[] member) {
+    return (JedisFuture<Long>) super.zrevrank(key, member);
+  }
+
+  @Override
+  public JedisFuture<Double> zscore(final byte[] key, final byte[] member) {
+    return (JedisFuture<Double>) super.zscore(key, member);
+  }
+
+  @Override
+  public JedisFuture<Tuple> zpopmax(final byte[] key) {
+    return (JedisFuture<Tuple>) super.zpopmax(key);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zpopmax(final byte[] key, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zpopmax(key, count);
+  }
+
+  @Override
+  public JedisFuture<Tuple> zpopmin(final byte[] key) {
+    return (JedisFuture<Tuple>) super.zpopmin(key);
+  }
+
+  @Override
+  public JedisFuture<Set<Tuple>> zpopmin(final byte[] key, final int count) {
+    return (JedisFuture<Set<Tuple>>) super.zpopmin(key, count);
+  }
+
+  @Override
+  public JedisFuture<Long> zlexcount(final byte[] key, final byte[] min, final byte[] max) {
+    return (JedisFuture<Long>) super.zlexcount(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByLex(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByLex(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrangeByLex(final byte[] key, final byte[] min, final byte[] max,
+      final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrangeByLex(key, min, max, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByLex(final byte[] key, final byte[] max,
+      final byte[] min) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByLex(key, max, min);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> zrevrangeByLex(final byte[] key, final byte[] max,
+      final byte[] min, final int offset, final int count) {
+    return (JedisFuture<Set<byte[]>>) super.zrevrangeByLex(key, max, min, offset, count);
+  }
+
+  @Override
+  public JedisFuture<Long> zremrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
+    return (JedisFuture<Long>) super.zremrangeByLex(key, min, max);
+  }
+
+  @Override
+  public JedisFuture<Long> bitcount(final byte[] key) {
+    return (JedisFuture<Long>) super.bitcount(key);
+  }
+
+  @Override
+  public JedisFuture<Long> bitcount(final byte[] key, final long start, final long end) {
+    return (JedisFuture<Long>) super.bitcount(key, start, end);
+  }
+
+  @Override
+  public JedisFuture<Long> pfadd(final byte[] key, final byte[]... elements) {
+    return (JedisFuture<Long>) super.pfadd(key, elements);
+  }
+
+  @Override
+  public JedisFuture<Long> pfcount(final byte[] key) {
+    return (JedisFuture<Long>) super.pfcount(key);
+  }
+
+  @Override
+  public JedisFuture<byte[]> dump(final byte[] key) {
+    return (JedisFuture<byte[]>) super.dump(key);
+  }
+
+  @Override
+  public JedisFuture<String> restore(final byte[] key, final int ttl,
+      final byte[] serializedValue) {
+    return (JedisFuture<String>) super.restore(key, ttl, serializedValue);
+  }
+
+  @Override
+  public JedisFuture<String> restoreReplace(final byte[] key, final int ttl,
+      final byte[] serializedValue) {
+    return (JedisFuture<String>) super.restoreReplace(key, ttl, serializedValue);
+  }
+
+  @Override
+  public JedisFuture<String> migrate(final String host, final int port, final byte[] key,
+      final int destinationDB, final int timeout) {
+    return (JedisFuture<String>) super.migrate(host, port, key, destinationDB, timeout);
+  }
+
+  @Override
+  public JedisFuture<Long> geoadd(final byte[] key, final double longitude, final double latitude,
+      final byte[] member) {
+    return (JedisFuture<Long>) super.geoadd(key, longitude, latitude, member);
+  }
+
+  @Override
+  public JedisFuture<Long> geoadd(final byte[] key,
+      final Map<byte[], GeoCoordinate> memberCoordinateMap) {
+    return (JedisFuture<Long>) super.geoadd(key, memberCoordinateMap);
+  }
+
+  @Override
+  public JedisFuture<Double> geodist(final byte[] key, final byte[] member1, final byte[] member2) {
+    return (JedisFuture<Double>) super.geodist(key, member1, member2);
+  }
+
+  @Override
+  public JedisFuture<Double> geodist(final byte[] key, final byte[] member1, final byte[] member2,
+      final GeoUnit unit) {
+    return (JedisFuture<Double>) super.geodist(key, member1, member2, unit);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> geohash(final byte[] key, final byte[]... members) {
+    return (JedisFuture<List<byte[]>>) super.geohash(key, members);
+  }
+
+  @Override
+  public JedisFuture<List<GeoCoordinate>> geopos(final byte[] key, final byte[]... members) {
+    return (JedisFuture<List<GeoCoordinate>>) super.geopos(key, members);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadius(final byte[] key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadius(key, longitude, latitude, radius,
+      unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusReadonly(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusReadonly(key, longitude, latitude,
+      radius, unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadius(final byte[] key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadius(key, longitude, latitude, radius,
+      unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusReadonly(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusReadonly(key, longitude, latitude,
+      radius, unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMember(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMember(key, member, radius,
+      unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMemberReadonly(key, member,
+      radius, unit);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMember(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMember(key, member, radius,
+      unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return (JedisFuture<List<GeoRadiusResponse>>) super.georadiusByMemberReadonly(key, member,
+      radius, unit, param);
+  }
+
+  @Override
+  public JedisFuture<List<Long>> bitfield(final byte[] key, final byte[]... elements) {
+    return (JedisFuture<List<Long>>) super.bitfield(key, elements);
+  }
+
+  @Override
+  public JedisFuture<List<Long>> bitfieldReadonly(final byte[] key, final byte[]... elements) {
+    return (JedisFuture<List<Long>>) super.bitfieldReadonly(key, elements);
+  }
+
+  @Override
+  public JedisFuture<Long> hstrlen(final byte[] key, final byte[] field) {
+    return (JedisFuture<Long>) super.hstrlen(key, field);
+  }
+
+  @Override
+  public JedisFuture<byte[]> xadd(final byte[] key, final byte[] id,
+      final Map<byte[], byte[]> hash) {
+    return (JedisFuture<byte[]>) super.xadd(key, id, hash);
+  }
+
+  @Override
+  public JedisFuture<byte[]> xadd(final byte[] key, final byte[] id, final Map<byte[], byte[]> hash,
+      final long maxLen, final boolean approximateLength) {
+    return (JedisFuture<byte[]>) super.xadd(key, id, hash, maxLen, approximateLength);
+  }
+
+  @Override
+  public JedisFuture<Long> xlen(final byte[] key) {
+    return (JedisFuture<Long>) super.xlen(key);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> xrange(final byte[] key, final byte[] start, final byte[] end,
+      final int count) {
+    return (JedisFuture<List<byte[]>>) super.xrange(key, start, end, count);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> xrevrange(final byte[] key, final byte[] end, final byte[] start,
+      final int count) {
+    return (JedisFuture<List<byte[]>>) super.xrevrange(key, end, start, count);
+  }
+
+  @Override
+  public JedisFuture<Long> xack(final byte[] key, final byte[] group, final byte[]... ids) {
+    return (JedisFuture<Long>) super.xack(key, group, ids);
+  }
+
+  @Override
+  public JedisFuture<String> xgroupCreate(final byte[] key, final byte[] groupname, final byte[] id,
+      final boolean makeStream) {
+    return (JedisFuture<String>) super.xgroupCreate(key, groupname, id, makeStream);
+  }
+
+  @Override
+  public JedisFuture<String> xgroupSetID(final byte[] key, final byte[] groupname,
+      final byte[] id) {
+    return (JedisFuture<String>) super.xgroupSetID(key, groupname, id);
+  }
+
+  @Override
+  public JedisFuture<Long> xgroupDestroy(final byte[] key, final byte[] groupname) {
+    return (JedisFuture<Long>) super.xgroupDestroy(key, groupname);
+  }
+
+  @Override
+  public JedisFuture<Long> xgroupDelConsumer(final byte[] key, final byte[] groupname,
+      final byte[] consumername) {
+    return (JedisFuture<Long>) super.xgroupDelConsumer(key, groupname, consumername);
+  }
+
+  @Override
+  public JedisFuture<List<StreamPendingEntry>> xpending(final byte[] key, final byte[] groupname,
+      final byte[] start, final byte[] end, final int count, final byte[] consumername) {
+    return (JedisFuture<List<StreamPendingEntry>>) super.xpending(key, groupname, start, end,
+      count, consumername);
+  }
+
+  @Override
+  public JedisFuture<Long> xdel(final byte[] key, final byte[]... ids) {
+    return (JedisFuture<Long>) super.xdel(key, ids);
+  }
+
+  @Override
+  public JedisFuture<Long> xtrim(final byte[] key, final long maxLen,
+      final boolean approximateLength) {
+    return (JedisFuture<Long>) super.xtrim(key, maxLen, approximateLength);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> xclaim(final byte[] key, final byte[] group,
+      final byte[] consumername, final long minIdleTime, final long newIdleTime, final int retries,
+      final boolean force, final byte[]... ids) {
+    return (JedisFuture<List<byte[]>>) super.xclaim(key, group, consumername, minIdleTime,
+      newIdleTime, retries, force, ids);
+  }
+
+  @Override
+  public JedisFuture<Long> bitpos(final byte[] key, final boolean value) {
+    return (JedisFuture<Long>) super.bitpos(key, value);
+  }
+
+  @Override
+  public JedisFuture<Long> bitpos(final byte[] key, final boolean value,
+      final BitPosParams params) {
+    return (JedisFuture<Long>) super.bitpos(key, value, params);
+  }
+
+  @Override
+  public JedisFuture<String> set(final byte[] key, final byte[] value, final SetParams params) {
+    return (JedisFuture<String>) super.set(key, value, params);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> srandmember(final byte[] key, final int count) {
+    return (JedisFuture<List<byte[]>>) super.srandmember(key, count);
+  }
+
+  @Override
+  public JedisFuture<Long> objectRefcount(final byte[] key) {
+    return (JedisFuture<Long>) super.objectRefcount(key);
+  }
+
+  @Override
+  public JedisFuture<byte[]> objectEncoding(final byte[] key) {
+    return (JedisFuture<byte[]>) super.objectEncoding(key);
+  }
+
+  @Override
+  public JedisFuture<Long> objectIdletime(final byte[] key) {
+    return (JedisFuture<Long>) super.objectIdletime(key);
+  }
+
+  @Override
+  public JedisFuture<Long> objectFreq(final byte[] key) {
+    return (JedisFuture<Long>) super.objectFreq(key);
+  }
+
+  @Override
+  public JedisFuture<Double> incrByFloat(final byte[] key, final double increment) {
+    return (JedisFuture<Double>) super.incrByFloat(key, increment);
+  }
+
+  @Override
+  public JedisFuture<String> psetex(final byte[] key, final long milliseconds, final byte[] value) {
+    return (JedisFuture<String>) super.psetex(key, milliseconds, value);
+  }
+
+  @Override
+  public JedisFuture<Double> hincrByFloat(final byte[] key, final byte[] field,
+      final double increment) {
+    return (JedisFuture<Double>) super.hincrByFloat(key, field, increment);
+  }
+
+  @Override
+  public JedisFuture<Long> del(final String... keys) {
+    return (JedisFuture<Long>) super.del(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> unlink(final String... keys) {
+    return (JedisFuture<Long>) super.unlink(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> exists(final String... keys) {
+    return (JedisFuture<Long>) super.exists(keys);
+  }
+
+  @Override
+  public JedisFuture<List<String>> blpop(final String... args) {
+    return (JedisFuture<List<String>>) super.blpop(args);
+  }
+
+  @Override
+  public JedisFuture<List<String>> brpop(final String... args) {
+    return (JedisFuture<List<String>>) super.brpop(args);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> keys(final String pattern) {
+    return (JedisFuture<Set<String>>) super.keys(pattern);
+  }
+
+  @Override
+  public JedisFuture<List<String>> mget(final String... keys) {
+    return (JedisFuture<List<String>>) super.mget(keys);
+  }
+
+  @Override
+  public JedisFuture<String> mset(final String... keysvalues) {
+    return (JedisFuture<String>) super.mset(keysvalues);
+  }
+
+  @Override
+  public JedisFuture<Long> msetnx(final String... keysvalues) {
+    return (JedisFuture<Long>) super.msetnx(keysvalues);
+  }
+
+  @Override
+  public JedisFuture<String> rename(final String oldkey, final String newkey) {
+    return (JedisFuture<String>) super.rename(oldkey, newkey);
+  }
+
+  @Override
+  public JedisFuture<Long> renamenx(final String oldkey, final String newkey) {
+    return (JedisFuture<Long>) super.renamenx(oldkey, newkey);
+  }
+
+  @Override
+  public JedisFuture<String> rpoplpush(final String srckey, final String dstkey) {
+    return (JedisFuture<String>) super.rpoplpush(srckey, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> sdiff(final String... keys) {
+    return (JedisFuture<Set<String>>) super.sdiff(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sdiffstore(final String dstkey, final String... keys) {
+    return (JedisFuture<Long>) super.sdiffstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> sinter(final String... keys) {
+    return (JedisFuture<Set<String>>) super.sinter(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sinterstore(final String dstkey, final String... keys) {
+    return (JedisFuture<Long>) super.sinterstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Long> smove(final String srckey, final String dstkey, final String member) {
+    return (JedisFuture<Long>) super.smove(srckey, dstkey, member);
+  }
+
+  @Override
+  public JedisFuture<Long> sort(final String key, final SortingParams sortingParameters,
+      final String dstkey) {
+    return (JedisFuture<Long>) super.sort(key, sortingParameters, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Long> sort(final String key, final String dstkey) {
+    return (JedisFuture<Long>) super.sort(key, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Set<String>> sunion(final String... keys) {
+    return (JedisFuture<Set<String>>) super.sunion(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sunionstore(final String dstkey, final String... keys) {
+    return (JedisFuture<Long>) super.sunionstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Long> zinterstore(final String dstkey, final String... sets) {
+    return (JedisFuture<Long>) super.zinterstore(dstkey, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zinterstore(final String dstkey, final ZParams params,
+      final String... sets) {
+    return (JedisFuture<Long>) super.zinterstore(dstkey, params, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zunionstore(final String dstkey, final String... sets) {
+    return (JedisFuture<Long>) super.zunionstore(dstkey, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zunionstore(final String dstkey, final ZParams params,
+      final String... sets) {
+    return (JedisFuture<Long>) super.zunionstore(dstkey, params, sets);
+  }
+
+  @Override
+  public JedisFuture<String> brpoplpush(final String source, final String destination,
+      final int timeout) {
+    return (JedisFuture<String>) super.brpoplpush(source, destination, timeout);
+  }
+
+  @Override
+  public JedisFuture<Long> publish(final String channel, final String message) {
+    return (JedisFuture<Long>) super.publish(channel, message);
+  }
+
+  @Override
+  public JedisFuture<String> randomKey() {
+    return (JedisFuture<String>) super.randomKey();
+  }
+
+  @Override
+  public JedisFuture<Long> bitop(final BitOP op, final String destKey, final String... srcKeys) {
+    return (JedisFuture<Long>) super.bitop(op, destKey, srcKeys);
+  }
+
+  @Override
+  public JedisFuture<String> pfmerge(final String destkey, final String... sourcekeys) {
+    return (JedisFuture<String>) super.pfmerge(destkey, sourcekeys);
+  }
+
+  @Override
+  public JedisFuture<Long> pfcount(final String... keys) {
+    return (JedisFuture<Long>) super.pfcount(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> touch(final String... keys) {
+    return (JedisFuture<Long>) super.touch(keys);
+  }
+
+  @Override
+  public JedisFuture<String> migrate(final String host, final int port, final int destinationDB,
+      final int timeout, final MigrateParams params, final String... keys) {
+    return (JedisFuture<String>) super.migrate(host, port, destinationDB, timeout, params, keys);
+  }
+
+  @Override
+  public JedisFuture<Long> del(final byte[]... keys) {
+    return (JedisFuture<Long>) super.del(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> unlink(final byte[]... keys) {
+    return (JedisFuture<Long>) super.unlink(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> exists(final byte[]... keys) {
+    return (JedisFuture<Long>) super.exists(keys);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> blpop(final byte[]... args) {
+    return (JedisFuture<List<byte[]>>) super.blpop(args);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> brpop(final byte[]... args) {
+    return (JedisFuture<List<byte[]>>) super.brpop(args);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> keys(final byte[] pattern) {
+    return (JedisFuture<Set<byte[]>>) super.keys(pattern);
+  }
+
+  @Override
+  public JedisFuture<List<byte[]>> mget(final byte[]... keys) {
+    return (JedisFuture<List<byte[]>>) super.mget(keys);
+  }
+
+  @Override
+  public JedisFuture<String> mset(final byte[]... keysvalues) {
+    return (JedisFuture<String>) super.mset(keysvalues);
+  }
+
+  @Override
+  public JedisFuture<Long> msetnx(final byte[]... keysvalues) {
+    return (JedisFuture<Long>) super.msetnx(keysvalues);
+  }
+
+  @Override
+  public JedisFuture<String> rename(final byte[] oldkey, final byte[] newkey) {
+    return (JedisFuture<String>) super.rename(oldkey, newkey);
+  }
+
+  @Override
+  public JedisFuture<Long> renamenx(final byte[] oldkey, final byte[] newkey) {
+    return (JedisFuture<Long>) super.renamenx(oldkey, newkey);
+  }
+
+  @Override
+  public JedisFuture<byte[]> rpoplpush(final byte[] srckey, final byte[] dstkey) {
+    return (JedisFuture<byte[]>) super.rpoplpush(srckey, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> sdiff(final byte[]... keys) {
+    return (JedisFuture<Set<byte[]>>) super.sdiff(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sdiffstore(final byte[] dstkey, final byte[]... keys) {
+    return (JedisFuture<Long>) super.sdiffstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> sinter(final byte[]... keys) {
+    return (JedisFuture<Set<byte[]>>) super.sinter(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sinterstore(final byte[] dstkey, final byte[]... keys) {
+    return (JedisFuture<Long>) super.sinterstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Long> smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
+    return (JedisFuture<Long>) super.smove(srckey, dstkey, member);
+  }
+
+  @Override
+  public JedisFuture<Long> sort(final byte[] key, final SortingParams sortingParameters,
+      final byte[] dstkey) {
+    return (JedisFuture<Long>) super.sort(key, sortingParameters, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Long> sort(final byte[] key, final byte[] dstkey) {
+    return (JedisFuture<Long>) super.sort(key, dstkey);
+  }
+
+  @Override
+  public JedisFuture<Set<byte[]>> sunion(final byte[]... keys) {
+    return (JedisFuture<Set<byte[]>>) super.sunion(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> sunionstore(final byte[] dstkey, final byte[]... keys) {
+    return (JedisFuture<Long>) super.sunionstore(dstkey, keys);
+  }
+
+  @Override
+  public JedisFuture<Long> zinterstore(final byte[] dstkey, final byte[]... sets) {
+    return (JedisFuture<Long>) super.zinterstore(dstkey, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zinterstore(final byte[] dstkey, final ZParams params,
+      final byte[]... sets) {
+    return (JedisFuture<Long>) super.zinterstore(dstkey, params, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zunionstore(final byte[] dstkey, final byte[]... sets) {
+    return (JedisFuture<Long>) super.zunionstore(dstkey, sets);
+  }
+
+  @Override
+  public JedisFuture<Long> zunionstore(final byte[] dstkey, final ZParams params,
+      final byte[]... sets) {
+    return (JedisFuture<Long>) super.zunionstore(dstkey, params, sets);
+  }
+
+  @Override
+  public JedisFuture<byte[]> brpoplpush(final byte[] source, final byte[] destination,
+      final int timeout) {
+    return (JedisFuture<byte[]>) super.brpoplpush(source, destination, timeout);
+  }
+
+  @Override
+  public JedisFuture<Long> publish(final byte[] channel, final byte[] message) {
+    return (JedisFuture<Long>) super.publish(channel, message);
+  }
+
+  @Override
+  public JedisFuture<byte[]> randomKeyBinary() {
+    return (JedisFuture<byte[]>) super.randomKeyBinary();
+  }
+
+  @Override
+  public JedisFuture<Long> bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
+    return (JedisFuture<Long>) super.bitop(op, destKey, srcKeys);
+  }
+
+  @Override
+  public JedisFuture<String> pfmerge(final byte[] destkey, final byte[]... sourcekeys) {
+    return (JedisFuture<String>) super.pfmerge(destkey, sourcekeys);
+  }
+
+  @Override
+  public JedisFuture<Long> pfcount(final byte[]... keys) {
+    return (JedisFuture<Long>) super.pfcount(keys);
+  }
+
+  @Override
+  public JedisFuture<Long> touch(final byte[]... keys) {
+    return (JedisFuture<Long>) super.touch(keys);
+  }
+
+  @Override
+  public JedisFuture<String> migrate(final String host, final int port, final int destinationDB,
+      final int timeout, final MigrateParams params, final byte[]... keys) {
+    return (JedisFuture<String>) super.migrate(host, port, destinationDB, timeout, params, keys);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final String script, final int keyCount, final String... params) {
+    return (JedisFuture<Object>) super.eval(script, keyCount, params);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final String script, final List<String> keys,
+      final List<String> args) {
+    return (JedisFuture<Object>) super.eval(script, keys, args);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final String script) {
+    return (JedisFuture<Object>) super.eval(script);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final String sha1) {
+    return (JedisFuture<Object>) super.evalsha(sha1);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final String sha1, final List<String> keys,
+      final List<String> args) {
+    return (JedisFuture<Object>) super.evalsha(sha1, keys, args);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final String sha1, final int keyCount,
+      final String... params) {
+    return (JedisFuture<Object>) super.evalsha(sha1, keyCount, params);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final byte[] script, final byte[] keyCount,
+      final byte[]... params) {
+    return (JedisFuture<Object>) super.eval(script, keyCount, params);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final byte[] script, final int keyCount, final byte[]... params) {
+    return (JedisFuture<Object>) super.eval(script, keyCount, params);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final byte[] script, final List<byte[]> keys,
+      final List<byte[]> args) {
+    return (JedisFuture<Object>) super.eval(script, keys, args);
+  }
+
+  @Override
+  public JedisFuture<Object> eval(final byte[] script) {
+    return (JedisFuture<Object>) super.eval(script);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final byte[] sha1) {
+    return (JedisFuture<Object>) super.evalsha(sha1);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final byte[] sha1, final List<byte[]> keys,
+      final List<byte[]> args) {
+    return (JedisFuture<Object>) super.evalsha(sha1, keys, args);
+  }
+
+  @Override
+  public JedisFuture<Object> evalsha(final byte[] sha1, final int keyCount,
+      final byte[]... params) {
+    return (JedisFuture<Object>) super.evalsha(sha1, keyCount, params);
+  }
+
+  @Override
+  public JedisFuture<String> bgrewriteaof() {
+    return (JedisFuture<String>) super.bgrewriteaof();
+  }
+
+  @Override
+  public JedisFuture<String> bgsave() {
+    return (JedisFuture<String>) super.bgsave();
+  }
+
+  @Override
+  public JedisFuture<List<String>> configGet(final String pattern) {
+    return (JedisFuture<List<String>>) super.configGet(pattern);
+  }
+
+  @Override
+  public JedisFuture<String> configSet(final String parameter, final String value) {
+    return (JedisFuture<String>) super.configSet(parameter, value);
+  }
+
+  @Override
+  public JedisFuture<String> configResetStat() {
+    return (JedisFuture<String>) super.configResetStat();
+  }
+
+  @Override
+  public JedisFuture<String> save() {
+    return (JedisFuture<String>) super.save();
+  }
+
+  @Override
+  public JedisFuture<Long> lastsave() {
+    return (JedisFuture<Long>) super.lastsave();
+  }
+
+  @Override
+  public JedisFuture<String> flushDB() {
+    return (JedisFuture<String>) super.flushDB();
+  }
+
+  @Override
+  public JedisFuture<String> flushAll() {
+    return (JedisFuture<String>) super.flushAll();
+  }
+
+  @Override
+  public JedisFuture<String> info() {
+    return (JedisFuture<String>) super.info();
+  }
+
+  @Override
+  public JedisFuture<List<String>> time() {
+    return (JedisFuture<List<String>>) super.time();
+  }
+
+  @Override
+  public JedisFuture<Long> dbSize() {
+    return (JedisFuture<Long>) super.dbSize();
+  }
+
+  @Override
+  public JedisFuture<String> shutdown() {
+    return (JedisFuture<String>) super.shutdown();
+  }
+
+  @Override
+  public JedisFuture<String> ping() {
+    return (JedisFuture<String>) super.ping();
+  }
+
+  @Override
+  public JedisFuture<String> swapDB(final int index1, final int index2) {
+    return (JedisFuture<String>) super.swapDB(index1, index2);
+  }
+
+  @Override
+  public JedisFuture<String> moduleLoad(final String path) {
+    return (JedisFuture<String>) super.moduleLoad(path);
+  }
+
+  @Override
+  public JedisFuture<List<Module>> moduleList() {
+    return (JedisFuture<List<Module>>) super.moduleList();
+  }
+
+  @Override
+  public JedisFuture<String> moduleUnload(final String name) {
+    return (JedisFuture<String>) super.moduleUnload(name);
+  }
+
+  @Override
+  public JedisFuture<Object> sendCommand(final ProtocolCommand cmd, final String... args) {
+    return (JedisFuture<Object>) super.sendCommand(cmd, args);
+  }
+
+  @Override
+  public JedisFuture<Object> sendCommand(final ProtocolCommand cmd, final byte[]... args) {
+    return (JedisFuture<Object>) super.sendCommand(cmd, args);
+  }
+}
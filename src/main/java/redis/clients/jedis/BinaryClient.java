@@ -1,6 +1,6 @@
 package redis.clients.jedis;
 
-import static redis.clients.jedis.Protocol.toByteArray;
+import static redis.clients.jedis.Protocol.toArgument;
 import static redis.clients.jedis.Protocol.Command.*;
 import static redis.clients.jedis.Protocol.Keyword.ENCODING;
 import static redis.clients.jedis.Protocol.Keyword.IDLETIME;
@@ -42,6 +42,12 @@ public class BinaryClient extends Connection {
 
   private int db;
 
+  private RedisProtocol protocol = RedisProtocol.RESP2;
+
+  private long trackingRedirect = -1;
+
+  private boolean readOnly;
+
   private boolean isInWatch;
 
   public BinaryClient() {
@@ -103,10 +109,39 @@ public class BinaryClient extends Connection {
     this.db = db;
   }
 
+  /**
+   * Sets the protocol negotiated with HELLO when connecting, right after authentication.
+   */
+  public void setProtocol(final RedisProtocol protocol) {
+    this.protocol = protocol;
+  }
+
+  public RedisProtocol getProtocol() {
+    return protocol;
+  }
+
+  /**
+   * @return the client id invalidations are redirected to since tracking was turned on with
+   *         {@link #clientTracking(long)}, or -1 if it is off on the current connection
+   */
+  public long getTrackingRedirect() {
+    return trackingRedirect;
+  }
+
+  /**
+   * @return whether READONLY was sent on the current connection, letting a cluster replica serve
+   *         reads
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   @Override
   public void connect() {
     if (!isConnected()) {
       super.connect();
+      trackingRedirect = -1;
+      readOnly = false;
       if (user != null) {
         auth(user, password);
         getStatusCodeReply();
@@ -114,6 +149,10 @@ public class BinaryClient extends Connection {
         auth(password);
         getStatusCodeReply();
       }
+      if (protocol != RedisProtocol.RESP2) {
+        hello(protocol);
+        getOne();
+      }
       if (db > 0) {
         select(db);
         getStatusCodeReply();
@@ -125,6 +164,10 @@ public class BinaryClient extends Connection {
     sendCommand(PING);
   }
 
+  public void hello(final RedisProtocol protocol) {
+    sendCommand(HELLO, toArgument(protocol.version()));
+  }
+
   public void ping(final byte[] message) {
     sendCommand(PING, message);
   }
@@ -137,6 +180,21 @@ public class BinaryClient extends Connection {
     sendCommand(SET, params.getByteParams(key, value));
   }
 
+  public void set(final byte[] key, final BulkSource value) {
+    sendCommand(SET, BulkSource.of(key), value);
+  }
+
+  public void set(final byte[] key, final BulkSource value, final SetParams params) {
+    final byte[][] byteParams = params.getByteParams();
+    final BulkSource[] args = new BulkSource[2 + byteParams.length];
+    args[0] = BulkSource.of(key);
+    args[1] = value;
+    for (int i = 0; i < byteParams.length; i++) {
+      args[2 + i] = BulkSource.of(byteParams[i]);
+    }
+    sendCommand(SET, args);
+  }
+
   public void get(final byte[] key) {
     sendCommand(GET, key);
   }
@@ -187,11 +245,11 @@ public class BinaryClient extends Connection {
   }
 
   public void expire(final byte[] key, final int seconds) {
-    sendCommand(EXPIRE, key, toByteArray(seconds));
+    sendCommand(EXPIRE, key, toArgument(seconds));
   }
 
   public void expireAt(final byte[] key, final long unixTime) {
-    sendCommand(EXPIREAT, key, toByteArray(unixTime));
+    sendCommand(EXPIREAT, key, toArgument(unixTime));
   }
 
   public void ttl(final byte[] key) {
@@ -203,15 +261,15 @@ public class BinaryClient extends Connection {
   }
 
   public void select(final int index) {
-    sendCommand(SELECT, toByteArray(index));
+    sendCommand(SELECT, toArgument(index));
   }
 
   public void swapDB(final int index1, final int index2) {
-    sendCommand(SWAPDB, toByteArray(index1), toByteArray(index2));
+    sendCommand(SWAPDB, toArgument(index1), toArgument(index2));
   }
 
   public void move(final byte[] key, final int dbIndex) {
-    sendCommand(MOVE, key, toByteArray(dbIndex));
+    sendCommand(MOVE, key, toArgument(dbIndex));
   }
 
   public void flushAll() {
@@ -231,7 +289,7 @@ public class BinaryClient extends Connection {
   }
 
   public void setex(final byte[] key, final int seconds, final byte[] value) {
-    sendCommand(SETEX, key, toByteArray(seconds), value);
+    sendCommand(SETEX, key, toArgument(seconds), value);
   }
 
   public void mset(final byte[]... keysvalues) {
@@ -243,7 +301,7 @@ public class BinaryClient extends Connection {
   }
 
   public void decrBy(final byte[] key, final long decrement) {
-    sendCommand(DECRBY, key, toByteArray(decrement));
+    sendCommand(DECRBY, key, toArgument(decrement));
   }
 
   public void decr(final byte[] key) {
@@ -251,11 +309,11 @@ public class BinaryClient extends Connection {
   }
 
   public void incrBy(final byte[] key, final long increment) {
-    sendCommand(INCRBY, key, toByteArray(increment));
+    sendCommand(INCRBY, key, toArgument(increment));
   }
 
   public void incrByFloat(final byte[] key, final double increment) {
-    sendCommand(INCRBYFLOAT, key, toByteArray(increment));
+    sendCommand(INCRBYFLOAT, key, toArgument(increment));
   }
 
   public void incr(final byte[] key) {
@@ -266,14 +324,22 @@ public class BinaryClient extends Connection {
     sendCommand(APPEND, key, value);
   }
 
+  public void append(final byte[] key, final BulkSource value) {
+    sendCommand(APPEND, BulkSource.of(key), value);
+  }
+
   public void substr(final byte[] key, final int start, final int end) {
-    sendCommand(SUBSTR, key, toByteArray(start), toByteArray(end));
+    sendCommand(SUBSTR, key, toArgument(start), toArgument(end));
   }
 
   public void hset(final byte[] key, final byte[] field, final byte[] value) {
     sendCommand(HSET, key, field, value);
   }
 
+  public void hset(final byte[] key, final byte[] field, final BulkSource value) {
+    sendCommand(HSET, BulkSource.of(key), BulkSource.of(field), value);
+  }
+
   public void hset(final byte[] key, final Map<byte[], byte[]> hash) {
     final byte[][] params = new byte[1 + hash.size() * 2][];
 
@@ -310,7 +376,7 @@ public class BinaryClient extends Connection {
   }
 
   public void hincrBy(final byte[] key, final byte[] field, final long value) {
-    sendCommand(HINCRBY, key, field, toByteArray(value));
+    sendCommand(HINCRBY, key, field, toArgument(value));
   }
 
   public void hexists(final byte[] key, final byte[] field) {
@@ -350,23 +416,23 @@ public class BinaryClient extends Connection {
   }
 
   public void lrange(final byte[] key, final long start, final long stop) {
-    sendCommand(LRANGE, key, toByteArray(start), toByteArray(stop));
+    sendCommand(LRANGE, key, toArgument(start), toArgument(stop));
   }
 
   public void ltrim(final byte[] key, final long start, final long stop) {
-    sendCommand(LTRIM, key, toByteArray(start), toByteArray(stop));
+    sendCommand(LTRIM, key, toArgument(start), toArgument(stop));
   }
 
   public void lindex(final byte[] key, final long index) {
-    sendCommand(LINDEX, key, toByteArray(index));
+    sendCommand(LINDEX, key, toArgument(index));
   }
 
   public void lset(final byte[] key, final long index, final byte[] value) {
-    sendCommand(LSET, key, toByteArray(index), value);
+    sendCommand(LSET, key, toArgument(index), value);
   }
 
   public void lrem(final byte[] key, final long count, final byte[] value) {
-    sendCommand(LREM, key, toByteArray(count), value);
+    sendCommand(LREM, key, toArgument(count), value);
   }
 
   public void lpop(final byte[] key) {
@@ -398,7 +464,7 @@ public class BinaryClient extends Connection {
   }
 
   public void spop(final byte[] key, final long count) {
-    sendCommand(SPOP, key, toByteArray(count));
+    sendCommand(SPOP, key, toArgument(count));
   }
 
   public void smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
@@ -442,12 +508,12 @@ public class BinaryClient extends Connection {
   }
 
   public void zadd(final byte[] key, final double score, final byte[] member) {
-    sendCommand(ZADD, key, toByteArray(score), member);
+    sendCommand(ZADD, key, toArgument(score), member);
   }
 
   public void zadd(final byte[] key, final double score, final byte[] member,
       final ZAddParams params) {
-    sendCommand(ZADD, params.getByteParams(key, toByteArray(score), member));
+    sendCommand(ZADD, params.getByteParams(key, toArgument(score), member));
   }
 
   public void zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
@@ -470,7 +536,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zrange(final byte[] key, final long start, final long stop) {
-    sendCommand(ZRANGE, key, toByteArray(start), toByteArray(stop));
+    sendCommand(ZRANGE, key, toArgument(start), toArgument(stop));
   }
 
   public void zrem(final byte[] key, final byte[]... members) {
@@ -478,13 +544,13 @@ public class BinaryClient extends Connection {
   }
 
   public void zincrby(final byte[] key, final double increment, final byte[] member) {
-    sendCommand(ZINCRBY, key, toByteArray(increment), member);
+    sendCommand(ZINCRBY, key, toArgument(increment), member);
   }
 
   public void zincrby(final byte[] key, final double increment, final byte[] member,
       final ZIncrByParams params) {
     // Note that it actually calls ZADD with INCR option, so it requires Redis 3.0.2 or upper.
-    sendCommand(ZADD, params.getByteParams(key, toByteArray(increment), member));
+    sendCommand(ZADD, params.getByteParams(key, toArgument(increment), member));
   }
 
   public void zrank(final byte[] key, final byte[] member) {
@@ -496,15 +562,15 @@ public class BinaryClient extends Connection {
   }
 
   public void zrevrange(final byte[] key, final long start, final long stop) {
-    sendCommand(ZREVRANGE, key, toByteArray(start), toByteArray(stop));
+    sendCommand(ZREVRANGE, key, toArgument(start), toArgument(stop));
   }
 
   public void zrangeWithScores(final byte[] key, final long start, final long stop) {
-    sendCommand(ZRANGE, key, toByteArray(start), toByteArray(stop), WITHSCORES.raw);
+    sendCommand(ZRANGE, key, toArgument(start), toArgument(stop), WITHSCORES.raw);
   }
 
   public void zrevrangeWithScores(final byte[] key, final long start, final long stop) {
-    sendCommand(ZREVRANGE, key, toByteArray(start), toByteArray(stop), WITHSCORES.raw);
+    sendCommand(ZREVRANGE, key, toArgument(start), toArgument(stop), WITHSCORES.raw);
   }
 
   public void zcard(final byte[] key) {
@@ -520,7 +586,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zpopmax(final byte[] key, final int count) {
-    sendCommand(ZPOPMAX, key, toByteArray(count));
+    sendCommand(ZPOPMAX, key, toArgument(count));
   }
 
   public void zpopmin(final byte[] key) {
@@ -528,7 +594,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zpopmin(final byte[] key, final long count) {
-    sendCommand(ZPOPMIN, key, toByteArray(count));
+    sendCommand(ZPOPMIN, key, toArgument(count));
   }
 
   public void multi() {
@@ -578,7 +644,7 @@ public class BinaryClient extends Connection {
     for (final byte[] arg : keys) {
       args.add(arg);
     }
-    args.add(Protocol.toByteArray(timeout));
+    args.add(Protocol.toArgument(timeout));
     blpop(args.toArray(new byte[args.size()][]));
   }
 
@@ -604,7 +670,7 @@ public class BinaryClient extends Connection {
     for (final byte[] arg : keys) {
       args.add(arg);
     }
-    args.add(Protocol.toByteArray(timeout));
+    args.add(Protocol.toArgument(timeout));
     brpop(args.toArray(new byte[args.size()][]));
   }
 
@@ -652,7 +718,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zcount(final byte[] key, final double min, final double max) {
-    sendCommand(ZCOUNT, key, toByteArray(min), toByteArray(max));
+    sendCommand(ZCOUNT, key, toArgument(min), toArgument(max));
   }
 
   public void zcount(final byte[] key, final byte[] min, final byte[] max) {
@@ -660,7 +726,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zrangeByScore(final byte[] key, final double min, final double max) {
-    sendCommand(ZRANGEBYSCORE, key, toByteArray(min), toByteArray(max));
+    sendCommand(ZRANGEBYSCORE, key, toArgument(min), toArgument(max));
   }
 
   public void zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
@@ -668,7 +734,7 @@ public class BinaryClient extends Connection {
   }
 
   public void zrevrangeByScore(final byte[] key, final double max, final double min) {
-    sendCommand(ZREVRANGEBYSCORE, key, toByteArray(max), toByteArray(min));
+    sendCommand(ZREVRANGEBYSCORE, key, toArgument(max), toArgument(min));
   }
 
   public void zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
@@ -677,44 +743,44 @@ public class BinaryClient extends Connection {
 
   public void zrangeByScore(final byte[] key, final double min, final double max, final int offset,
       final int count) {
-    sendCommand(ZRANGEBYSCORE, key, toByteArray(min), toByteArray(max), LIMIT.raw, toByteArray(offset),
-      toByteArray(count));
+    sendCommand(ZRANGEBYSCORE, key, toArgument(min), toArgument(max), LIMIT.raw, toArgument(offset),
+      toArgument(count));
   }
 
   public void zrevrangeByScore(final byte[] key, final double max, final double min,
       final int offset, final int count) {
-    sendCommand(ZREVRANGEBYSCORE, key, toByteArray(max), toByteArray(min), LIMIT.raw, toByteArray(offset),
-      toByteArray(count));
+    sendCommand(ZREVRANGEBYSCORE, key, toArgument(max), toArgument(min), LIMIT.raw, toArgument(offset),
+      toArgument(count));
   }
 
   public void zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
-    sendCommand(ZRANGEBYSCORE, key, toByteArray(min), toByteArray(max), WITHSCORES.raw);
+    sendCommand(ZRANGEBYSCORE, key, toArgument(min), toArgument(max), WITHSCORES.raw);
   }
 
   public void zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
-    sendCommand(ZREVRANGEBYSCORE, key, toByteArray(max), toByteArray(min), WITHSCORES.raw);
+    sendCommand(ZREVRANGEBYSCORE, key, toArgument(max), toArgument(min), WITHSCORES.raw);
   }
 
   public void zrangeByScoreWithScores(final byte[] key, final double min, final double max,
       final int offset, final int count) {
-    sendCommand(ZRANGEBYSCORE, key, toByteArray(min), toByteArray(max), LIMIT.raw, toByteArray(offset),
-      toByteArray(count), WITHSCORES.raw);
+    sendCommand(ZRANGEBYSCORE, key, toArgument(min), toArgument(max), LIMIT.raw, toArgument(offset),
+      toArgument(count), WITHSCORES.raw);
   }
 
   public void zrevrangeByScoreWithScores(final byte[] key, final double max, final double min,
       final int offset, final int count) {
-    sendCommand(ZREVRANGEBYSCORE, key, toByteArray(max), toByteArray(min), LIMIT.raw, toByteArray(offset),
-      toByteArray(count), WITHSCORES.raw);
+    sendCommand(ZREVRANGEBYSCORE, key, toArgument(max), toArgument(min), LIMIT.raw, toArgument(offset),
+      toArgument(count), WITHSCORES.raw);
   }
 
   public void zrangeByScore(final byte[] key, final byte[] min, final byte[] max, final int offset,
       final int count) {
-    sendCommand(ZRANGEBYSCORE, key, min, max, LIMIT.raw, toByteArray(offset), toByteArray(count));
+    sendCommand(ZRANGEBYSCORE, key, min, max, LIMIT.raw, toArgument(offset), toArgument(count));
   }
 
   public void zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min,
       final int offset, final int count) {
-    sendCommand(ZREVRANGEBYSCORE, key, max, min, LIMIT.raw, toByteArray(offset), toByteArray(count));
+    sendCommand(ZREVRANGEBYSCORE, key, max, min, LIMIT.raw, toArgument(offset), toArgument(count));
   }
 
   public void zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
@@ -727,22 +793,22 @@ public class BinaryClient extends Connection {
 
   public void zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max,
       final int offset, final int count) {
-    sendCommand(ZRANGEBYSCORE, key, min, max, LIMIT.raw, toByteArray(offset), toByteArray(count),
+    sendCommand(ZRANGEBYSCORE, key, min, max, LIMIT.raw, toArgument(offset), toArgument(count),
       WITHSCORES.raw);
   }
 
   public void zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min,
       final int offset, final int count) {
-    sendCommand(ZREVRANGEBYSCORE, key, max, min, LIMIT.raw, toByteArray(offset),
-      toByteArray(count), WITHSCORES.raw);
+    sendCommand(ZREVRANGEBYSCORE, key, max, min, LIMIT.raw, toArgument(offset),
+      toArgument(count), WITHSCORES.raw);
   }
 
   public void zremrangeByRank(final byte[] key, final long start, final long stop) {
-    sendCommand(ZREMRANGEBYRANK, key, toByteArray(start), toByteArray(stop));
+    sendCommand(ZREMRANGEBYRANK, key, toArgument(start), toArgument(stop));
   }
 
   public void zremrangeByScore(final byte[] key, final double min, final double max) {
-    sendCommand(ZREMRANGEBYSCORE, key, toByteArray(min), toByteArray(max));
+    sendCommand(ZREMRANGEBYSCORE, key, toArgument(min), toArgument(max));
   }
 
   public void zremrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
@@ -750,13 +816,13 @@ public class BinaryClient extends Connection {
   }
 
   public void zunionstore(final byte[] dstkey, final byte[]... sets) {
-    sendCommand(ZUNIONSTORE, joinParameters(dstkey, toByteArray(sets.length), sets));
+    sendCommand(ZUNIONSTORE, joinParameters(dstkey, toArgument(sets.length), sets));
   }
 
   public void zunionstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
     final List<byte[]> args = new ArrayList<>();
     args.add(dstkey);
-    args.add(Protocol.toByteArray(sets.length));
+    args.add(Protocol.toArgument(sets.length));
     for (final byte[] set : sets) {
       args.add(set);
     }
@@ -765,13 +831,13 @@ public class BinaryClient extends Connection {
   }
 
   public void zinterstore(final byte[] dstkey, final byte[]... sets) {
-    sendCommand(ZINTERSTORE, joinParameters(dstkey, Protocol.toByteArray(sets.length), sets));
+    sendCommand(ZINTERSTORE, joinParameters(dstkey, Protocol.toArgument(sets.length), sets));
   }
 
   public void zinterstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
     final List<byte[]> args = new ArrayList<>();
     args.add(dstkey);
-    args.add(Protocol.toByteArray(sets.length));
+    args.add(Protocol.toArgument(sets.length));
     for (final byte[] set : sets) {
       args.add(set);
     }
@@ -789,7 +855,7 @@ public class BinaryClient extends Connection {
 
   public void zrangeByLex(final byte[] key, final byte[] min, final byte[] max, final int offset,
       final int count) {
-    sendCommand(ZRANGEBYLEX, key, min, max, LIMIT.raw, toByteArray(offset), toByteArray(count));
+    sendCommand(ZRANGEBYLEX, key, min, max, LIMIT.raw, toArgument(offset), toArgument(count));
   }
 
   public void zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min) {
@@ -798,7 +864,7 @@ public class BinaryClient extends Connection {
 
   public void zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min,
       final int offset, final int count) {
-    sendCommand(ZREVRANGEBYLEX, key, max, min, LIMIT.raw, toByteArray(offset), toByteArray(count));
+    sendCommand(ZREVRANGEBYLEX, key, max, min, LIMIT.raw, toArgument(offset), toArgument(count));
   }
 
   public void zremrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
@@ -887,7 +953,7 @@ public class BinaryClient extends Connection {
   }
 
   public void brpoplpush(final byte[] source, final byte[] destination, final int timeout) {
-    sendCommand(BRPOPLPUSH, source, destination, toByteArray(timeout));
+    sendCommand(BRPOPLPUSH, source, destination, toArgument(timeout));
   }
 
   public void configResetStat() {
@@ -899,31 +965,35 @@ public class BinaryClient extends Connection {
   }
 
   public void setbit(final byte[] key, final long offset, final byte[] value) {
-    sendCommand(SETBIT, key, toByteArray(offset), value);
+    sendCommand(SETBIT, key, toArgument(offset), value);
   }
 
   public void setbit(final byte[] key, final long offset, final boolean value) {
-    sendCommand(SETBIT, key, toByteArray(offset), toByteArray(value));
+    sendCommand(SETBIT, key, toArgument(offset), toArgument(value));
   }
 
   public void getbit(final byte[] key, final long offset) {
-    sendCommand(GETBIT, key, toByteArray(offset));
+    sendCommand(GETBIT, key, toArgument(offset));
   }
 
   public void bitpos(final byte[] key, final boolean value, final BitPosParams params) {
     final List<byte[]> args = new ArrayList<>();
     args.add(key);
-    args.add(toByteArray(value));
+    args.add(toArgument(value));
     args.addAll(params.getParams());
     sendCommand(BITPOS, args.toArray(new byte[args.size()][]));
   }
 
   public void setrange(final byte[] key, final long offset, final byte[] value) {
-    sendCommand(SETRANGE, key, toByteArray(offset), value);
+    sendCommand(SETRANGE, key, toArgument(offset), value);
+  }
+
+  public void setrange(final byte[] key, final long offset, final BulkSource value) {
+    sendCommand(SETRANGE, BulkSource.of(key), BulkSource.of(toArgument(offset)), value);
   }
 
   public void getrange(final byte[] key, final long startOffset, final long endOffset) {
-    sendCommand(GETRANGE, key, toByteArray(startOffset), toByteArray(endOffset));
+    sendCommand(GETRANGE, key, toArgument(startOffset), toArgument(endOffset));
   }
 
   public int getDB() {
@@ -954,7 +1024,7 @@ public class BinaryClient extends Connection {
   }
 
   public void eval(final byte[] script, final int keyCount, final byte[]... params) {
-    sendCommand(EVAL, joinParameters(script, toByteArray(keyCount), params));
+    sendCommand(EVAL, joinParameters(script, toArgument(keyCount), params));
   }
 
   public void evalsha(final byte[] sha1, final byte[] keyCount, final byte[]... params) {
@@ -962,7 +1032,7 @@ public class BinaryClient extends Connection {
   }
 
   public void evalsha(final byte[] sha1, final int keyCount, final byte[]... params) {
-    sendCommand(EVALSHA, joinParameters(sha1, toByteArray(keyCount), params));
+    sendCommand(EVALSHA, joinParameters(sha1, toArgument(keyCount), params));
   }
 
   public void scriptFlush() {
@@ -986,7 +1056,7 @@ public class BinaryClient extends Connection {
   }
 
   public void slowlogGet(final long entries) {
-    sendCommand(SLOWLOG, Keyword.GET.raw, toByteArray(entries));
+    sendCommand(SLOWLOG, Keyword.GET.raw, toArgument(entries));
   }
 
   public void slowlogReset() {
@@ -1022,7 +1092,7 @@ public class BinaryClient extends Connection {
   }
 
   public void bitcount(final byte[] key, final long start, final long end) {
-    sendCommand(BITCOUNT, key, toByteArray(start), toByteArray(end));
+    sendCommand(BITCOUNT, key, toArgument(start), toArgument(end));
   }
 
   public void bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
@@ -1038,19 +1108,19 @@ public class BinaryClient extends Connection {
   }
 
   public void restore(final byte[] key, final int ttl, final byte[] serializedValue) {
-    sendCommand(RESTORE, key, toByteArray(ttl), serializedValue);
+    sendCommand(RESTORE, key, toArgument(ttl), serializedValue);
   }
 
   public void restoreReplace(final byte[] key, final int ttl, final byte[] serializedValue) {
-    sendCommand(RESTORE, key, toByteArray(ttl), serializedValue, Keyword.REPLACE.raw);
+    sendCommand(RESTORE, key, toArgument(ttl), serializedValue, Keyword.REPLACE.raw);
   }
 
   public void pexpire(final byte[] key, final long milliseconds) {
-    sendCommand(PEXPIRE, key, toByteArray(milliseconds));
+    sendCommand(PEXPIRE, key, toArgument(milliseconds));
   }
 
   public void pexpireAt(final byte[] key, final long millisecondsTimestamp) {
-    sendCommand(PEXPIREAT, key, toByteArray(millisecondsTimestamp));
+    sendCommand(PEXPIREAT, key, toArgument(millisecondsTimestamp));
   }
 
   public void pttl(final byte[] key) {
@@ -1058,11 +1128,11 @@ public class BinaryClient extends Connection {
   }
 
   public void psetex(final byte[] key, final long milliseconds, final byte[] value) {
-    sendCommand(PSETEX, key, toByteArray(milliseconds), value);
+    sendCommand(PSETEX, key, toArgument(milliseconds), value);
   }
 
   public void srandmember(final byte[] key, final int count) {
-    sendCommand(SRANDMEMBER, key, toByteArray(count));
+    sendCommand(SRANDMEMBER, key, toArgument(count));
   }
 
   public void memoryDoctor() {
@@ -1094,21 +1164,27 @@ public class BinaryClient extends Connection {
   }
 
   public void clientPause(final long timeout) {
-    sendCommand(CLIENT, Keyword.PAUSE.raw, toByteArray(timeout));
+    sendCommand(CLIENT, Keyword.PAUSE.raw, toArgument(timeout));
   }
 
   public void clientId() {
     sendCommand(CLIENT, Keyword.ID.raw);
   }
 
+  public void clientTracking(final long redirect) {
+    sendCommand(CLIENT, Keyword.TRACKING.raw, Keyword.ON.raw, Keyword.REDIRECT.raw,
+      toArgument(redirect));
+    trackingRedirect = redirect;
+  }
+
   public void time() {
     sendCommand(TIME);
   }
 
   public void migrate(final String host, final int port, final byte[] key, final int destinationDb,
       final int timeout) {
-    sendCommand(MIGRATE, SafeEncoder.encode(host), toByteArray(port), key,
-        toByteArray(destinationDb), toByteArray(timeout));
+    sendCommand(MIGRATE, SafeEncoder.encode(host), toArgument(port), key,
+        toArgument(destinationDb), toArgument(timeout));
   }
 
   public void migrate(final String host, final int port, final int destinationDB,
@@ -1118,10 +1194,10 @@ public class BinaryClient extends Connection {
     byte[][] args = new byte[len][];
     int i = 0;
     args[i++] = SafeEncoder.encode(host);
-    args[i++] = toByteArray(port);
+    args[i++] = toArgument(port);
     args[i++] = new byte[0];
-    args[i++] = toByteArray(destinationDB);
-    args[i++] = toByteArray(timeout);
+    args[i++] = toArgument(destinationDB);
+    args[i++] = toArgument(timeout);
     System.arraycopy(bparams, 0, args, i, bparams.length);
     i += bparams.length;
     args[i++] = Keyword.KEYS.raw;
@@ -1130,7 +1206,7 @@ public class BinaryClient extends Connection {
   }
 
   public void hincrByFloat(final byte[] key, final byte[] field, final double increment) {
-    sendCommand(HINCRBYFLOAT, key, field, toByteArray(increment));
+    sendCommand(HINCRBYFLOAT, key, field, toArgument(increment));
   }
 
   public void scan(final byte[] cursor, final ScanParams params) {
@@ -1165,7 +1241,7 @@ public class BinaryClient extends Connection {
   }
 
   public void waitReplicas(final int replicas, final long timeout) {
-    sendCommand(WAIT, toByteArray(replicas), toByteArray(timeout));
+    sendCommand(WAIT, toArgument(replicas), toArgument(timeout));
   }
 
   public void cluster(final byte[]... args) {
@@ -1194,10 +1270,11 @@ public class BinaryClient extends Connection {
 
   public void readonly() {
     sendCommand(READONLY);
+    readOnly = true;
   }
 
   public void geoadd(final byte[] key, final double longitude, final double latitude, final byte[] member) {
-    sendCommand(GEOADD, key, toByteArray(longitude), toByteArray(latitude), member);
+    sendCommand(GEOADD, key, toArgument(longitude), toArgument(latitude), member);
   }
 
   public void geoadd(final byte[] key, final Map<byte[], GeoCoordinate> memberCoordinateMap) {
@@ -1228,43 +1305,43 @@ public class BinaryClient extends Connection {
   }
 
   public void georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit) {
-    sendCommand(GEORADIUS, key, toByteArray(longitude), toByteArray(latitude), toByteArray(radius),
+    sendCommand(GEORADIUS, key, toArgument(longitude), toArgument(latitude), toArgument(radius),
       unit.raw);
   }
 
   public void georadiusReadonly(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit) {
-    sendCommand(GEORADIUS_RO, key, toByteArray(longitude), toByteArray(latitude), toByteArray(radius),
+    sendCommand(GEORADIUS_RO, key, toArgument(longitude), toArgument(latitude), toArgument(radius),
       unit.raw);
   }
 
   public void georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit,
       final GeoRadiusParam param) {
-    sendCommand(GEORADIUS, param.getByteParams(key, toByteArray(longitude), toByteArray(latitude),
-      toByteArray(radius), unit.raw));
+    sendCommand(GEORADIUS, param.getByteParams(key, toArgument(longitude), toArgument(latitude),
+      toArgument(radius), unit.raw));
   }
 
   public void georadiusReadonly(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit,
       final GeoRadiusParam param) {
-    sendCommand(GEORADIUS_RO, param.getByteParams(key, toByteArray(longitude), toByteArray(latitude),
-      toByteArray(radius), unit.raw));
+    sendCommand(GEORADIUS_RO, param.getByteParams(key, toArgument(longitude), toArgument(latitude),
+      toArgument(radius), unit.raw));
   }
 
   public void georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit) {
-    sendCommand(GEORADIUSBYMEMBER, key, member, toByteArray(radius), unit.raw);
+    sendCommand(GEORADIUSBYMEMBER, key, member, toArgument(radius), unit.raw);
   }
 
   public void georadiusByMemberReadonly(final byte[] key, final byte[] member, final double radius, final GeoUnit unit) {
-    sendCommand(GEORADIUSBYMEMBER_RO, key, member, toByteArray(radius), unit.raw);
+    sendCommand(GEORADIUSBYMEMBER_RO, key, member, toArgument(radius), unit.raw);
   }
 
   public void georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit,
       final GeoRadiusParam param) {
-    sendCommand(GEORADIUSBYMEMBER, param.getByteParams(key, member, toByteArray(radius), unit.raw));
+    sendCommand(GEORADIUSBYMEMBER, param.getByteParams(key, member, toArgument(radius), unit.raw));
   }
 
   public void georadiusByMemberReadonly(final byte[] key, final byte[] member, final double radius, final GeoUnit unit,
       final GeoRadiusParam param) {
-    sendCommand(GEORADIUSBYMEMBER_RO, param.getByteParams(key, member, toByteArray(radius), unit.raw));
+    sendCommand(GEORADIUSBYMEMBER_RO, param.getByteParams(key, member, toArgument(radius), unit.raw));
   }
 
   public void moduleLoad(final byte[] path) {
@@ -1283,7 +1360,7 @@ public class BinaryClient extends Connection {
     ArrayList<byte[]> args = new ArrayList<>(scoreMembers.size() * 2);
 
     for (Map.Entry<byte[], Double> entry : scoreMembers.entrySet()) {
-      args.add(toByteArray(entry.getValue()));
+      args.add(toArgument(entry.getValue()));
       args.add(entry.getKey());
     }
 
@@ -1326,8 +1403,8 @@ public class BinaryClient extends Connection {
 
     for (Entry<byte[], GeoCoordinate> entry : memberCoordinateMap.entrySet()) {
       GeoCoordinate coordinate = entry.getValue();
-      args.add(toByteArray(coordinate.getLongitude()));
-      args.add(toByteArray(coordinate.getLatitude()));
+      args.add(toArgument(coordinate.getLongitude()));
+      args.add(toArgument(coordinate.getLatitude()));
       args.add(entry.getKey());
     }
 
@@ -1364,7 +1441,7 @@ public class BinaryClient extends Connection {
 	    if(approximateLength) {
 	      params[index++] = Protocol.BYTES_TILDE;
 	    }
-	    params[index++] = toByteArray(maxLen);
+	    params[index++] = toArgument(maxLen);
 	  }
 	  
 	  params[index++] = id;
@@ -1375,16 +1452,35 @@ public class BinaryClient extends Connection {
 	  sendCommand(XADD, params);
   }
   
+  public void xaddStreaming(final byte[] key, final byte[] id,
+      final Map<byte[], BulkSource> hash, final long maxLen, final boolean approximateLength) {
+    final List<BulkSource> params = new ArrayList<>(5 + hash.size() * 2);
+    params.add(BulkSource.of(key));
+    if (maxLen < Long.MAX_VALUE) {
+      params.add(BulkSource.of(Keyword.MAXLEN.raw));
+      if (approximateLength) {
+        params.add(BulkSource.of(Protocol.BYTES_TILDE));
+      }
+      params.add(BulkSource.of(toArgument(maxLen)));
+    }
+    params.add(BulkSource.of(id));
+    for (final Entry<byte[], BulkSource> entry : hash.entrySet()) {
+      params.add(BulkSource.of(entry.getKey()));
+      params.add(entry.getValue());
+    }
+    sendCommand(XADD, params.toArray(new BulkSource[params.size()]));
+  }
+
   public void xlen(final byte[] key) {
      sendCommand(XLEN, key);
   }
   
   public void xrange(final byte[] key, final byte[] start, final byte[] end, final long count) { 
-     sendCommand(XRANGE, key, start, end, Keyword.COUNT.raw, toByteArray(count));
+     sendCommand(XRANGE, key, start, end, Keyword.COUNT.raw, toArgument(count));
   }
   
   public void xrevrange(final byte[] key, final byte[] end, final byte[] start, final int count) {
-    sendCommand(XREVRANGE, key, end, start, Keyword.COUNT.raw, toByteArray(count));
+    sendCommand(XREVRANGE, key, end, start, Keyword.COUNT.raw, toArgument(count));
   }
 
   public void xread(final int count, final long block, final Map<byte[], byte[]> streams) {
@@ -1392,10 +1488,10 @@ public class BinaryClient extends Connection {
 
     int streamsIndex = 0;
     params[streamsIndex++] = Keyword.COUNT.raw;
-    params[streamsIndex++] = toByteArray(count);
+    params[streamsIndex++] = toArgument(count);
     if(block > 0) {
       params[streamsIndex++] = Keyword.BLOCK.raw;
-      params[streamsIndex++] = toByteArray(block);
+      params[streamsIndex++] = toArgument(block);
     }
     
     params[streamsIndex++] = Keyword.STREAMS.raw;
@@ -1452,9 +1548,9 @@ public class BinaryClient extends Connection {
   
   public void xtrim(byte[] key, long maxLen, boolean approximateLength) {
     if(approximateLength) {
-      sendCommand(XTRIM, key, Keyword.MAXLEN.raw, Protocol.BYTES_TILDE ,toByteArray(maxLen));
+      sendCommand(XTRIM, key, Keyword.MAXLEN.raw, Protocol.BYTES_TILDE ,toArgument(maxLen));
     } else {
-      sendCommand(XTRIM, key, Keyword.MAXLEN.raw, toByteArray(maxLen));
+      sendCommand(XTRIM, key, Keyword.MAXLEN.raw, toArgument(maxLen));
     }
   }
   
@@ -1480,11 +1576,11 @@ public class BinaryClient extends Connection {
     params[streamsIndex++] = consumer;
     if(count>0) {
       params[streamsIndex++] = Keyword.COUNT.raw;
-      params[streamsIndex++] = toByteArray(count);
+      params[streamsIndex++] = toArgument(count);
     }
     if(block > 0) {
       params[streamsIndex++] = Keyword.BLOCK.raw;
-      params[streamsIndex++] = toByteArray(block);
+      params[streamsIndex++] = toArgument(block);
     }
     if(noAck) {
       params[streamsIndex++] = Keyword.NOACK.raw;
@@ -1503,9 +1599,9 @@ public class BinaryClient extends Connection {
   
   public void xpending(byte[] key, byte[] groupname, byte[] start, byte[] end, int count, byte[] consumername) {
     if(consumername == null) {
-      sendCommand(XPENDING, key, groupname, start, end, toByteArray(count));
+      sendCommand(XPENDING, key, groupname, start, end, toArgument(count));
     } else {
-      sendCommand(XPENDING, key, groupname, start, end, toByteArray(count), consumername);
+      sendCommand(XPENDING, key, groupname, start, end, toArgument(count), consumername);
     }
   }
 
@@ -1516,18 +1612,18 @@ public class BinaryClient extends Connection {
       arguments.add(key);
       arguments.add(groupname);
       arguments.add(consumername);
-      arguments.add(toByteArray(minIdleTime));
+      arguments.add(toArgument(minIdleTime));
       
       for(byte[] id : ids) {
         arguments.add(id);  
       }
       if(newIdleTime > 0) {
         arguments.add(Keyword.IDLE.raw);
-        arguments.add(toByteArray(newIdleTime));
+        arguments.add(toArgument(newIdleTime));
       }
       if(retries > 0) {
         arguments.add(Keyword.RETRYCOUNT.raw);
-        arguments.add(toByteArray(retries));        
+        arguments.add(toArgument(retries));        
       }
       if(force) {
         arguments.add(Keyword.FORCE.raw);        
@@ -3,15 +3,15 @@ package redis.clients.jedis;
 import static redis.clients.jedis.Protocol.toByteArray;
 
 import java.io.Closeable;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,7 +35,6 @@ import redis.clients.jedis.params.MigrateParams;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
-import redis.clients.jedis.util.JedisByteHashMap;
 import redis.clients.jedis.util.JedisURIHelper;
 
 public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKeyBinaryCommands,
@@ -170,8 +169,12 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
         "Cannot open Redis connection due invalid URI. %s", uri.toString()));
     }
 
-    client = new Client(uri.getHost(), uri.getPort(), JedisURIHelper.isRedisSSLScheme(uri),
-      sslSocketFactory, sslParameters, hostnameVerifier);
+    if (JedisURIHelper.isUnixSocketScheme(uri)) {
+      client = new Client(new UnixDomainJedisSocketFactory(JedisURIHelper.getUnixSocketPath(uri)));
+    } else {
+      client = new Client(uri.getHost(), uri.getPort(), JedisURIHelper.isRedisSSLScheme(uri),
+        sslSocketFactory, sslParameters, hostnameVerifier);
+    }
 
     String password = JedisURIHelper.getPassword(uri);
     if (password != null) {
@@ -241,6 +244,32 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getStatusCodeReply();
   }
 
+  /**
+   * Same as {@link #set(byte[], byte[])}, but the value is streamed to the connection from the
+   * given source instead of being held in memory.
+   * @param key
+   * @param value
+   * @return Status code reply
+   */
+  public String set(final byte[] key, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.set(key, value);
+    return client.getStatusCodeReply();
+  }
+
+  /**
+   * Same as {@link #set(byte[], byte[], SetParams)}, with the value streamed from the given source.
+   * @param key
+   * @param value
+   * @param params
+   * @return Status code reply
+   */
+  public String set(final byte[] key, final BulkSource value, final SetParams params) {
+    checkIsInMultiOrPipeline();
+    client.set(key, value, params);
+    return client.getStatusCodeReply();
+  }
+
   /**
    * Get the value of the specified key. If the key does not exist the special value 'nil' is
    * returned. If the value stored at key is not a string an error is returned because GET can only
@@ -257,6 +286,33 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Same as {@link #get(byte[])}, but the value is read from the socket straight into the given
+   * buffer instead of a newly allocated array. Values larger than the remaining space of the buffer
+   * are rejected with a {@link JedisDataException}.
+   * @param key
+   * @param dst buffer receiving the value
+   * @return the length of the value, or -1 if the key does not exist
+   */
+  public int getInto(final byte[] key, final ByteBuffer dst) {
+    checkIsInMultiOrPipeline();
+    client.get(key);
+    return client.getBulkReplyInto(dst);
+  }
+
+  /**
+   * Same as {@link #get(byte[])}, but the value is read from the socket as the returned stream is
+   * consumed, so that large values never need to be held in memory. The stream must be read or
+   * closed before issuing the next command on this instance.
+   * @param key
+   * @return stream over the value, or null if the key does not exist
+   */
+  public InputStream getAsStream(final byte[] key) {
+    checkIsInMultiOrPipeline();
+    client.get(key);
+    return client.getBulkReplyStream();
+  }
+
   /**
    * Ask the server to silently close the connection.
    */
@@ -867,6 +923,18 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getIntegerReply();
   }
 
+  /**
+   * Same as {@link #append(byte[], byte[])}, with the value streamed from the given source.
+   * @param key
+   * @param value
+   * @return Integer reply, specifically the total length of the string after the append operation.
+   */
+  public Long append(final byte[] key, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.append(key, value);
+    return client.getIntegerReply();
+  }
+
   /**
    * Return a subset of the string from offset start to offset end (both offsets are inclusive).
    * Negative offsets can be used in order to provide an offset starting from the end of the string.
@@ -909,6 +977,20 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getIntegerReply();
   }
 
+  /**
+   * Same as {@link #hset(byte[], byte[], byte[])}, with the value streamed from the given source.
+   * @param key
+   * @param field
+   * @param value
+   * @return If the field already exists, and the HSET just produced an update of the value, 0 is
+   *         returned, otherwise if a new field is created 1 is returned.
+   */
+  public Long hset(final byte[] key, final byte[] field, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.hset(key, field, value);
+    return client.getIntegerReply();
+  }
+
   @Override
   public Long hset(final byte[] key, final Map<byte[], byte[]> hash) {
     checkIsInMultiOrPipeline();
@@ -933,6 +1015,28 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Same as {@link #hget(byte[], byte[])}, but the value is read from the socket straight into the
+   * given buffer. See {@link #getInto(byte[], ByteBuffer)}.
+   * @return the length of the value, or -1 if the field or the key does not exist
+   */
+  public int hgetInto(final byte[] key, final byte[] field, final ByteBuffer dst) {
+    checkIsInMultiOrPipeline();
+    client.hget(key, field);
+    return client.getBulkReplyInto(dst);
+  }
+
+  /**
+   * Same as {@link #hget(byte[], byte[])}, but the value is streamed from the socket. See
+   * {@link #getAsStream(byte[])}.
+   * @return stream over the value, or null if the field or the key does not exist
+   */
+  public InputStream hgetAsStream(final byte[] key, final byte[] field) {
+    checkIsInMultiOrPipeline();
+    client.hget(key, field);
+    return client.getBulkReplyStream();
+  }
+
   /**
    * Set the specified hash field to the specified value if the field not exists. <b>Time
    * complexity:</b> O(1)
@@ -1114,14 +1218,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public Map<byte[], byte[]> hgetAll(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.hgetAll(key);
-    final List<byte[]> flatHash = client.getBinaryMultiBulkReply();
-    final Map<byte[], byte[]> hash = new JedisByteHashMap();
-    final Iterator<byte[]> iterator = flatHash.iterator();
-    while (iterator.hasNext()) {
-      hash.put(iterator.next(), iterator.next());
-    }
-
-    return hash;
+    return client.getReply(BuilderFactory.BYTE_ARRAY_MAP);
   }
 
   /**
@@ -1851,8 +1948,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public Double zscore(final byte[] key, final byte[] member) {
     checkIsInMultiOrPipeline();
     client.zscore(key, member);
-    final String score = client.getBulkReply();
-    return (score != null ? new Double(score) : null);
+    return BuilderFactory.DOUBLE.build(client.getOne());
   }
 
   @Override
@@ -2557,16 +2653,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   }
 
   protected Set<Tuple> getTupledSet() {
-    List<byte[]> membersWithScores = client.getBinaryMultiBulkReply();
-    if (membersWithScores.isEmpty()) {
-      return Collections.emptySet();
-    }
-    Set<Tuple> set = new LinkedHashSet<>(membersWithScores.size() / 2, 1.0f);
-    Iterator<byte[]> iterator = membersWithScores.iterator();
-    while (iterator.hasNext()) {
-      set.add(new Tuple(iterator.next(), BuilderFactory.DOUBLE.build(iterator.next())));
-    }
-    return set;
+    return client.getReply(BuilderFactory.TUPLE_ZSET);
   }
 
   @Override
@@ -3304,6 +3391,15 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getIntegerReply();
   }
 
+  /**
+   * Same as {@link #setrange(byte[], long, byte[])}, with the value streamed from the given source.
+   */
+  public Long setrange(final byte[] key, final long offset, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.setrange(key, offset, value);
+    return client.getIntegerReply();
+  }
+
   @Override
   public byte[] getrange(final byte[] key, final long startOffset, final long endOffset) {
     checkIsInMultiOrPipeline();
@@ -3709,6 +3805,19 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Switches the connection to the given protocol. The protocol is negotiated again whenever the
+   * client reconnects. RESP3 requires Redis 6 or later.
+   * @return the properties of the server, names and values one after the other
+   */
+  public List<Object> hello(final RedisProtocol protocol) {
+    checkIsInMultiOrPipeline();
+    client.hello(protocol);
+    final List<Object> properties = client.getObjectMultiBulkReply();
+    client.setProtocol(protocol);
+    return properties;
+  }
+
   @Override
   public String clientSetname(final byte[] name) {
     checkIsInMultiOrPipeline();
@@ -4128,6 +4237,17 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();  
   }
 
+  /**
+   * Same as {@link #xadd(byte[], byte[], Map, long, boolean)}, with the field values streamed from
+   * the given sources.
+   */
+  public byte[] xaddStreaming(final byte[] key, final byte[] id,
+      final Map<byte[], BulkSource> hash, final long maxLen, final boolean approximateLength) {
+    checkIsInMultiOrPipeline();
+    client.xaddStreaming(key, id, hash, maxLen, approximateLength);
+    return client.getBinaryBulkReply();
+  }
+
   @Override
   public Long xlen(byte[] key) {
     checkIsInMultiOrPipeline();
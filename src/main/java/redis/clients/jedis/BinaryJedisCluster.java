@@ -1,21 +1,38 @@
 package redis.clients.jedis;
 
+import redis.clients.jedis.Protocol.Command;
 import redis.clients.jedis.commands.BinaryJedisClusterCommands;
 import redis.clients.jedis.commands.JedisClusterBinaryScriptingCommands;
 import redis.clients.jedis.commands.MultiKeyBinaryJedisClusterCommands;
 import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisClusterMaxAttemptsException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.util.JedisClusterCRC16;
 import redis.clients.jedis.util.JedisClusterHashTagUtil;
 import redis.clients.jedis.util.KeyMergeUtil;
 import redis.clients.jedis.util.SafeEncoder;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
@@ -33,6 +50,9 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   protected JedisClusterConnectionHandler connectionHandler;
 
+  // runs the requests sent to several nodes at once, created on first use
+  private ExecutorService executor;
+
   public BinaryJedisCluster(Set<HostAndPort> nodes) {
     this(nodes, DEFAULT_TIMEOUT);
   }
@@ -92,11 +112,287 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public void close() {
+    synchronized (this) {
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
     if (connectionHandler != null) {
       connectionHandler.close();
     }
   }
 
+  /**
+   * Refreshes the slot cache from a background thread every period, and soon after redirections
+   * and connection failures, at most once per minimum interval. Threads running commands then no
+   * longer refresh the slot cache themselves.
+   */
+  public void enableTopologyRefresh(long periodMillis, long minIntervalMillis) {
+    connectionHandler.enableTopologyRefresh(periodMillis, minIntervalMillis);
+  }
+
+  /**
+   * Sets where read-only commands on a single slot are served from, the master by default.
+   */
+  public void setReadFrom(ReadFrom readFrom) {
+    connectionHandler.setReadFrom(readFrom);
+  }
+
+  /**
+   * Opens the circuit breaker of a node after the given number of consecutive connection
+   * failures: commands to the node then fail fast, and reads go to the master instead of an
+   * unavailable replica, until a probe command succeeds once the open duration has elapsed.
+   * @param failureThreshold consecutive failures opening the breaker, 0 to disable it
+   */
+  public void enableCircuitBreaker(int failureThreshold, long openMillis) {
+    connectionHandler.enableCircuitBreaker(failureThreshold, openMillis);
+  }
+
+  /**
+   * Pings every node in the background every period. Commands run on any node, such as
+   * {@link JedisCluster#publish(String, String)}, then pick a node known to be healthy without
+   * pinging it first, and open circuit breakers close as soon as their node is back.
+   */
+  public void enableHealthChecks(long periodMillis) {
+    connectionHandler.enableHealthChecks(periodMillis);
+  }
+
+  /**
+   * @return recent successes, failures and latency of the known nodes, by node key
+   */
+  public Map<String, ClusterNodeHealth> getNodeHealth() {
+    return connectionHandler.getNodeHealth();
+  }
+
+  public ReadFrom getReadFrom() {
+    return connectionHandler.getReadFrom();
+  }
+
+  /**
+   * Runs a command on every master serving slots, or on every known node, all at the same time.
+   * A node failing to run it does not stop the others: its error is part of the result.
+   * @param includeReplicas whether the replicas run the command as well
+   * @return the reply or the error of every node, by node key
+   */
+  public <T> ClusterBroadcastResult<T> broadcast(final ClusterNodeCommand<T> command,
+      final boolean includeReplicas) {
+    final Map<String, JedisPool> nodes = connectionHandler.getNodes();
+    if (!includeReplicas) {
+      nodes.values().retainAll(connectionHandler.cache.getMasterPools());
+    }
+    final ClusterBroadcastResult<T> result = new ClusterBroadcastResult<>();
+    if (nodes.isEmpty()) {
+      return result;
+    }
+    final Map<String, Future<T>> replies = new LinkedHashMap<>();
+    final ExecutorService executor = getExecutor();
+    Map.Entry<String, JedisPool> first = null;
+    for (final Map.Entry<String, JedisPool> node : nodes.entrySet()) {
+      if (first == null) {
+        first = node;
+        continue;
+      }
+      replies.put(node.getKey(), executor.submit(new Callable<T>() {
+        @Override
+        public T call() {
+          return runOnNode(node.getValue(), command);
+        }
+      }));
+    }
+    // the calling thread runs the command on the first node while the executor runs the others
+    try {
+      result.addReply(first.getKey(), runOnNode(first.getValue(), command));
+    } catch (JedisException e) {
+      result.addError(first.getKey(), e);
+    }
+    for (Map.Entry<String, Future<T>> reply : replies.entrySet()) {
+      try {
+        result.addReply(reply.getKey(), reply.getValue().get());
+      } catch (ExecutionException e) {
+        result.addError(reply.getKey(), e.getCause() instanceof JedisException
+            ? (JedisException) e.getCause() : new JedisException(e.getCause()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        result.addError(reply.getKey(),
+          new JedisException("Interrupted while waiting for the node", e));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Runs a command on a node, through its circuit breaker, recording the outcome in its health.
+   */
+  <T> T runOnNode(final JedisPool pool, final ClusterNodeCommand<T> command) {
+    // a node whose circuit breaker is open fails right away
+    final Jedis connection = connectionHandler.borrowConnection(pool);
+    try {
+      final T reply = command.execute(connection);
+      connectionHandler.recordSuccess(connection, -1);
+      return reply;
+    } catch (JedisConnectionException e) {
+      connectionHandler.recordFailure(connection);
+      throw e;
+    } finally {
+      connection.close();
+    }
+  }
+
+  /**
+   * @return a pipeline routing each command to the node serving its key, to be closed once done
+   */
+  public JedisClusterPipeline pipelined() {
+    return new JedisClusterPipeline(this);
+  }
+
+  /**
+   * Positions of the keys hashing to each slot, in the order the slots first appear.
+   * @param step distance between two keys in the arguments, 2 for key value pairs
+   */
+  static List<int[]> groupBySlot(final byte[][] args, final int step) {
+    final int[] slots = new int[args.length / step];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = JedisClusterCRC16.getSlot(args[i * step]);
+    }
+    return groupBySlot(slots);
+  }
+
+  static List<int[]> groupBySlot(final String[] args, final int step) {
+    final int[] slots = new int[args.length / step];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = JedisClusterCRC16.getSlot(args[i * step]);
+    }
+    return groupBySlot(slots);
+  }
+
+  private static List<int[]> groupBySlot(final int[] slots) {
+    final Map<Integer, List<Integer>> bySlot = new LinkedHashMap<>();
+    for (int i = 0; i < slots.length; i++) {
+      List<Integer> keys = bySlot.get(slots[i]);
+      if (keys == null) {
+        keys = new ArrayList<>();
+        bySlot.put(slots[i], keys);
+      }
+      keys.add(i);
+    }
+    final List<int[]> groups = new ArrayList<>(bySlot.size());
+    for (List<Integer> keys : bySlot.values()) {
+      final int[] group = new int[keys.size()];
+      for (int i = 0; i < group.length; i++) {
+        group[i] = keys.get(i);
+      }
+      groups.add(group);
+    }
+    return groups;
+  }
+
+  /**
+   * Runs a command once per slot, with the arguments of the keys of the slot, over a pipeline
+   * reaching all the nodes at once. When a node cannot be reached, the replies of the other nodes
+   * are kept and only the commands of the failed node are sent again, up to the number of
+   * attempts. A command that ran before its node failed to reply runs twice.
+   * @return the reply of each group
+   */
+  List<Object> runBySlot(final ProtocolCommand cmd, final byte[][] args, final int step,
+      final List<int[]> groups) {
+    final Object[] replies = new Object[groups.size()];
+    final boolean[] done = new boolean[groups.size()];
+    for (int attempt = 1;; attempt++) {
+      JedisConnectionException failure = null;
+      final List<Integer> sent = new ArrayList<>(groups.size());
+      final List<Object> attemptReplies;
+      try (JedisClusterPipeline pipeline = pipelined()) {
+        for (int g = 0; g < groups.size(); g++) {
+          if (done[g]) {
+            continue;
+          }
+          final int[] group = groups.get(g);
+          final byte[][] groupArgs = new byte[group.length * step][];
+          for (int i = 0; i < group.length; i++) {
+            System.arraycopy(args, group[i] * step, groupArgs, i * step, step);
+          }
+          try {
+            pipeline.sendCommand(groupArgs[0], cmd, groupArgs);
+            sent.add(g);
+          } catch (JedisConnectionException e) {
+            // the node is left for the next attempt, the other groups go on
+            failure = e;
+          }
+        }
+        attemptReplies = pipeline.syncReplies();
+      }
+      if (failure != null) {
+        // a node that could not even be connected to may no longer serve its slots
+        try {
+          connectionHandler.renewSlotCache();
+        } catch (JedisException e) {
+          // the failure of the node is more relevant
+        }
+      }
+      for (int i = 0; i < sent.size(); i++) {
+        final Object reply = attemptReplies.get(i);
+        if (reply instanceof JedisConnectionException) {
+          failure = (JedisConnectionException) reply;
+        } else if (reply instanceof JedisRedirectionException) {
+          throw new JedisClusterMaxAttemptsException("No more cluster attempts left.");
+        } else if (reply instanceof JedisDataException) {
+          throw (JedisDataException) reply;
+        } else {
+          replies[sent.get(i)] = reply;
+          done[sent.get(i)] = true;
+        }
+      }
+      if (failure == null) {
+        return Arrays.asList(replies);
+      }
+      if (attempt >= maxAttempts) {
+        throw failure;
+      }
+    }
+  }
+
+  long sumBySlot(final ProtocolCommand cmd, final byte[][] keys, final List<int[]> groups) {
+    long sum = 0;
+    for (Object reply : runBySlot(cmd, keys, 1, groups)) {
+      sum += (Long) reply;
+    }
+    return sum;
+  }
+
+  @SuppressWarnings("unchecked")
+  List<byte[]> mgetBySlot(final byte[][] keys, final List<int[]> groups) {
+    final List<Object> replies = runBySlot(Command.MGET, keys, 1, groups);
+    final byte[][] values = new byte[keys.length][];
+    for (int g = 0; g < groups.size(); g++) {
+      final int[] group = groups.get(g);
+      final List<byte[]> groupValues = (List<byte[]>) replies.get(g);
+      for (int i = 0; i < group.length; i++) {
+        values[group[i]] = groupValues.get(i);
+      }
+    }
+    return Arrays.asList(values);
+  }
+
+  String msetBySlot(final byte[][] keysvalues, final List<int[]> groups) {
+    return BuilderFactory.STRING.build(runBySlot(Command.MSET, keysvalues, 2, groups).get(0));
+  }
+
+  synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+          final Thread thread = new Thread(r, "jedis-cluster-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return executor;
+  }
+
   public Map<String, JedisPool> getClusterNodes() {
     return connectionHandler.getNodes();
   }
@@ -127,7 +423,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] get(final byte[] key) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.get(key);
@@ -137,7 +433,11 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long exists(final byte[]... keys) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    final List<int[]> groups = groupBySlot(keys, 1);
+    if (groups.size() > 1) {
+      return sumBySlot(Command.EXISTS, keys, groups);
+    }
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.exists(keys);
@@ -147,7 +447,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Boolean exists(final byte[] key) {
-    return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Boolean>(connectionHandler, maxAttempts) {
       @Override
       public Boolean execute(Jedis connection) {
         return connection.exists(key);
@@ -167,7 +467,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public String type(final byte[] key) {
-    return new JedisClusterCommand<String>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<String>(connectionHandler, maxAttempts) {
       @Override
       public String execute(Jedis connection) {
         return connection.type(key);
@@ -177,7 +477,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] dump(final byte[] key) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.dump(key);
@@ -237,7 +537,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long ttl(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.ttl(key);
@@ -247,7 +547,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long pttl(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.pttl(key);
@@ -267,6 +567,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long touch(final byte[]... keys) {
+    final List<int[]> groups = groupBySlot(keys, 1);
+    if (groups.size() > 1) {
+      return sumBySlot(Command.TOUCH, keys, groups);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
@@ -297,7 +601,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Boolean getbit(final byte[] key, final long offset) {
-    return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Boolean>(connectionHandler, maxAttempts) {
       @Override
       public Boolean execute(Jedis connection) {
         return connection.getbit(key, offset);
@@ -317,7 +621,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] getrange(final byte[] key, final long startOffset, final long endOffset) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.getrange(key, startOffset, endOffset);
@@ -427,7 +731,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] substr(final byte[] key, final int start, final int end) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.substr(key, start, end);
@@ -457,7 +761,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] hget(final byte[] key, final byte[] field) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.hget(key, field);
@@ -487,7 +791,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> hmget(final byte[] key, final byte[]... fields) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.hmget(key, fields);
@@ -517,7 +821,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Boolean hexists(final byte[] key, final byte[] field) {
-    return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Boolean>(connectionHandler, maxAttempts) {
       @Override
       public Boolean execute(Jedis connection) {
         return connection.hexists(key, field);
@@ -537,7 +841,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long hlen(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.hlen(key);
@@ -547,7 +851,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> hkeys(final byte[] key) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.hkeys(key);
@@ -557,7 +861,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> hvals(final byte[] key) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.hvals(key);
@@ -567,7 +871,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Map<byte[], byte[]> hgetAll(final byte[] key) {
-    return new JedisClusterCommand<Map<byte[], byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Map<byte[], byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Map<byte[], byte[]> execute(Jedis connection) {
         return connection.hgetAll(key);
@@ -597,7 +901,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long llen(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.llen(key);
@@ -607,7 +911,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> lrange(final byte[] key, final long start, final long stop) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.lrange(key, start, stop);
@@ -627,7 +931,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] lindex(final byte[] key, final long index) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.lindex(key, index);
@@ -687,7 +991,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> smembers(final byte[] key) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.smembers(key);
@@ -727,7 +1031,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long scard(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.scard(key);
@@ -737,7 +1041,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Boolean sismember(final byte[] key, final byte[] member) {
-    return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Boolean>(connectionHandler, maxAttempts) {
       @Override
       public Boolean execute(Jedis connection) {
         return connection.sismember(key, member);
@@ -747,7 +1051,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public byte[] srandmember(final byte[] key) {
-    return new JedisClusterCommand<byte[]>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<byte[]>(connectionHandler, maxAttempts) {
       @Override
       public byte[] execute(Jedis connection) {
         return connection.srandmember(key);
@@ -757,7 +1061,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long strlen(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.strlen(key);
@@ -808,7 +1112,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrange(final byte[] key, final long start, final long stop) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrange(key, start, stop);
@@ -849,7 +1153,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zrank(final byte[] key, final byte[] member) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zrank(key, member);
@@ -859,7 +1163,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zrevrank(final byte[] key, final byte[] member) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zrevrank(key, member);
@@ -869,7 +1173,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrevrange(final byte[] key, final long start, final long stop) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrange(key, start, stop);
@@ -879,7 +1183,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrangeWithScores(final byte[] key, final long start, final long stop) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeWithScores(key, start, stop);
@@ -889,7 +1193,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrevrangeWithScores(final byte[] key, final long start, final long stop) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeWithScores(key, start, stop);
@@ -899,7 +1203,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zcard(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zcard(key);
@@ -909,7 +1213,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Double zscore(final byte[] key, final byte[] member) {
-    return new JedisClusterCommand<Double>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Double>(connectionHandler, maxAttempts) {
       @Override
       public Double execute(Jedis connection) {
         return connection.zscore(key, member);
@@ -979,7 +1283,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zcount(final byte[] key, final double min, final double max) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
@@ -989,7 +1293,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zcount(final byte[] key, final byte[] min, final byte[] max) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
@@ -999,7 +1303,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
@@ -1009,7 +1313,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
@@ -1019,7 +1323,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
@@ -1030,7 +1334,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
@@ -1040,7 +1344,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
@@ -1051,7 +1355,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
@@ -1062,7 +1366,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
@@ -1072,7 +1376,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
@@ -1082,7 +1386,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
@@ -1093,7 +1397,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -1104,7 +1408,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
@@ -1114,7 +1418,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
@@ -1124,7 +1428,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
@@ -1135,7 +1439,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -1146,7 +1450,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max,
       final double min, final int offset, final int count) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -1157,7 +1461,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max,
       final byte[] min, final int offset, final int count) {
-    return new JedisClusterCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<Tuple>>(connectionHandler, maxAttempts) {
       @Override
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -1248,6 +1552,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long unlink(final byte[]... keys) {
+    final List<int[]> groups = groupBySlot(keys, 1);
+    if (groups.size() > 1) {
+      return sumBySlot(Command.UNLINK, keys, groups);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
@@ -1269,7 +1577,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long bitcount(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.bitcount(key);
@@ -1279,7 +1587,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long bitcount(final byte[] key, final long start, final long end) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.bitcount(key, start, end);
@@ -1299,7 +1607,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public long pfcount(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.pfcount(key);
@@ -1309,7 +1617,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> srandmember(final byte[] key, final int count) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.srandmember(key, count);
@@ -1319,7 +1627,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long zlexcount(final byte[] key, final byte[] min, final byte[] max) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.zlexcount(key, min, max);
@@ -1329,7 +1637,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max);
@@ -1340,7 +1648,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max, offset, count);
@@ -1350,7 +1658,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min);
@@ -1361,7 +1669,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min,
       final int offset, final int count) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min, offset, count);
@@ -1491,6 +1799,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long del(final byte[]... keys) {
+    final List<int[]> groups = groupBySlot(keys, 1);
+    if (groups.size() > 1) {
+      return sumBySlot(Command.DEL, keys, groups);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
@@ -1521,7 +1833,11 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> mget(final byte[]... keys) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    final List<int[]> groups = groupBySlot(keys, 1);
+    if (groups.size() > 1) {
+      return mgetBySlot(keys, groups);
+    }
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.mget(keys);
@@ -1531,6 +1847,12 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public String mset(final byte[]... keysvalues) {
+    if (keysvalues.length % 2 == 0) {
+      final List<int[]> groups = groupBySlot(keysvalues, 2);
+      if (groups.size() > 1) {
+        return msetBySlot(keysvalues, groups);
+      }
+    }
     byte[][] keys = new byte[keysvalues.length / 2][];
 
     for (int keyIdx = 0; keyIdx < keys.length; keyIdx++) {
@@ -1593,7 +1915,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> sdiff(final byte[]... keys) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.sdiff(keys);
@@ -1615,7 +1937,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> sinter(final byte[]... keys) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.sinter(keys);
@@ -1667,7 +1989,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Set<byte[]> sunion(final byte[]... keys) {
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.sunion(keys);
@@ -1803,7 +2125,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long pfcount(final byte[]... keys) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.pfcount(keys);
@@ -1834,7 +2156,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Double geodist(final byte[] key, final byte[] member1, final byte[] member2) {
-    return new JedisClusterCommand<Double>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Double>(connectionHandler, maxAttempts) {
       @Override
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2);
@@ -1845,7 +2167,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public Double geodist(final byte[] key, final byte[] member1, final byte[] member2,
       final GeoUnit unit) {
-    return new JedisClusterCommand<Double>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Double>(connectionHandler, maxAttempts) {
       @Override
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2, unit);
@@ -1855,7 +2177,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> geohash(final byte[] key, final byte[]... members) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.geohash(key, members);
@@ -1865,7 +2187,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<GeoCoordinate> geopos(final byte[] key, final byte[]... members) {
-    return new JedisClusterCommand<List<GeoCoordinate>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<GeoCoordinate>>(connectionHandler, maxAttempts) {
       @Override
       public List<GeoCoordinate> execute(Jedis connection) {
         return connection.geopos(key, members);
@@ -1887,7 +2209,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public List<GeoRadiusResponse> georadiusReadonly(final byte[] key, final double longitude,
       final double latitude, final double radius, final GeoUnit unit) {
-    return new JedisClusterCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
       @Override
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit);
@@ -1909,7 +2231,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public List<GeoRadiusResponse> georadiusReadonly(final byte[] key, final double longitude,
       final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-    return new JedisClusterCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
       @Override
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit, param);
@@ -1931,7 +2253,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public List<GeoRadiusResponse> georadiusByMemberReadonly(final byte[] key, final byte[] member,
       final double radius, final GeoUnit unit) {
-    return new JedisClusterCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
       @Override
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit);
@@ -1953,7 +2275,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public List<GeoRadiusResponse> georadiusByMemberReadonly(final byte[] key, final byte[] member,
       final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-    return new JedisClusterCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<GeoRadiusResponse>>(connectionHandler, maxAttempts) {
       @Override
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit, param);
@@ -1971,7 +2293,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       throw new IllegalArgumentException(this.getClass().getSimpleName()
           + " only supports KEYS commands with patterns containing hash-tags ( curly-brackets enclosed strings )");
     }
-    return new JedisClusterCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Set<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public Set<byte[]> execute(Jedis connection) {
         return connection.keys(pattern);
@@ -2077,7 +2399,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<Long> bitfieldReadonly(final byte[] key, final byte[]... arguments) {
-    return new JedisClusterCommand<List<Long>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<Long>>(connectionHandler, maxAttempts) {
       @Override
       public List<Long> execute(Jedis connection) {
         return connection.bitfieldReadonly(key, arguments);
@@ -2087,7 +2409,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long hstrlen(final byte[] key, final byte[] field) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.hstrlen(key, field);
@@ -2107,7 +2429,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public Long xlen(final byte[] key) {
-    return new JedisClusterCommand<Long>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<Long>(connectionHandler, maxAttempts) {
       @Override
       public Long execute(Jedis connection) {
         return connection.xlen(key);
@@ -2117,7 +2439,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> xrange(final byte[] key, final byte[] start, final byte[] end, final long count) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.xrange(key, start, end, count);
@@ -2127,7 +2449,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> xrevrange(final byte[] key, final byte[] end, final byte[] start, final int count) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.xrevrange(key, end, start, count);
@@ -2234,7 +2556,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
   @Override
   public List<byte[]> xpending(final byte[] key, final byte[] groupname, final byte[] start, final byte[] end, 
       final int count, final byte[] consumername) {
-    return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts) {
+    return new JedisClusterReadCommand<List<byte[]>>(connectionHandler, maxAttempts) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.xpending(key, groupname, start, end, count, consumername);
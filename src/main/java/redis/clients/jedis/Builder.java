@@ -2,4 +2,12 @@ package redis.clients.jedis;
 
 public abstract class Builder<T> {
   public abstract T build(Object data);
+
+  /**
+   * Returns a new visitor producing the same result as {@link #build(Object)} straight from the
+   * parsed reply, without the intermediate object tree, or null if this builder has none.
+   */
+  public ReplyVisitor<T> visitor() {
+    return null;
+  }
 }
@@ -16,6 +16,9 @@ public final class BuilderFactory {
   public static final Builder<Double> DOUBLE = new Builder<Double>() {
     @Override
     public Double build(Object data) {
+      if (data instanceof Double) {
+        return (Double) data;
+      }
       String string = STRING.build(data);
       if (string == null) return null;
       try {
@@ -35,6 +38,9 @@ public final class BuilderFactory {
   public static final Builder<Boolean> BOOLEAN = new Builder<Boolean>() {
     @Override
     public Boolean build(Object data) {
+      if (data instanceof Boolean) {
+        return (Boolean) data;
+      }
       return ((Long) data) == 1;
     }
 
@@ -118,6 +124,28 @@ public final class BuilderFactory {
       return hash;
     }
 
+    @Override
+    public ReplyVisitor<Map<String, String>> visitor() {
+      return new PairsVisitor<Map<String, String>>() {
+        private Map<String, String> hash;
+
+        @Override
+        void start(final int pairs) {
+          hash = new HashMap<>(pairs, 1);
+        }
+
+        @Override
+        void pair(final byte[] first, final byte[] second) {
+          hash.put(SafeEncoder.encode(first), SafeEncoder.encode(second));
+        }
+
+        @Override
+        public Map<String, String> result() {
+          return hash;
+        }
+      };
+    }
+
     @Override
     public String toString() {
       return "Map<String, String>";
@@ -229,6 +257,27 @@ public final class BuilderFactory {
       return hash;
     }
 
+    @Override
+    public ReplyVisitor<Map<byte[], byte[]>> visitor() {
+      return new PairsVisitor<Map<byte[], byte[]>>() {
+        private final Map<byte[], byte[]> hash = new JedisByteHashMap();
+
+        @Override
+        void start(final int pairs) {
+        }
+
+        @Override
+        void pair(final byte[] first, final byte[] second) {
+          hash.put(first, second);
+        }
+
+        @Override
+        public Map<byte[], byte[]> result() {
+          return hash;
+        }
+      };
+    }
+
     @Override
     public String toString() {
       return "Map<byte[], byte[]>";
@@ -269,15 +318,54 @@ public final class BuilderFactory {
       if (null == data) {
         return null;
       }
-      List<byte[]> l = (List<byte[]>) data;
+      List<Object> l = (List<Object>) data;
+      if (!l.isEmpty() && l.get(0) instanceof List) {
+        // RESP3 sends each member and its score as a pair
+        final Set<Tuple> result = new LinkedHashSet<>(l.size(), 1);
+        for (Object pair : l) {
+          result.add(TUPLE.build(pair));
+        }
+        return result;
+      }
       final Set<Tuple> result = new LinkedHashSet<>(l.size()/2, 1);
-      Iterator<byte[]> iterator = l.iterator();
+      Iterator<Object> iterator = l.iterator();
       while (iterator.hasNext()) {
-        result.add(new Tuple(iterator.next(), DOUBLE.build(iterator.next())));
+        result.add(new Tuple((byte[]) iterator.next(), DOUBLE.build(iterator.next())));
       }
       return result;
     }
 
+    @Override
+    public ReplyVisitor<Set<Tuple>> visitor() {
+      return new PairsVisitor<Set<Tuple>>() {
+        private Set<Tuple> result;
+
+        @Override
+        public void nil() {
+        }
+
+        @Override
+        void start(final int pairs) {
+          result = new LinkedHashSet<>(pairs, 1);
+        }
+
+        @Override
+        void pair(final byte[] first, final byte[] second) {
+          result.add(new Tuple(first, DOUBLE.build(second)));
+        }
+
+        @Override
+        void pair(final byte[] first, final double second) {
+          result.add(new Tuple(first, second));
+        }
+
+        @Override
+        public Set<Tuple> result() {
+          return result;
+        }
+      };
+    }
+
     @Override
     public String toString() {
       return "ZSet<Tuple>";
@@ -289,11 +377,11 @@ public final class BuilderFactory {
     @Override
     @SuppressWarnings("unchecked")
     public Tuple build(Object data) {
-      List<byte[]> l = (List<byte[]>) data; // never null
+      List<Object> l = (List<Object>) data; // never null
       if (l.isEmpty()) {
         return null;
       }
-      return new Tuple(l.get(0), DOUBLE.build(l.get(1)));
+      return new Tuple((byte[]) l.get(0), DOUBLE.build(l.get(1)));
     }
 
     @Override
@@ -589,6 +677,62 @@ public final class BuilderFactory {
       return responses;
     }
 
+    @Override
+    public ReplyVisitor<List<StreamEntry>> visitor() {
+      return new ReplyVisitor<List<StreamEntry>>() {
+        // 1 inside the list of entries, 2 inside an entry, 3 inside its fields
+        private int depth = 0;
+        private List<StreamEntry> responses;
+        private StreamEntryID entryID;
+        private Map<String, String> fields;
+        private String field;
+
+        @Override
+        public void arrayStart(final int size) {
+          depth++;
+          if (depth == 1) {
+            responses = new ArrayList<>(size);
+          } else if (depth == 3) {
+            fields = new HashMap<>(size / 2);
+          }
+        }
+
+        @Override
+        public void arrayEnd() {
+          if (depth == 2) {
+            responses.add(new StreamEntry(entryID, fields));
+            entryID = null;
+            fields = null;
+          }
+          depth--;
+        }
+
+        @Override
+        public void bulk(final byte[] value) {
+          if (depth == 2) {
+            entryID = new StreamEntryID(SafeEncoder.encode(value));
+          } else if (field == null) {
+            field = SafeEncoder.encode(value);
+          } else {
+            fields.put(field, SafeEncoder.encode(value));
+            field = null;
+          }
+        }
+
+        @Override
+        public void nil() {
+          if (depth != 0) {
+            super.nil();
+          }
+        }
+
+        @Override
+        public List<StreamEntry> result() {
+          return responses;
+        }
+      };
+    }
+
     @Override
     public String toString() {
       return "List<StreamEntry>";
@@ -803,6 +947,58 @@ public final class BuilderFactory {
 
 
 
+  /**
+   * Visits a flat array of pairs, such as field and value or member and score, a RESP3 map, or an
+   * array of two element arrays as RESP3 sends member and score pairs.
+   */
+  private abstract static class PairsVisitor<T> extends ReplyVisitor<T> {
+    private byte[] first;
+    private int depth;
+
+    @Override
+    public void arrayStart(final int size) {
+      if (depth++ == 0) {
+        start(size / 2);
+      }
+    }
+
+    @Override
+    public void arrayEnd() {
+      depth--;
+    }
+
+    @Override
+    public void bulk(final byte[] value) {
+      if (first == null) {
+        first = value;
+      } else {
+        pair(first, value);
+        first = null;
+      }
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+      if (first == null) {
+        super.doubleValue(value);
+      } else {
+        pair(first, value);
+        first = null;
+      }
+    }
+
+    abstract void start(int pairs);
+
+    abstract void pair(byte[] first, byte[] second);
+
+    /**
+     * Pair whose second element was sent as a RESP3 double.
+     */
+    void pair(final byte[] first, final double second) {
+      pair(first, Protocol.toByteArray(second));
+    }
+  }
+
   private BuilderFactory() {
     throw new InstantiationError( "Must not instantiate this class" );
   }
@@ -0,0 +1,201 @@
+package redis.clients.jedis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.RedisOutputStream;
+
+/**
+ * Command argument whose content is written to the connection as the command is sent, rather than
+ * materialized as a byte array first. This allows large values to be uploaded straight from a
+ * file, a buffer or a stream. When the connection socket is backed by a channel, as created by
+ * {@link ChannelJedisSocketFactory}, file and direct buffer contents are handed to the channel
+ * directly and never copied to the heap.
+ * <p>
+ * Sources created from a stream can only be sent once. Buffer and file sources do not change the
+ * position of the buffer or channel and can be sent again.
+ */
+public abstract class BulkSource {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  BulkSource() {
+  }
+
+  public static BulkSource of(final byte[] value) {
+    return new ByteArraySource(value);
+  }
+
+  /**
+   * @param in stream providing at least {@code length} bytes; it is not closed once read
+   * @param length number of bytes read from the stream
+   */
+  public static BulkSource of(final InputStream in, final long length) {
+    return new InputStreamSource(in, length);
+  }
+
+  /**
+   * @param buffer buffer whose remaining bytes are sent
+   */
+  public static BulkSource of(final ByteBuffer buffer) {
+    return new ByteBufferSource(buffer);
+  }
+
+  /**
+   * @param channel channel whose whole content is sent
+   */
+  public static BulkSource of(final FileChannel channel) {
+    try {
+      return new FileChannelSource(channel, 0, channel.size());
+    } catch (IOException e) {
+      throw new JedisConnectionException(e);
+    }
+  }
+
+  public static BulkSource of(final FileChannel channel, final long position, final long length) {
+    return new FileChannelSource(channel, position, length);
+  }
+
+  public abstract long length();
+
+  /**
+   * Writes the content of this source.
+   * @param os stream of the connection
+   * @param channel channel of the connection socket, or null if there is none; the stream must be
+   *          flushed before writing to it
+   */
+  abstract void writeTo(RedisOutputStream os, WritableByteChannel channel) throws IOException;
+
+  private static final class ByteArraySource extends BulkSource {
+    private final byte[] value;
+
+    ByteArraySource(final byte[] value) {
+      this.value = value;
+    }
+
+    @Override
+    public long length() {
+      return value.length;
+    }
+
+    @Override
+    void writeTo(final RedisOutputStream os, final WritableByteChannel channel) throws IOException {
+      os.write(value);
+    }
+  }
+
+  private static final class InputStreamSource extends BulkSource {
+    private final InputStream in;
+    private final long length;
+
+    InputStreamSource(final InputStream in, final long length) {
+      this.in = in;
+      this.length = length;
+    }
+
+    @Override
+    public long length() {
+      return length;
+    }
+
+    @Override
+    void writeTo(final RedisOutputStream os, final WritableByteChannel channel) throws IOException {
+      final byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, length)];
+      long remaining = length;
+      while (remaining > 0) {
+        final int read = in.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+        if (read == -1) {
+          // the command cannot be completed anymore, so the connection has to be dropped
+          throw new JedisConnectionException("Stream ended after " + (length - remaining)
+              + " of " + length + " bytes");
+        }
+        os.write(chunk, 0, read);
+        remaining -= read;
+      }
+    }
+  }
+
+  private static final class ByteBufferSource extends BulkSource {
+    private final ByteBuffer buffer;
+
+    ByteBufferSource(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public long length() {
+      return buffer.remaining();
+    }
+
+    @Override
+    void writeTo(final RedisOutputStream os, final WritableByteChannel channel) throws IOException {
+      final ByteBuffer content = buffer.duplicate();
+      if (content.hasArray()) {
+        os.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+      } else if (channel != null) {
+        os.flush();
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+      } else {
+        final byte[] chunk = new byte[Math.min(CHUNK_SIZE, content.remaining())];
+        while (content.hasRemaining()) {
+          final int length = Math.min(chunk.length, content.remaining());
+          content.get(chunk, 0, length);
+          os.write(chunk, 0, length);
+        }
+      }
+    }
+  }
+
+  private static final class FileChannelSource extends BulkSource {
+    private final FileChannel file;
+    private final long position;
+    private final long length;
+
+    FileChannelSource(final FileChannel file, final long position, final long length) {
+      this.file = file;
+      this.position = position;
+      this.length = length;
+    }
+
+    @Override
+    public long length() {
+      return length;
+    }
+
+    @Override
+    void writeTo(final RedisOutputStream os, final WritableByteChannel channel) throws IOException {
+      final long end = position + length;
+      long current = position;
+      if (channel != null) {
+        os.flush();
+        while (current < end) {
+          final long transferred = file.transferTo(current, end - current, channel);
+          if (transferred <= 0 && current >= file.size()) {
+            throw new JedisConnectionException("File ended after " + (current - position)
+                + " of " + length + " bytes");
+          }
+          current += transferred;
+        }
+      } else {
+        final ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, length));
+        while (current < end) {
+          chunk.clear();
+          chunk.limit((int) Math.min(chunk.capacity(), end - current));
+          final int read = file.read(chunk, current);
+          if (read == -1) {
+            throw new JedisConnectionException("File ended after " + (current - position)
+                + " of " + length + " bytes");
+          }
+          os.write(chunk.array(), 0, read);
+          current += read;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Pipeline for write heavy jobs whose replies are mostly of no interest. Commands do not return a
+ * {@link Response}: a {@link ReplyCallback} can be given to receive the reply as it is read, and
+ * the errors of the commands sent without a callback are returned by {@link #sync()}. Apart from
+ * the slots of the callbacks, which are reused from one sync to the next, nothing is kept per
+ * command and replies are not built by a {@link Builder}.
+ * <p>
+ * The connection must not be used for anything else until the pipeline is synced or closed.
+ */
+public class CallbackPipeline implements Closeable {
+
+  private static final ReplyCallback[] NO_CALLBACKS = new ReplyCallback[0];
+
+  /**
+   * Receives the reply to a command, from the thread syncing the pipeline.
+   */
+  public interface ReplyCallback {
+    /**
+     * @param reply the reply as read by {@link Protocol#read(redis.clients.jedis.util.RedisInputStream)},
+     *          such as a Long or a byte[], or the {@link JedisDataException} of an error reply
+     */
+    void onReply(Object reply);
+  }
+
+  private final Client client;
+  private ReplyCallback[] callbacks = NO_CALLBACKS;
+  private int pending;
+
+  public CallbackPipeline(final Jedis jedis) {
+    this.client = jedis.getClient();
+  }
+
+  public void set(final String key, final String value) {
+    set(key, value, null);
+  }
+
+  public void set(final String key, final String value, final ReplyCallback callback) {
+    client.set(key, value);
+    sent(callback);
+  }
+
+  public void set(final byte[] key, final byte[] value) {
+    set(key, value, null);
+  }
+
+  public void set(final byte[] key, final byte[] value, final ReplyCallback callback) {
+    client.set(key, value);
+    sent(callback);
+  }
+
+  public void expire(final String key, final int seconds) {
+    expire(key, seconds, null);
+  }
+
+  public void expire(final String key, final int seconds, final ReplyCallback callback) {
+    client.expire(key, seconds);
+    sent(callback);
+  }
+
+  public void expire(final byte[] key, final int seconds) {
+    expire(key, seconds, null);
+  }
+
+  public void expire(final byte[] key, final int seconds, final ReplyCallback callback) {
+    client.expire(key, seconds);
+    sent(callback);
+  }
+
+  public void del(final String key) {
+    del(key, null);
+  }
+
+  public void del(final String key, final ReplyCallback callback) {
+    client.del(key);
+    sent(callback);
+  }
+
+  public void del(final byte[] key) {
+    del(key, null);
+  }
+
+  public void del(final byte[] key, final ReplyCallback callback) {
+    client.del(key);
+    sent(callback);
+  }
+
+  public void incrBy(final String key, final long increment) {
+    incrBy(key, increment, null);
+  }
+
+  public void incrBy(final String key, final long increment, final ReplyCallback callback) {
+    client.incrBy(key, increment);
+    sent(callback);
+  }
+
+  public void hset(final String key, final String field, final String value) {
+    hset(key, field, value, null);
+  }
+
+  public void hset(final String key, final String field, final String value,
+      final ReplyCallback callback) {
+    client.hset(key, field, value);
+    sent(callback);
+  }
+
+  public void hset(final byte[] key, final byte[] field, final byte[] value) {
+    hset(key, field, value, null);
+  }
+
+  public void hset(final byte[] key, final byte[] field, final byte[] value,
+      final ReplyCallback callback) {
+    client.hset(key, field, value);
+    sent(callback);
+  }
+
+  public void hincrBy(final String key, final String field, final long value) {
+    hincrBy(key, field, value, null);
+  }
+
+  public void hincrBy(final String key, final String field, final long value,
+      final ReplyCallback callback) {
+    client.hincrBy(key, field, value);
+    sent(callback);
+  }
+
+  public void zadd(final String key, final double score, final String member) {
+    zadd(key, score, member, null);
+  }
+
+  public void zadd(final String key, final double score, final String member,
+      final ReplyCallback callback) {
+    client.zadd(key, score, member);
+    sent(callback);
+  }
+
+  public void zadd(final byte[] key, final double score, final byte[] member) {
+    zadd(key, score, member, null);
+  }
+
+  public void zadd(final byte[] key, final double score, final byte[] member,
+      final ReplyCallback callback) {
+    client.zadd(key, score, member);
+    sent(callback);
+  }
+
+  public void sadd(final String key, final String member) {
+    sadd(key, member, null);
+  }
+
+  public void sadd(final String key, final String member, final ReplyCallback callback) {
+    client.sadd(key, member);
+    sent(callback);
+  }
+
+  public void rpush(final String key, final String value) {
+    rpush(key, value, null);
+  }
+
+  public void rpush(final String key, final String value, final ReplyCallback callback) {
+    client.rpush(key, value);
+    sent(callback);
+  }
+
+  /**
+   * Sends any command, as {@link Jedis#sendCommand(ProtocolCommand, byte[]...)} does.
+   * @param callback receives the reply, or null
+   */
+  public void sendCommand(final ReplyCallback callback, final ProtocolCommand cmd,
+      final byte[]... args) {
+    client.sendCommand(cmd, args);
+    sent(callback);
+  }
+
+  public void sendCommand(final ReplyCallback callback, final ProtocolCommand cmd,
+      final String... args) {
+    client.sendCommand(cmd, args);
+    sent(callback);
+  }
+
+  /**
+   * @return number of commands sent since the last sync
+   */
+  public int getPendingCount() {
+    return pending;
+  }
+
+  private void sent(final ReplyCallback callback) {
+    if (callback != null) {
+      if (pending >= callbacks.length) {
+        callbacks = Arrays.copyOf(callbacks, Math.max(16, callbacks.length * 2));
+      }
+      callbacks[pending] = callback;
+    } else if (pending < callbacks.length) {
+      callbacks[pending] = null;
+    }
+    pending++;
+  }
+
+  /**
+   * Reads the replies to all the commands sent, handing them to their callbacks. If a callback
+   * throws, the first exception is rethrown once all the replies have been read.
+   * @return the errors replied to the commands sent without a callback, in the order they were sent
+   */
+  public List<JedisDataException> sync() {
+    List<JedisDataException> errors = Collections.emptyList();
+    RuntimeException callbackFailure = null;
+    final int count = pending;
+    pending = 0;
+    for (int i = 0; i < count; i++) {
+      Object reply;
+      try {
+        reply = client.getOne();
+      } catch (JedisDataException e) {
+        reply = e;
+      }
+      final ReplyCallback callback = i < callbacks.length ? callbacks[i] : null;
+      if (callback != null) {
+        callbacks[i] = null;
+        try {
+          callback.onReply(reply);
+        } catch (RuntimeException e) {
+          // the remaining replies are still read, so that the connection stays usable
+          if (callbackFailure == null) {
+            callbackFailure = e;
+          }
+        }
+      } else if (reply instanceof JedisDataException) {
+        if (errors.isEmpty()) {
+          errors = new ArrayList<>();
+        }
+        errors.add((JedisDataException) reply);
+      }
+    }
+    if (callbackFailure != null) {
+      throw callbackFailure;
+    }
+    return errors;
+  }
+
+  @Override
+  public void close() {
+    sync();
+  }
+}
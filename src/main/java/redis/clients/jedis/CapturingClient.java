@@ -0,0 +1,53 @@
+package redis.clients.jedis;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+
+/**
+ * Client recording the command built by the {@link BinaryClient} helpers instead of writing it, so
+ * that callers not bound to a single {@link Connection} can reuse the same argument encoding. The
+ * recorded command is kept per thread, which makes a single instance safe to share.
+ */
+class CapturingClient extends Client {
+
+  static final class Captured {
+    ProtocolCommand command;
+    byte[][] args;
+  }
+
+  private final ThreadLocal<Captured> captured = new ThreadLocal<Captured>() {
+    @Override
+    protected Captured initialValue() {
+      return new Captured();
+    }
+  };
+
+  @Override
+  public void sendCommand(final ProtocolCommand cmd, final byte[]... args) {
+    Captured current = captured.get();
+    current.command = cmd;
+    current.args = args;
+  }
+
+  @Override
+  public void connect() {
+    // nothing is ever written through this client
+  }
+
+  /**
+   * @return the command last recorded by the calling thread; its fields must be read before the
+   *         same thread records another command
+   */
+  Captured take() {
+    Captured current = captured.get();
+    if (current.command == null) {
+      throw new IllegalStateException("No command was recorded");
+    }
+    return current;
+  }
+
+  void clear() {
+    Captured current = captured.get();
+    current.command = null;
+    current.args = null;
+  }
+}
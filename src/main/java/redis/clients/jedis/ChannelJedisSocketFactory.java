@@ -0,0 +1,97 @@
+package redis.clients.jedis;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+
+/**
+ * JedisSocketFactory creating sockets backed by a {@link SocketChannel}. The returned sockets can be
+ * used by a plain {@link Connection} as well as by a {@link NioConnection}, which switches the
+ * underlying channel to non-blocking mode and hands it to a {@link NioEventLoop}.
+ */
+public class ChannelJedisSocketFactory implements JedisSocketFactory {
+
+  private String host;
+  private int port;
+  private int connectionTimeout;
+  private int soTimeout;
+
+  public ChannelJedisSocketFactory(String host, int port) {
+    this(host, port, Protocol.DEFAULT_TIMEOUT, Protocol.DEFAULT_TIMEOUT);
+  }
+
+  public ChannelJedisSocketFactory(String host, int port, int connectionTimeout, int soTimeout) {
+    this.host = host;
+    this.port = port;
+    this.connectionTimeout = connectionTimeout;
+    this.soTimeout = soTimeout;
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    SocketChannel channel = null;
+    try {
+      channel = SocketChannel.open();
+      Socket socket = channel.socket();
+      socket.setReuseAddress(true);
+      socket.setKeepAlive(true);
+      socket.setTcpNoDelay(true);
+      socket.setSoLinger(true, 0);
+
+      socket.connect(new InetSocketAddress(getHost(), getPort()), getConnectionTimeout());
+      socket.setSoTimeout(getSoTimeout());
+      return socket;
+    } catch (IOException ex) {
+      if (channel != null) {
+        channel.close();
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public String getDescription() {
+    return host + ":" + port;
+  }
+
+  @Override
+  public String getHost() {
+    return host;
+  }
+
+  @Override
+  public void setHost(String host) {
+    this.host = host;
+  }
+
+  @Override
+  public int getPort() {
+    return port;
+  }
+
+  @Override
+  public void setPort(int port) {
+    this.port = port;
+  }
+
+  @Override
+  public int getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  @Override
+  public void setConnectionTimeout(int connectionTimeout) {
+    this.connectionTimeout = connectionTimeout;
+  }
+
+  @Override
+  public int getSoTimeout() {
+    return soTimeout;
+  }
+
+  @Override
+  public void setSoTimeout(int soTimeout) {
+    this.soTimeout = soTimeout;
+  }
+}
@@ -1,6 +1,6 @@
 package redis.clients.jedis;
 
-import static redis.clients.jedis.Protocol.toByteArray;
+import static redis.clients.jedis.Protocol.toArgument;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -546,7 +546,7 @@ public class Client extends BinaryClient implements Commands {
 
   @Override
   public void zcount(final String key, final double min, final double max) {
-    zcount(SafeEncoder.encode(key), toByteArray(min), toByteArray(max));
+    zcount(SafeEncoder.encode(key), toArgument(min), toArgument(max));
   }
 
   @Override
@@ -556,7 +556,7 @@ public class Client extends BinaryClient implements Commands {
 
   @Override
   public void zrangeByScore(final String key, final double min, final double max) {
-    zrangeByScore(SafeEncoder.encode(key), toByteArray(min), toByteArray(max));
+    zrangeByScore(SafeEncoder.encode(key), toArgument(min), toArgument(max));
   }
 
   @Override
@@ -567,24 +567,24 @@ public class Client extends BinaryClient implements Commands {
   @Override
   public void zrangeByScore(final String key, final double min, final double max, final int offset,
       final int count) {
-    zrangeByScore(SafeEncoder.encode(key), toByteArray(min), toByteArray(max), offset, count);
+    zrangeByScore(SafeEncoder.encode(key), toArgument(min), toArgument(max), offset, count);
   }
 
   @Override
   public void zrangeByScoreWithScores(final String key, final double min, final double max) {
-    zrangeByScoreWithScores(SafeEncoder.encode(key), toByteArray(min), toByteArray(max));
+    zrangeByScoreWithScores(SafeEncoder.encode(key), toArgument(min), toArgument(max));
   }
 
   @Override
   public void zrangeByScoreWithScores(final String key, final double min, final double max,
       final int offset, final int count) {
-    zrangeByScoreWithScores(SafeEncoder.encode(key), toByteArray(min), toByteArray(max), offset,
+    zrangeByScoreWithScores(SafeEncoder.encode(key), toArgument(min), toArgument(max), offset,
       count);
   }
 
   @Override
   public void zrevrangeByScore(final String key, final double max, final double min) {
-    zrevrangeByScore(SafeEncoder.encode(key), toByteArray(max), toByteArray(min));
+    zrevrangeByScore(SafeEncoder.encode(key), toArgument(max), toArgument(min));
   }
 
   @Override
@@ -615,7 +615,7 @@ public class Client extends BinaryClient implements Commands {
   @Override
   public void zrevrangeByScore(final String key, final double max, final double min,
       final int offset, final int count) {
-    zrevrangeByScore(SafeEncoder.encode(key), toByteArray(max), toByteArray(min), offset, count);
+    zrevrangeByScore(SafeEncoder.encode(key), toArgument(max), toArgument(min), offset, count);
   }
 
   @Override
@@ -627,7 +627,7 @@ public class Client extends BinaryClient implements Commands {
 
   @Override
   public void zrevrangeByScoreWithScores(final String key, final double max, final double min) {
-    zrevrangeByScoreWithScores(SafeEncoder.encode(key), toByteArray(max), toByteArray(min));
+    zrevrangeByScoreWithScores(SafeEncoder.encode(key), toArgument(max), toArgument(min));
   }
 
   @Override
@@ -639,7 +639,7 @@ public class Client extends BinaryClient implements Commands {
   @Override
   public void zrevrangeByScoreWithScores(final String key, final double max, final double min,
       final int offset, final int count) {
-    zrevrangeByScoreWithScores(SafeEncoder.encode(key), toByteArray(max), toByteArray(min), offset,
+    zrevrangeByScoreWithScores(SafeEncoder.encode(key), toArgument(max), toArgument(min), offset,
       count);
   }
 
@@ -657,7 +657,7 @@ public class Client extends BinaryClient implements Commands {
 
   @Override
   public void zremrangeByScore(final String key, final double min, final double max) {
-    zremrangeByScore(SafeEncoder.encode(key), toByteArray(min), toByteArray(max));
+    zremrangeByScore(SafeEncoder.encode(key), toArgument(min), toArgument(max));
   }
 
   @Override
@@ -820,11 +820,11 @@ public class Client extends BinaryClient implements Commands {
   }
 
   public void eval(final String script, final int keyCount, final String... params) {
-    eval(SafeEncoder.encode(script), toByteArray(keyCount), SafeEncoder.encodeMany(params));
+    eval(SafeEncoder.encode(script), toArgument(keyCount), SafeEncoder.encodeMany(params));
   }
 
   public void evalsha(final String sha1, final int keyCount, final String... params) {
-    evalsha(SafeEncoder.encode(sha1), toByteArray(keyCount), SafeEncoder.encodeMany(params));
+    evalsha(SafeEncoder.encode(sha1), toArgument(keyCount), SafeEncoder.encodeMany(params));
   }
 
   public void scriptExists(final String... sha1) {
@@ -963,7 +963,7 @@ public class Client extends BinaryClient implements Commands {
   public void cluster(final String subcommand, final int... args) {
     final byte[][] arg = new byte[args.length + 1][];
     for (int i = 1; i < arg.length; i++) {
-      arg[i] = toByteArray(args[i - 1]);
+      arg[i] = toArgument(args[i - 1]);
     }
     arg[0] = SafeEncoder.encode(subcommand);
     cluster(arg);
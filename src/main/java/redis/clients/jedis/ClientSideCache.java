@@ -0,0 +1,269 @@
+package redis.clients.jedis;
+
+import static redis.clients.jedis.Protocol.Keyword.MESSAGE;
+import static redis.clients.jedis.Protocol.Keyword.SUBSCRIBE;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Near cache of read replies, kept coherent through the invalidation messages the server sends
+ * for keys read by tracking connections (CLIENT TRACKING, Redis 6 or later).
+ * <p>
+ * The cache keeps a dedicated connection subscribed to the invalidation channel, and connections
+ * using the cache turn tracking on with this connection as the target of their invalidations. A
+ * {@link Jedis} uses the cache once it is set with {@link Jedis#setClientSideCache(ClientSideCache)},
+ * which {@link JedisPool#setClientSideCache(ClientSideCache)} does for all the connections of a
+ * pool. While the invalidation connection is down nothing is cached and reads go to the server.
+ * <p>
+ * Invalidations are received asynchronously: right after a key is modified, even through the same
+ * connection, a read may still return the previous value for the time it takes the invalidation
+ * to arrive. Keys are evicted in least recently used order once the maximum size is reached.
+ * <p>
+ * Replies are cached per database. Invalidations do not tell the database of the key, so they
+ * evict the key from all the databases.
+ */
+public class ClientSideCache implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(ClientSideCache.class.getName());
+
+  private static final byte[] INVALIDATE_CHANNEL = SafeEncoder.encode("__redis__:invalidate");
+  private static final long RECONNECT_DELAY = 1000;
+
+  /**
+   * Returned by {@link #get(int, String, Object)} for a reply that is not cached, since null replies are
+   * cached too.
+   */
+  static final Object MISS = new Object();
+
+  private final JedisSocketFactory jedisSocketFactory;
+  private final String user;
+  private final String password;
+
+  // keys to the replies of the commands read them, guarded by this
+  private final Map<Key, Map<Object, Object>> entries;
+  // databases with cached keys, guarded by this
+  private final Set<Integer> dbs = new HashSet<>();
+  // number of invalidations so far, guarded by this
+  private long invalidations;
+
+  private volatile long redirectId = -1;
+  private volatile Jedis invalidationConnection;
+  private volatile boolean closed;
+  private final Thread listener;
+
+  public ClientSideCache(final HostAndPort hostAndPort, final String password,
+      final int maximumSize) {
+    this(new DefaultJedisSocketFactory(hostAndPort.getHost(), hostAndPort.getPort(),
+        Protocol.DEFAULT_TIMEOUT, Protocol.DEFAULT_TIMEOUT, false, null, null, null), null, password,
+        maximumSize);
+  }
+
+  /**
+   * @param jedisSocketFactory creates the connection receiving invalidations, to the same server
+   *          as the connections using the cache
+   * @param maximumSize number of keys kept before the least recently used ones are evicted
+   */
+  public ClientSideCache(final JedisSocketFactory jedisSocketFactory, final String user,
+      final String password, final int maximumSize) {
+    this.jedisSocketFactory = jedisSocketFactory;
+    this.user = user;
+    this.password = password;
+    this.entries = new LinkedHashMap<Key, Map<Object, Object>>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Key, Map<Object, Object>> eldest) {
+        return size() > maximumSize;
+      }
+    };
+    listener = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        listen();
+      }
+    }, "jedis-client-side-cache");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  /**
+   * @return the client id of the connection receiving invalidations, or -1 while it is not
+   *         subscribed and the cache must not be used
+   */
+  public long getRedirectId() {
+    return redirectId;
+  }
+
+  /**
+   * @return number of keys with cached replies
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+    dbs.clear();
+    invalidations++;
+  }
+
+  /**
+   * @return the cached reply, or {@link #MISS}
+   */
+  synchronized Object get(final int db, final String key, final Object command) {
+    final Map<Object, Object> replies = entries.get(new Key(db, key));
+    if (replies == null || !replies.containsKey(command)) {
+      return MISS;
+    }
+    return replies.get(command);
+  }
+
+  /**
+   * @return the value to pass to {@link #put(int, String, Object, Object, long)}, taken before the read
+   *         is sent
+   */
+  synchronized long stamp() {
+    return invalidations;
+  }
+
+  /**
+   * Caches a reply unless an invalidation was received since the stamp was taken, in which case
+   * the reply may already be stale.
+   */
+  synchronized void put(final int db, final String key, final Object command, final Object reply,
+      final long stamp) {
+    if (stamp != invalidations || redirectId < 0) {
+      return;
+    }
+    final Key entry = new Key(db, key);
+    Map<Object, Object> replies = entries.get(entry);
+    if (replies == null) {
+      replies = new HashMap<>(4);
+      entries.put(entry, replies);
+      dbs.add(db);
+    }
+    replies.put(command, reply);
+  }
+
+  private synchronized void invalidate(final List<byte[]> keys) {
+    for (byte[] key : keys) {
+      final String name = SafeEncoder.encode(key);
+      for (Integer db : dbs) {
+        entries.remove(new Key(db, name));
+      }
+    }
+    invalidations++;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void listen() {
+    while (!closed) {
+      final Jedis jedis = new Jedis(jedisSocketFactory);
+      invalidationConnection = jedis;
+      try {
+        if (closed) {
+          return;
+        }
+        if (user != null) {
+          jedis.auth(user, password);
+        } else if (password != null) {
+          jedis.auth(password);
+        }
+        final long id = jedis.clientId();
+        final Client client = jedis.getClient();
+        client.setTimeoutInfinite();
+        client.subscribe(INVALIDATE_CHANNEL);
+        while (!closed) {
+          final List<Object> reply = client.getObjectMultiBulkReply();
+          final byte[] kind = (byte[]) reply.get(0);
+          if (Arrays.equals(SUBSCRIBE.raw, kind)) {
+            // replies read before the subscription may have missed their invalidation
+            invalidateAll();
+            redirectId = id;
+          } else if (Arrays.equals(MESSAGE.raw, kind)) {
+            final List<byte[]> keys = (List<byte[]>) reply.get(2);
+            if (keys == null) {
+              // the database was flushed
+              invalidateAll();
+            } else {
+              invalidate(keys);
+            }
+          }
+        }
+      } catch (JedisException e) {
+        if (!closed) {
+          log.warn("Invalidation connection to {} failed", jedisSocketFactory.getDescription(), e);
+        }
+      } finally {
+        redirectId = -1;
+        invalidateAll();
+        jedis.close();
+      }
+      if (!closed) {
+        try {
+          Thread.sleep(RECONNECT_DELAY);
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops receiving invalidations and empties the cache. Connections using it go to the server
+   * from then on.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    final Jedis jedis = invalidationConnection;
+    if (jedis != null) {
+      jedis.disconnect();
+    }
+    listener.interrupt();
+    try {
+      listener.join(Protocol.DEFAULT_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    redirectId = -1;
+    invalidateAll();
+  }
+
+  private static final class Key {
+    private final int db;
+    private final String key;
+
+    Key(final int db, final String key) {
+      this.db = db;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return db == other.db && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * db + key.hashCode();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package redis.clients.jedis;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Outcome of a command broadcast to the nodes of a cluster: the reply of every node which ran it,
+ * and the error of every node which did not, by node key.
+ */
+public class ClusterBroadcastResult<T> {
+
+  private final SortedMap<String, T> replies = new TreeMap<>();
+  private final SortedMap<String, JedisException> errors = new TreeMap<>();
+
+  void addReply(final String node, final T reply) {
+    replies.put(node, reply);
+  }
+
+  void addError(final String node, final JedisException error) {
+    errors.put(node, error);
+  }
+
+  /**
+   * @return the reply of every node which ran the command, by node key
+   */
+  public Map<String, T> getReplies() {
+    return Collections.unmodifiableMap(replies);
+  }
+
+  /**
+   * @return the error of every node which failed to run the command, by node key
+   */
+  public Map<String, JedisException> getErrors() {
+    return Collections.unmodifiableMap(errors);
+  }
+
+  public boolean isSuccessful() {
+    return errors.isEmpty();
+  }
+
+  /**
+   * @return the reply of every node, for aggregates which would be wrong with a node missing
+   * @throws JedisException the error of the first failed node, in node key order
+   */
+  public Map<String, T> getRepliesOrThrow() {
+    if (!errors.isEmpty()) {
+      throw errors.get(errors.firstKey());
+    }
+    return getReplies();
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterBroadcastResult{replies=" + replies + ", errors=" + errors + "}";
+  }
+}
@@ -0,0 +1,12 @@
+package redis.clients.jedis;
+
+/**
+ * Command run on every node of a cluster by
+ * {@link BinaryJedisCluster#broadcast(ClusterNodeCommand, boolean)}, as opposed to a
+ * {@link JedisClusterCommand} which runs on the node serving a slot. It is called concurrently,
+ * once per node.
+ */
+public abstract class ClusterNodeCommand<T> {
+
+  public abstract T execute(Jedis connection);
+}
@@ -0,0 +1,184 @@
+package redis.clients.jedis;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Health of a cluster node as seen by the commands sent to it: successes, failures and latency
+ * over the last {@value #WINDOW_SECONDS} seconds, and the state of its circuit breaker.
+ * <p>
+ * Once enabled, the breaker opens after a number of consecutive connection failures. Commands to
+ * the node then fail fast, without waiting for a connection timeout, until the open duration has
+ * elapsed. A single probe command is then let through: the breaker closes if it succeeds and opens
+ * again if it fails.
+ */
+public class ClusterNodeHealth {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  public static final int WINDOW_SECONDS = 10;
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(WINDOW_SECONDS);
+
+  // counts of the current and of the previous window, rolled over by the first record of a window
+  private final AtomicLong successes = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private volatile long previousSuccesses;
+  private volatile long previousFailures;
+  private volatile long windowStart = System.nanoTime();
+  private volatile long latencyNanos = -1;
+  // nanoTime values, meaningful once the matching flag is set
+  private volatile long lastSuccess;
+  private volatile long lastFailure;
+  private volatile boolean succeeded;
+  private volatile boolean failed;
+
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile State state = State.CLOSED;
+  // while not closed, when the next probe may go through
+  private final AtomicLong retryAt = new AtomicLong();
+
+  /**
+   * @return whether a command may be sent to the node, false while the breaker is open
+   */
+  boolean allowRequest(final long openNanos) {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    final long now = System.nanoTime();
+    final long at = retryAt.get();
+    // a probe whose outcome got lost, such as on an exhausted pool, is replaced after a while
+    if (now - at >= 0 && retryAt.compareAndSet(at, now + openNanos)) {
+      state = State.HALF_OPEN;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Records a reply of the node.
+   * @param nanos duration of the command, or -1 if it was not measured
+   */
+  void recordSuccess(final long nanos) {
+    final long now = System.nanoTime();
+    roll(now);
+    successes.incrementAndGet();
+    lastSuccess = now;
+    if (!succeeded) {
+      succeeded = true;
+    }
+    if (nanos >= 0) {
+      final long latency = latencyNanos;
+      latencyNanos = latency < 0 ? nanos : latency + (nanos - latency) / 8;
+    }
+    // read first, so that the hot path does not write shared state
+    if (consecutiveFailures.get() != 0) {
+      consecutiveFailures.set(0);
+    }
+    if (state != State.CLOSED) {
+      state = State.CLOSED;
+    }
+  }
+
+  /**
+   * Records a failure to reach the node.
+   * @param threshold consecutive failures opening the breaker, 0 to keep it closed
+   */
+  void recordFailure(final int threshold, final long openNanos) {
+    final long now = System.nanoTime();
+    roll(now);
+    failures.incrementAndGet();
+    lastFailure = now;
+    failed = true;
+    final int consecutive = consecutiveFailures.incrementAndGet();
+    if (state == State.HALF_OPEN || (threshold > 0 && consecutive >= threshold)) {
+      retryAt.set(now + openNanos);
+      state = State.OPEN;
+    }
+  }
+
+  private void roll(final long now) {
+    if (now - windowStart >= WINDOW_NANOS) {
+      synchronized (this) {
+        final long start = windowStart;
+        if (now - start >= WINDOW_NANOS) {
+          // a window with no record at all leaves nothing to remember
+          final boolean idle = now - start >= 2 * WINDOW_NANOS;
+          final long lastSuccesses = successes.getAndSet(0);
+          final long lastFailures = failures.getAndSet(0);
+          previousSuccesses = idle ? 0 : lastSuccesses;
+          previousFailures = idle ? 0 : lastFailures;
+          windowStart = now;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return commands the node replied to, over the current and the previous window
+   */
+  public long getSuccesses() {
+    roll(System.nanoTime());
+    return previousSuccesses + successes.get();
+  }
+
+  /**
+   * @return connection failures to the node, over the current and the previous window
+   */
+  public long getFailures() {
+    roll(System.nanoTime());
+    return previousFailures + failures.get();
+  }
+
+  /**
+   * @return smoothed duration of the commands to the node, in nanoseconds, or -1 if none was
+   *         measured yet
+   */
+  public long getLatencyNanos() {
+    return latencyNanos;
+  }
+
+  public int getConsecutiveFailures() {
+    return consecutiveFailures.get();
+  }
+
+  /**
+   * @return whether the node replied to a command within the given time
+   */
+  public boolean hasSucceededWithin(final long millis) {
+    return succeeded
+        && System.nanoTime() - lastSuccess <= TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  /**
+   * @return whether a connection to the node failed within the given time
+   */
+  public boolean hasFailedWithin(final long millis) {
+    return failed && System.nanoTime() - lastFailure <= TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  /**
+   * @return whether the breaker is closed and the node replied within the given time, with no
+   *         connection failure since
+   */
+  public boolean isHealthy(final long millis) {
+    if (state != State.CLOSED || !succeeded) {
+      return false;
+    }
+    final long last = lastSuccess;
+    return (!failed || last - lastFailure > 0)
+        && System.nanoTime() - last <= TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNodeHealth{state=" + state + ", successes=" + getSuccesses() + ", failures="
+        + getFailures() + ", latencyNanos=" + latencyNanos + "}";
+  }
+}
@@ -0,0 +1,162 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Iterates over the pages of one or more SCAN like iterations run concurrently, such as a SCAN on
+ * every master of a cluster. Pages are fetched ahead of the consumer by background threads, up to
+ * the number of prefetched pages, and handed over in the order they arrive: pages of different
+ * iterations are interleaved.
+ * <p>
+ * An error ends the iteration, being thrown by {@link #hasNext()}. The iterator must be closed
+ * when not consumed to the end, so that the background threads stop.
+ */
+public class ClusterScanIterator<T> implements Iterator<List<T>>, Closeable {
+
+  public static final int DEFAULT_PREFETCH_PAGES = 16;
+
+  /**
+   * One SCAN like iteration, fetching the page after a cursor.
+   */
+  abstract static class Source<T> {
+    abstract ScanResult<T> scan(String cursor);
+  }
+
+  private static final Object END = new Object();
+
+  private final BlockingQueue<Object> pages;
+  private final List<Future<?>> workers = new ArrayList<>();
+  private volatile boolean closed;
+  private List<T> next;
+  private boolean done;
+
+  /**
+   * @param parallelism number of iterations run at the same time
+   * @param prefetchPages number of pages fetched ahead of the consumer
+   */
+  ClusterScanIterator(final ExecutorService executor, final List<Source<T>> sources,
+      final int parallelism, final int prefetchPages) {
+    if (parallelism <= 0 || prefetchPages <= 0) {
+      throw new IllegalArgumentException("Parallelism and prefetched pages must be positive");
+    }
+    this.pages = new ArrayBlockingQueue<>(prefetchPages);
+    if (sources.isEmpty()) {
+      pages.add(END);
+      return;
+    }
+    final Queue<Source<T>> remaining = new ConcurrentLinkedQueue<>(sources);
+    final AtomicInteger unfinished = new AtomicInteger(sources.size());
+    final Runnable worker = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          Source<T> source;
+          while (!closed && (source = remaining.poll()) != null) {
+            scan(source);
+            if (unfinished.decrementAndGet() == 0) {
+              pages.put(END);
+            }
+          }
+        } catch (InterruptedException e) {
+          // closed
+        } catch (RuntimeException e) {
+          // the other iterations stop, the consumer throws the error once it reaches it
+          closed = true;
+          try {
+            pages.put(e);
+          } catch (InterruptedException ie) {
+            // closed
+          }
+        }
+      }
+    };
+    for (int i = 0; i < Math.min(parallelism, sources.size()); i++) {
+      workers.add(executor.submit(worker));
+    }
+  }
+
+  private void scan(final Source<T> source) throws InterruptedException {
+    String cursor = ScanParams.SCAN_POINTER_START;
+    do {
+      final ScanResult<T> result = source.scan(cursor);
+      if (!result.getResult().isEmpty()) {
+        pages.put(result.getResult());
+      }
+      cursor = result.getCursor();
+    } while (!closed && !ScanParams.SCAN_POINTER_START.equals(cursor));
+  }
+
+  /**
+   * Waits for the next page, unless all the iterations are over.
+   * @throws JedisException the error which ended the iteration
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean hasNext() {
+    if (next == null && !done) {
+      final Object page;
+      try {
+        page = pages.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JedisException("Interrupted while waiting for a scan page", e);
+      }
+      if (page == END) {
+        done = true;
+      } else if (page instanceof RuntimeException) {
+        done = true;
+        close();
+        throw (RuntimeException) page;
+      } else {
+        next = (List<T>) page;
+      }
+    }
+    return next != null;
+  }
+
+  /**
+   * @return the keys or elements of the next page, never empty
+   */
+  @Override
+  public List<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final List<T> page = next;
+    next = null;
+    return page;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Stops the background threads, the pages not consumed yet being dropped.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    done = true;
+    next = null;
+    for (Future<?> worker : workers) {
+      // interrupts a worker waiting for room in the queue, not one reading a page
+      worker.cancel(true);
+    }
+    pages.clear();
+  }
+}
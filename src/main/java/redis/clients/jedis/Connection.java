@@ -2,8 +2,10 @@ package redis.clients.jedis;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +30,10 @@ public class Connection implements Closeable {
   private RedisOutputStream outputStream;
   private RedisInputStream inputStream;
   private boolean broken = false;
+  private BulkReplyInputStream bulkReplyStream;
+  private PushListener pushListener;
+  // replies of commands sent ahead of the next one, dropped before its reply is read
+  private int ignoredReplies;
 
   public Connection() {
     this(Protocol.DEFAULT_HOST);
@@ -60,6 +66,19 @@ public class Connection implements Closeable {
     return socket;
   }
 
+  /**
+   * Sets the listener receiving the push messages a RESP3 server interleaves with replies. They
+   * are otherwise returned as the reply read next, like RESP2 subscription messages. The listener
+   * is called by the thread reading a reply and must not throw.
+   */
+  public void setPushListener(final PushListener pushListener) {
+    this.pushListener = pushListener;
+  }
+
+  public PushListener getPushListener() {
+    return pushListener;
+  }
+
   public int getConnectionTimeout() {
     return jedisSocketFactory.getConnectionTimeout();
   }
@@ -110,6 +129,7 @@ public class Connection implements Closeable {
   }
 
   public void sendCommand(final ProtocolCommand cmd, final byte[]... args) {
+    finishBulkReplyStream();
     try {
       connect();
       Protocol.sendCommand(outputStream, cmd, args);
@@ -136,6 +156,21 @@ public class Connection implements Closeable {
     }
   }
 
+  /**
+   * Sends a command whose arguments are streamed from their sources. File and buffer contents are
+   * transferred straight to the socket channel when there is one.
+   */
+  public void sendCommand(final ProtocolCommand cmd, final BulkSource... args) {
+    finishBulkReplyStream();
+    try {
+      connect();
+      Protocol.sendCommand(outputStream, socket.getChannel(), cmd, args);
+    } catch (JedisConnectionException ex) {
+      broken = true;
+      throw ex;
+    }
+  }
+
   public String getHost() {
     return jedisSocketFactory.getHost();
   }
@@ -156,6 +191,7 @@ public class Connection implements Closeable {
     if (!isConnected()) {
       try {
         socket = jedisSocketFactory.createSocket();
+        ignoredReplies = 0;
 
         outputStream = new RedisOutputStream(socket.getOutputStream());
         inputStream = new RedisInputStream(socket.getInputStream());
@@ -215,6 +251,45 @@ public class Connection implements Closeable {
     return (byte[]) readProtocolWithCheckingBroken();
   }
 
+  /**
+   * Reads a bulk reply straight into the given buffer, without allocating an array for it. If the
+   * value does not fit in the remaining space of the buffer it is skipped and a
+   * {@link JedisDataException} is thrown, leaving the buffer untouched.
+   * @return the length of the value, or -1 if the reply was nil
+   */
+  public int getBulkReplyInto(final ByteBuffer dst) {
+    flush();
+    final int len = readBulkReplyLengthWithCheckingBroken();
+    if (len == -1) {
+      return -1;
+    }
+    final BulkReplyInputStream payload = new BulkReplyInputStream(len);
+    if (len > dst.remaining()) {
+      payload.close();
+      throw new JedisDataException("Value of " + len + " bytes does not fit in the "
+          + dst.remaining() + " bytes remaining in the buffer");
+    }
+    payload.read(dst);
+    payload.close();
+    return len;
+  }
+
+  /**
+   * Returns a stream over the payload of a bulk reply, which is read from the socket as the stream
+   * is consumed. The stream must be read or closed before the next command is sent; any unread
+   * bytes are otherwise skipped at that point.
+   * @return the payload stream, or null if the reply was nil
+   */
+  public InputStream getBulkReplyStream() {
+    flush();
+    final int len = readBulkReplyLengthWithCheckingBroken();
+    if (len == -1) {
+      return null;
+    }
+    bulkReplyStream = new BulkReplyInputStream(len);
+    return bulkReplyStream;
+  }
+
   public Long getIntegerReply() {
     flush();
     return (Long) readProtocolWithCheckingBroken();
@@ -256,10 +331,49 @@ public class Connection implements Closeable {
     return readProtocolWithCheckingBroken();
   }
 
+  /**
+   * Reads a reply and builds it with the given builder, straight from the parsed elements when the
+   * builder provides a {@link Builder#visitor() visitor}.
+   */
+  public <T> T getReply(final Builder<T> builder) {
+    flush();
+    final ReplyVisitor<T> visitor = builder.visitor();
+    if (visitor == null) {
+      return builder.build(readProtocolWithCheckingBroken());
+    }
+    finishBulkReplyStream();
+    if (broken) {
+      throw new JedisConnectionException("Attempting to read from a broken connection");
+    }
+    try {
+      skipIgnoredReplies();
+      return Protocol.read(inputStream, visitor, pushListener);
+    } catch (JedisConnectionException exc) {
+      broken = true;
+      throw exc;
+    }
+  }
+
   public boolean isBroken() {
     return broken;
   }
 
+  /**
+   * Marks the connection as unusable, when replies are left unread on it, so that a pool destroys
+   * it rather than handing it out again.
+   */
+  void setBroken() {
+    broken = true;
+  }
+
+  /**
+   * @return number of bytes of commands written to the current socket, not counting file and
+   *         buffer contents a {@link BulkSource} transferred to its channel directly
+   */
+  long getWrittenBytes() {
+    return outputStream == null ? 0 : outputStream.getWrittenBytes();
+  }
+
   protected void flush() {
     try {
       outputStream.flush();
@@ -269,19 +383,64 @@ public class Connection implements Closeable {
     }
   }
 
+  /**
+   * Drops the reply to the last command sent, before the reply to the next command is read. This
+   * lets a command such as ASKING be flushed together with the command it applies to. All the
+   * ignored replies are dropped at the next read, so this only fits a connection on which a single
+   * command follows, not a pipeline.
+   */
+  void ignoreReply() {
+    ignoredReplies++;
+  }
+
+  private void skipIgnoredReplies() {
+    while (ignoredReplies > 0) {
+      ignoredReplies--;
+      try {
+        Protocol.read(inputStream, pushListener);
+      } catch (JedisDataException e) {
+        // the reply to the next command tells whether it went through
+      }
+    }
+  }
+
   protected Object readProtocolWithCheckingBroken() {
+    finishBulkReplyStream();
     if (broken) {
       throw new JedisConnectionException("Attempting to read from a broken connection");
     }
 
     try {
-      return Protocol.read(inputStream);
+      skipIgnoredReplies();
+      return Protocol.read(inputStream, pushListener);
     } catch (JedisConnectionException exc) {
       broken = true;
       throw exc;
     }
   }
 
+  private int readBulkReplyLengthWithCheckingBroken() {
+    finishBulkReplyStream();
+    if (broken) {
+      throw new JedisConnectionException("Attempting to read from a broken connection");
+    }
+
+    try {
+      skipIgnoredReplies();
+      return Protocol.readBulkReplyLength(inputStream, pushListener);
+    } catch (JedisConnectionException exc) {
+      broken = true;
+      throw exc;
+    }
+  }
+
+  private void finishBulkReplyStream() {
+    if (bulkReplyStream != null) {
+      bulkReplyStream.close();
+      bulkReplyStream = null;
+    }
+  }
+
   public List<Object> getMany(final int count) {
     flush();
     final List<Object> responses = new ArrayList<>(count);
@@ -294,4 +453,83 @@ public class Connection implements Closeable {
     }
     return responses;
   }
+
+  /**
+   * Payload of a bulk reply, read from the connection input stream. Closing it skips what was left
+   * unread and the trailing CRLF, which leaves the connection ready for the next reply.
+   */
+  private class BulkReplyInputStream extends InputStream {
+    private int remaining;
+    private boolean closed = false;
+
+    BulkReplyInputStream(final int length) {
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() {
+      if (remaining == 0 || closed) {
+        return -1;
+      }
+      try {
+        final int b = inputStream.readByte() & 0xFF;
+        remaining--;
+        return b;
+      } catch (JedisConnectionException exc) {
+        broken = true;
+        throw exc;
+      }
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (remaining == 0 || closed) {
+        return -1;
+      }
+      try {
+        final int read = inputStream.read(b, off, Math.min(len, remaining));
+        remaining -= read;
+        return read;
+      } catch (JedisConnectionException exc) {
+        broken = true;
+        throw exc;
+      }
+    }
+
+    void read(final ByteBuffer dst) {
+      try {
+        while (remaining > 0) {
+          remaining -= inputStream.read(dst, remaining);
+        }
+      } catch (JedisConnectionException exc) {
+        broken = true;
+        throw exc;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (broken) {
+        return;
+      }
+      try {
+        while (remaining > 0) {
+          remaining -= inputStream.skip(remaining);
+        }
+        // read 2 more bytes for the command delimiter
+        inputStream.readByte();
+        inputStream.readByte();
+      } catch (JedisConnectionException exc) {
+        broken = true;
+        throw exc;
+      }
+    }
+  }
 }
@@ -1,8 +1,12 @@
 package redis.clients.jedis;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +17,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
+import redis.clients.jedis.Protocol.Command;
 import redis.clients.jedis.commands.AdvancedJedisCommands;
 import redis.clients.jedis.commands.BasicCommands;
 import redis.clients.jedis.commands.ClusterCommands;
@@ -34,6 +39,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
     AdvancedJedisCommands, ScriptingCommands, BasicCommands, ClusterCommands, SentinelCommands, ModuleCommands {
 
   protected JedisPoolAbstract dataSource = null;
+  private ClientSideCache clientSideCache;
 
   public Jedis() {
     super();
@@ -181,8 +187,38 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   @Override
   public String get(final String key) {
     checkIsInMultiOrPipeline();
+    final ClientSideCache cache = trackingCache();
+    if (cache == null) {
+      client.get(key);
+      return client.getBulkReply();
+    }
+    final Object cached = cache.get(client.getDB(), key, Command.GET);
+    if (cached != ClientSideCache.MISS) {
+      return (String) cached;
+    }
+    final long stamp = startTracking(cache);
     client.get(key);
-    return client.getBulkReply();
+    final String value = client.getBulkReply();
+    cache.put(client.getDB(), key, Command.GET, value, stamp);
+    return value;
+  }
+
+  /**
+   * @see BinaryJedis#getInto(byte[], ByteBuffer)
+   */
+  public int getInto(final String key, final ByteBuffer dst) {
+    checkIsInMultiOrPipeline();
+    client.get(key);
+    return client.getBulkReplyInto(dst);
+  }
+
+  /**
+   * @see BinaryJedis#getAsStream(byte[])
+   */
+  public InputStream getAsStream(final String key) {
+    checkIsInMultiOrPipeline();
+    client.get(key);
+    return client.getBulkReplyStream();
   }
 
   /**
@@ -470,8 +506,37 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   @Override
   public List<String> mget(final String... keys) {
     checkIsInMultiOrPipeline();
-    client.mget(keys);
-    return client.getMultiBulkReply();
+    final ClientSideCache cache = trackingCache();
+    if (cache == null) {
+      client.mget(keys);
+      return client.getMultiBulkReply();
+    }
+    final List<String> values = new ArrayList<>(keys.length);
+    final List<Integer> missing = new ArrayList<>();
+    for (int i = 0; i < keys.length; i++) {
+      final Object cached = cache.get(client.getDB(), keys[i], Command.GET);
+      if (cached == ClientSideCache.MISS) {
+        missing.add(i);
+        values.add(null);
+      } else {
+        values.add((String) cached);
+      }
+    }
+    if (missing.isEmpty()) {
+      return values;
+    }
+    final String[] missingKeys = new String[missing.size()];
+    for (int i = 0; i < missingKeys.length; i++) {
+      missingKeys[i] = keys[missing.get(i)];
+    }
+    final long stamp = startTracking(cache);
+    client.mget(missingKeys);
+    final List<String> fetched = client.getMultiBulkReply();
+    for (int i = 0; i < missingKeys.length; i++) {
+      values.set(missing.get(i), fetched.get(i));
+      cache.put(client.getDB(), missingKeys[i], Command.GET, fetched.get(i), stamp);
+    }
+    return values;
   }
 
   /**
@@ -757,8 +822,39 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   @Override
   public String hget(final String key, final String field) {
     checkIsInMultiOrPipeline();
+    final ClientSideCache cache = trackingCache();
+    if (cache == null) {
+      client.hget(key, field);
+      return client.getBulkReply();
+    }
+    final List<Object> command = Arrays.<Object> asList(Command.HGET, field);
+    final Object cached = cache.get(client.getDB(), key, command);
+    if (cached != ClientSideCache.MISS) {
+      return (String) cached;
+    }
+    final long stamp = startTracking(cache);
     client.hget(key, field);
-    return client.getBulkReply();
+    final String value = client.getBulkReply();
+    cache.put(client.getDB(), key, command, value, stamp);
+    return value;
+  }
+
+  /**
+   * @see BinaryJedis#hgetInto(byte[], byte[], ByteBuffer)
+   */
+  public int hgetInto(final String key, final String field, final ByteBuffer dst) {
+    checkIsInMultiOrPipeline();
+    client.hget(key, field);
+    return client.getBulkReplyInto(dst);
+  }
+
+  /**
+   * @see BinaryJedis#hgetAsStream(byte[], byte[])
+   */
+  public InputStream hgetAsStream(final String key, final String field) {
+    checkIsInMultiOrPipeline();
+    client.hget(key, field);
+    return client.getBulkReplyStream();
   }
 
   /**
@@ -940,10 +1036,24 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
    * @return All the fields and values contained into a hash.
    */
   @Override
+  @SuppressWarnings("unchecked")
   public Map<String, String> hgetAll(final String key) {
     checkIsInMultiOrPipeline();
+    final ClientSideCache cache = trackingCache();
+    if (cache == null) {
+      client.hgetAll(key);
+      return client.getReply(BuilderFactory.STRING_MAP);
+    }
+    final Object cached = cache.get(client.getDB(), key, Command.HGETALL);
+    if (cached != ClientSideCache.MISS) {
+      // callers may modify the map they get
+      return new HashMap<>((Map<String, String>) cached);
+    }
+    final long stamp = startTracking(cache);
     client.hgetAll(key);
-    return BuilderFactory.STRING_MAP.build(client.getBinaryMultiBulkReply());
+    final Map<String, String> hash = client.getReply(BuilderFactory.STRING_MAP);
+    cache.put(client.getDB(), key, Command.HGETALL, new HashMap<>(hash), stamp);
+    return hash;
   }
 
   /**
@@ -1228,10 +1338,23 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
    * @return Multi bulk reply
    */
   @Override
+  @SuppressWarnings("unchecked")
   public Set<String> smembers(final String key) {
     checkIsInMultiOrPipeline();
+    final ClientSideCache cache = trackingCache();
+    if (cache == null) {
+      client.smembers(key);
+      final List<String> members = client.getMultiBulkReply();
+      return SetFromList.of(members);
+    }
+    final Object cached = cache.get(client.getDB(), key, Command.SMEMBERS);
+    if (cached != ClientSideCache.MISS) {
+      return SetFromList.of(new ArrayList<>((List<String>) cached));
+    }
+    final long stamp = startTracking(cache);
     client.smembers(key);
     final List<String> members = client.getMultiBulkReply();
+    cache.put(client.getDB(), key, Command.SMEMBERS, new ArrayList<>(members), stamp);
     return SetFromList.of(members);
   }
 
@@ -3536,6 +3659,42 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
     this.dataSource = jedisPool;
   }
 
+  /**
+   * Serves get, mget, hget, hgetAll and smembers from the given cache, turning tracking on for
+   * this connection so that the cache is told when the keys it read change.
+   * @param clientSideCache the cache, or null to read from the server again
+   */
+  public void setClientSideCache(final ClientSideCache clientSideCache) {
+    this.clientSideCache = clientSideCache;
+  }
+
+  public ClientSideCache getClientSideCache() {
+    return clientSideCache;
+  }
+
+  /**
+   * @return the cache to read from, or null if there is none or it is not receiving invalidations
+   */
+  private ClientSideCache trackingCache() {
+    final ClientSideCache cache = clientSideCache;
+    return cache != null && cache.getRedirectId() >= 0 ? cache : null;
+  }
+
+  /**
+   * Makes sure the keys read next are tracked, with their invalidations sent to the cache.
+   * @return the stamp to cache the reply with
+   */
+  private long startTracking(final ClientSideCache cache) {
+    final long stamp = cache.stamp();
+    final long redirect = cache.getRedirectId();
+    client.connect();
+    if (client.getTrackingRedirect() != redirect) {
+      client.clientTracking(redirect);
+      client.getStatusCodeReply();
+    }
+    return stamp;
+  }
+
   @Override
   public Long pfadd(final String key, final String... elements) {
     checkIsInMultiOrPipeline();
@@ -3817,7 +3976,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public List<StreamEntry> xrange(final String key, final StreamEntryID start, final StreamEntryID end, final int count) {
     checkIsInMultiOrPipeline();
     client.xrange(key, start, end, count);
-    return BuilderFactory.STREAM_ENTRY_LIST.build(client.getObjectMultiBulkReply());
+    return client.getReply(BuilderFactory.STREAM_ENTRY_LIST);
   }
   
   /**
@@ -3827,7 +3986,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public List<StreamEntry> xrevrange(final String key, final StreamEntryID end, final StreamEntryID start, final int count) {
     checkIsInMultiOrPipeline();
     client.xrevrange(key, end, start, count);
-    return BuilderFactory.STREAM_ENTRY_LIST.build(client.getObjectMultiBulkReply());
+    return client.getReply(BuilderFactory.STREAM_ENTRY_LIST);
   }
 
 
@@ -3958,7 +4117,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
     checkIsInMultiOrPipeline();
     client.xclaim( key, group, consumername, minIdleTime, newIdleTime, retries, force, ids);
     
-    return BuilderFactory.STREAM_ENTRY_LIST.build(client.getObjectMultiBulkReply());
+    return client.getReply(BuilderFactory.STREAM_ENTRY_LIST);
   }
 
   @Override
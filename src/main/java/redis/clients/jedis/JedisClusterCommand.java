@@ -4,6 +4,7 @@ import redis.clients.jedis.exceptions.JedisAskDataException;
 import redis.clients.jedis.exceptions.JedisClusterMaxAttemptsException;
 import redis.clients.jedis.exceptions.JedisClusterOperationException;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisMovedDataException;
 import redis.clients.jedis.exceptions.JedisNoReachableClusterNodeException;
 import redis.clients.jedis.exceptions.JedisRedirectionException;
@@ -13,10 +14,17 @@ public abstract class JedisClusterCommand<T> {
 
   private final JedisClusterConnectionHandler connectionHandler;
   private final int maxAttempts;
+  private final boolean readOnly;
 
   public JedisClusterCommand(JedisClusterConnectionHandler connectionHandler, int maxAttempts) {
+    this(connectionHandler, maxAttempts, false);
+  }
+
+  JedisClusterCommand(JedisClusterConnectionHandler connectionHandler, int maxAttempts,
+      boolean readOnly) {
     this.connectionHandler = connectionHandler;
     this.maxAttempts = maxAttempts;
+    this.readOnly = readOnly;
   }
 
   public abstract T execute(Jedis connection);
@@ -73,8 +81,11 @@ public abstract class JedisClusterCommand<T> {
     Jedis connection = null;
     try {
       connection = connectionHandler.getConnection();
-      return execute(connection);
+      T result = execute(connection);
+      connectionHandler.recordSuccess(connection, -1);
+      return result;
     } catch (JedisConnectionException e) {
+      connectionHandler.recordFailure(connection);
       throw e;
     } finally {
       releaseConnection(connection);
@@ -92,22 +103,34 @@ public abstract class JedisClusterCommand<T> {
       if (redirect != null) {
         connection = this.connectionHandler.getConnectionFromNode(redirect.getTargetNode());
         if (redirect instanceof JedisAskDataException) {
-          // TODO: Pipeline asking with the original command to make it faster....
-          connection.asking();
+          // ASKING is flushed together with the command, its reply being dropped
+          connection.getClient().asking();
+          connection.getClient().ignoreReply();
         }
       } else {
         if (tryRandomNode) {
           connection = connectionHandler.getConnection();
+        } else if (readOnly && attempts == maxAttempts) {
+          // retries go to the master
+          connection = connectionHandler.getReadConnectionFromSlot(slot);
         } else {
           connection = connectionHandler.getConnectionFromSlot(slot);
         }
       }
 
-      return execute(connection);
+      long start = System.nanoTime();
+      T result = execute(connection);
+      long nanos = System.nanoTime() - start;
+      connectionHandler.recordSuccess(connection, nanos);
+      if (readOnly) {
+        connectionHandler.recordReadLatency(connection, nanos);
+      }
+      return result;
 
     } catch (JedisNoReachableClusterNodeException jnrcne) {
       throw jnrcne;
     } catch (JedisConnectionException jce) {
+      connectionHandler.recordFailure(connection);
       // release current connection before recursion
       releaseConnection(connection);
       connection = null;
@@ -115,17 +138,23 @@ public abstract class JedisClusterCommand<T> {
       if (attempts <= 1) {
         //We need this because if node is not reachable anymore - we need to finally initiate slots
         //renewing, or we can stuck with cluster state without one node in opposite case.
-        //But now if maxAttempts = [1 or 2] we will do it too often.
-        //TODO make tracking of successful/unsuccessful operations for node - do renewing only
-        //if there were no successful responses from this node last few seconds
-        this.connectionHandler.renewSlotCache();
+        //A node which replied to other commands within the last second is left alone though, so
+        //that a single failure does not cost a renewal.
+        this.connectionHandler.renewSlotCacheAfterFailure(slot);
+      } else {
+        // the node may have failed over, a background refresh would find out early
+        this.connectionHandler.triggerTopologyRefresh();
       }
 
       return runWithRetries(slot, attempts - 1, tryRandomNode, redirect);
     } catch (JedisRedirectionException jre) {
+      // the node replied
+      connectionHandler.recordSuccess(connection, -1);
       // if MOVED redirection occurred,
       if (jre instanceof JedisMovedDataException) {
-        // it rebuilds cluster's slot cache recommended by Redis cluster specification
+        // the moved slot is routed right away, while the rest of the cluster's slot cache is
+        // rebuilt as recommended by Redis cluster specification, by a single thread at a time
+        this.connectionHandler.assignSlotToNode(jre.getSlot(), jre.getTargetNode());
         this.connectionHandler.renewSlotCache(connection);
       }
 
@@ -134,6 +163,9 @@ public abstract class JedisClusterCommand<T> {
       connection = null;
 
       return runWithRetries(slot, attempts - 1, false, jre);
+    } catch (JedisDataException jde) {
+      connectionHandler.recordSuccess(connection, -1);
+      throw jde;
     } finally {
       releaseConnection(connection);
     }
@@ -1,18 +1,55 @@
 package redis.clients.jedis;
 
 import java.io.Closeable;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
 public abstract class JedisClusterConnectionHandler implements Closeable {
+  private static final Logger log = LoggerFactory.getLogger(JedisClusterConnectionHandler.class.getName());
+
   protected final JedisClusterInfoCache cache;
+  private volatile ReadFrom readFrom = ReadFrom.MASTER;
+
+  // refreshes the slot cache in the background once enabled, guarded by this
+  private ScheduledExecutorService topologyRefresher;
+  private long minRefreshIntervalNanos;
+  private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+  private volatile long lastRefresh = System.nanoTime();
+
+  /**
+   * A connection failure renews the slot cache only if the node did not reply for this long, as
+   * a node still replying to other commands is most likely still serving its slots.
+   */
+  public static final long RENEWAL_GRACE_MILLIS = 1000;
+
+  private volatile int breakerThreshold;
+  private volatile long breakerOpenNanos;
+
+  /**
+   * A node which replied within this time, with no failure since, is picked as a random node
+   * without being pinged first.
+   */
+  public static final long DEFAULT_HEALTHY_WINDOW_MILLIS = 5000;
+
+  // pings all the nodes in the background once enabled, guarded by this
+  private ScheduledExecutorService healthChecker;
+  private volatile long healthyWindowMillis = DEFAULT_HEALTHY_WINDOW_MILLIS;
 
   public JedisClusterConnectionHandler(Set<HostAndPort> nodes, GenericObjectPoolConfig poolConfig,
       int connectionTimeout, int soTimeout, String password) {
@@ -49,8 +86,178 @@ public abstract class JedisClusterConnectionHandler implements Closeable {
 
   abstract Jedis getConnectionFromSlot(int slot);
 
+  /**
+   * Connection for a read-only command on the slot, to the master or one of its replicas as the
+   * {@link ReadFrom} strategy chooses.
+   */
+  public Jedis getReadConnectionFromSlot(int slot) {
+    ReadFrom readFrom = this.readFrom;
+    if (readFrom != ReadFrom.MASTER) {
+      JedisPool master = cache.getSlotPool(slot);
+      if (master != null) {
+        JedisPool pool = readFrom.select(master, cache.getSlotReplicaPools(slot),
+          cache.getLatencies());
+        // a replica whose breaker is open is skipped for the master
+        if (pool != master && getHealth(pool).allowRequest(breakerOpenNanos)) {
+          Jedis jedis = getResource(pool);
+          // once per connection, READONLY goes out in the same flush as the read, its reply being
+          // dropped
+          if (!jedis.getClient().isReadOnly()) {
+            jedis.getClient().readonly();
+            jedis.getClient().ignoreReply();
+          }
+          return jedis;
+        }
+      }
+    }
+    return getConnectionFromSlot(slot);
+  }
+
+  /**
+   * Records the duration of a read, used by {@link ReadFrom#NEAREST}.
+   */
+  public void recordReadLatency(Jedis connection, long nanos) {
+    if (readFrom != ReadFrom.MASTER && connection.dataSource instanceof JedisPool) {
+      cache.recordLatency((JedisPool) connection.dataSource, nanos);
+    }
+  }
+
+  /**
+   * Opens the circuit breaker of a node after the given number of consecutive connection
+   * failures. Commands to the node then fail fast with a {@link JedisConnectionException}, and
+   * reads are served by the master instead of an open replica, until the open duration has
+   * elapsed and a probe command succeeds.
+   * @param failureThreshold consecutive failures opening the breaker, 0 to disable it
+   */
+  public void enableCircuitBreaker(int failureThreshold, long openMillis) {
+    this.breakerOpenNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    this.breakerThreshold = failureThreshold;
+  }
+
+  /**
+   * Borrows a connection from the pool of a node, unless its circuit breaker is open.
+   * @throws JedisConnectionException if the breaker is open or the node cannot be reached
+   */
+  protected Jedis borrowConnection(JedisPool pool) {
+    if (!getHealth(pool).allowRequest(breakerOpenNanos)) {
+      throw new JedisConnectionException("Circuit breaker open for the node, after "
+          + getHealth(pool).getConsecutiveFailures() + " consecutive failures");
+    }
+    return getResource(pool);
+  }
+
+  private Jedis getResource(JedisPool pool) {
+    try {
+      return pool.getResource();
+    } catch (JedisConnectionException e) {
+      getHealth(pool).recordFailure(breakerThreshold, breakerOpenNanos);
+      throw e;
+    }
+  }
+
+  /**
+   * Records a reply received on a connection of the cluster.
+   * @param nanos duration of the command, or -1 if it was not measured
+   */
+  public void recordSuccess(Jedis connection, long nanos) {
+    if (connection != null && connection.dataSource instanceof JedisPool) {
+      getHealth((JedisPool) connection.dataSource).recordSuccess(nanos);
+    }
+  }
+
+  /**
+   * Records a failure of a connection of the cluster, before the connection is released.
+   */
+  public void recordFailure(Jedis connection) {
+    if (connection != null && connection.dataSource instanceof JedisPool) {
+      getHealth((JedisPool) connection.dataSource).recordFailure(breakerThreshold,
+        breakerOpenNanos);
+    }
+  }
+
+  ClusterNodeHealth getHealth(JedisPool pool) {
+    return cache.getHealth(pool);
+  }
+
+  /**
+   * @return whether the node replied lately, with no failure since, and its breaker is closed
+   */
+  boolean isKnownHealthy(JedisPool pool) {
+    return getHealth(pool).isHealthy(healthyWindowMillis);
+  }
+
+  /**
+   * Pings every known node from a background thread every period, so that nodes are known to be
+   * healthy even when no command was sent to them lately, and so that the breaker of a node
+   * closes as soon as the node is back.
+   */
+  public synchronized void enableHealthChecks(long periodMillis) {
+    if (healthChecker != null) {
+      throw new IllegalStateException("Health checks are already enabled");
+    }
+    healthyWindowMillis = Math.max(DEFAULT_HEALTHY_WINDOW_MILLIS, 2 * periodMillis);
+    healthChecker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "jedis-cluster-health-check");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    healthChecker.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        for (JedisPool pool : cache.getNodePools()) {
+          checkHealth(pool);
+        }
+      }
+    }, 0, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Pings a node, whatever the state of its breaker, and records the outcome.
+   */
+  private void checkHealth(JedisPool pool) {
+    ClusterNodeHealth nodeHealth = getHealth(pool);
+    Jedis jedis = null;
+    try {
+      jedis = pool.getResource();
+      long start = System.nanoTime();
+      jedis.ping();
+      nodeHealth.recordSuccess(System.nanoTime() - start);
+    } catch (JedisConnectionException e) {
+      nodeHealth.recordFailure(breakerThreshold, breakerOpenNanos);
+    } catch (RuntimeException e) {
+      // the pool may have been closed by a topology change, or the node may be loading
+      log.debug("Cluster node health check failed", e);
+    } finally {
+      if (jedis != null) {
+        jedis.close();
+      }
+    }
+  }
+
+  /**
+   * @return health of the known nodes, by node key
+   */
+  public Map<String, ClusterNodeHealth> getNodeHealth() {
+    Map<String, ClusterNodeHealth> nodeHealth = new HashMap<>();
+    for (Map.Entry<String, JedisPool> node : cache.getNodes().entrySet()) {
+      nodeHealth.put(node.getKey(), getHealth(node.getValue()));
+    }
+    return nodeHealth;
+  }
+
+  public ReadFrom getReadFrom() {
+    return readFrom;
+  }
+
+  public void setReadFrom(ReadFrom readFrom) {
+    this.readFrom = readFrom;
+  }
+
   public Jedis getConnectionFromNode(HostAndPort node) {
-    return cache.setupNodeIfNotExist(node).getResource();
+    return borrowConnection(cache.setupNodeIfNotExist(node));
   }
   
   public Map<String, JedisPool> getNodes() {
@@ -84,16 +291,123 @@ public abstract class JedisClusterConnectionHandler implements Closeable {
     }
   }
 
+  /**
+   * Routes a slot to the node a MOVED redirection named, ahead of the renewal of the slot cache.
+   */
+  public void assignSlotToNode(int slot, HostAndPort targetNode) {
+    cache.assignSlotToNode(slot, targetNode);
+  }
+
   public void renewSlotCache() {
-    cache.renewClusterSlots(null);
+    if (!requestTopologyRefresh()) {
+      cache.renewClusterSlots(null);
+    }
+  }
+
+  /**
+   * Renews the slot cache after a failure to run a command on the slot, unless the node serving
+   * it replied within {@link #RENEWAL_GRACE_MILLIS} and its breaker is closed.
+   */
+  public void renewSlotCacheAfterFailure(int slot) {
+    JedisPool pool = cache.getSlotPool(slot);
+    if (pool != null) {
+      ClusterNodeHealth nodeHealth = getHealth(pool);
+      if (nodeHealth.getState() == ClusterNodeHealth.State.CLOSED
+          && nodeHealth.hasSucceededWithin(RENEWAL_GRACE_MILLIS)) {
+        return;
+      }
+    }
+    renewSlotCache();
   }
 
   public void renewSlotCache(Jedis jedis) {
-    cache.renewClusterSlots(jedis);
+    if (!requestTopologyRefresh()) {
+      cache.renewClusterSlots(jedis);
+    }
+  }
+
+  /**
+   * Refreshes the slot cache from a background thread every period, and also soon after a
+   * redirection or a connection failure, but never more often than the minimum interval. The
+   * threads running commands then never wait for a refresh: renewing the slot cache only
+   * schedules one.
+   */
+  public synchronized void enableTopologyRefresh(long periodMillis, long minIntervalMillis) {
+    if (topologyRefresher != null) {
+      throw new IllegalStateException("Topology refresh is already enabled");
+    }
+    minRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    topologyRefresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "jedis-cluster-topology-refresh");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    topologyRefresher.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        requestTopologyRefresh();
+      }
+    }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Hints that the topology may have changed, after a failure to reach a node. Schedules a
+   * refresh when background refresh is enabled, does nothing otherwise.
+   */
+  public void triggerTopologyRefresh() {
+    requestTopologyRefresh();
+  }
+
+  /**
+   * @return false if background refresh is not enabled
+   */
+  private boolean requestTopologyRefresh() {
+    final ScheduledExecutorService refresher;
+    final long minInterval;
+    synchronized (this) {
+      refresher = topologyRefresher;
+      minInterval = minRefreshIntervalNanos;
+    }
+    if (refresher == null) {
+      return false;
+    }
+    // a refresh already scheduled will see the change as well
+    if (refreshScheduled.compareAndSet(false, true)) {
+      long delay = Math.max(0, lastRefresh + minInterval - System.nanoTime());
+      try {
+        refresher.schedule(new Runnable() {
+          @Override
+          public void run() {
+            refreshScheduled.set(false);
+            lastRefresh = System.nanoTime();
+            try {
+              cache.renewClusterSlots(null);
+            } catch (RuntimeException e) {
+              log.warn("Cluster topology refresh failed", e);
+            }
+          }
+        }, delay, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // closed
+        refreshScheduled.set(false);
+      }
+    }
+    return true;
   }
 
   @Override
   public void close() {
+    synchronized (this) {
+      if (topologyRefresher != null) {
+        topologyRefresher.shutdownNow();
+      }
+      if (healthChecker != null) {
+        healthChecker.shutdownNow();
+      }
+    }
     cache.reset();
   }
 }
@@ -1,10 +1,15 @@
 package redis.clients.jedis;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.net.ssl.HostnameVerifier;
@@ -19,12 +24,25 @@ import redis.clients.jedis.util.SafeEncoder;
 
 public class JedisClusterInfoCache {
   private final Map<String, JedisPool> nodes = new HashMap<String, JedisPool>();
-  private final Map<Integer, JedisPool> slots = new HashMap<Integer, JedisPool>();
+  // pool of the master serving each slot, replaced as a whole under the write lock and read
+  // without locking
+  private volatile JedisPool[] slots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+  // pools of the replicas of the master serving each slot, published after the slots
+  private volatile List<JedisPool>[] replicaSlots = newReplicaTable();
+  // smoothed duration of the reads served by each node, in nanoseconds
+  private final ConcurrentMap<JedisPool, Long> latencies = new ConcurrentHashMap<>();
+  private final Map<JedisPool, Long> latenciesView = Collections.unmodifiableMap(latencies);
+  // health of each node, dropped with its pool
+  private final ConcurrentMap<JedisPool, ClusterNodeHealth> health = new ConcurrentHashMap<>();
+
+  // the pools of the nodes map, published on every change for lock-free reads
+  private volatile JedisPool[] nodePools = new JedisPool[0];
 
   private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
   private final Lock r = rwl.readLock();
   private final Lock w = rwl.writeLock();
-  private volatile boolean rediscovering;
+  private final AtomicBoolean rediscovering = new AtomicBoolean();
+  private volatile long lastRenewal = System.nanoTime() - MIN_RENEWAL_INTERVAL_NANOS;
   private final GenericObjectPoolConfig poolConfig;
 
   private int connectionTimeout;
@@ -41,6 +59,14 @@ public class JedisClusterInfoCache {
 
   private static final int MASTER_NODE_INDEX = 2;
 
+  /**
+   * Minimum time between two renewals of the slots, which would otherwise run once per thread
+   * hitting a MOVED redirection during a resharding.
+   */
+  public static final long MIN_RENEWAL_INTERVAL_MILLIS = 100;
+  private static final long MIN_RENEWAL_INTERVAL_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(MIN_RENEWAL_INTERVAL_MILLIS);
+
   public JedisClusterInfoCache(final GenericObjectPoolConfig poolConfig, int timeout) {
     this(poolConfig, timeout, timeout, null, null);
   }
@@ -85,6 +111,8 @@ public class JedisClusterInfoCache {
     try {
       reset();
       List<Object> slots = jedis.clusterSlots();
+      JedisPool[] table = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+      List<JedisPool>[] replicaTable = newReplicaTable();
 
       for (Object slotInfoObj : slots) {
         List<Object> slotInfo = (List<Object>) slotInfoObj;
@@ -97,6 +125,7 @@ public class JedisClusterInfoCache {
 
         // hostInfos
         int size = slotInfo.size();
+        List<JedisPool> replicas = new ArrayList<>(size - MASTER_NODE_INDEX - 1);
         for (int i = MASTER_NODE_INDEX; i < size; i++) {
           List<Object> hostInfos = (List<Object>) slotInfo.get(i);
           if (hostInfos.isEmpty()) {
@@ -104,62 +133,83 @@ public class JedisClusterInfoCache {
           }
 
           HostAndPort targetNode = generateHostAndPort(hostInfos);
-          setupNodeIfNotExist(targetNode);
+          JedisPool targetPool = setupNodeIfNotExist(targetNode);
           if (i == MASTER_NODE_INDEX) {
-            assignSlotsToNode(slotNums, targetNode);
+            assignSlots(table, slotNums, targetPool);
+          } else {
+            replicas.add(targetPool);
           }
         }
+        assignReplicas(replicaTable, slotNums, replicas);
       }
+      this.slots = table;
+      this.replicaSlots = replicaTable;
     } finally {
       w.unlock();
     }
   }
 
+  /**
+   * Rediscovers the slots, unless a renewal is already in progress or the last one started less
+   * than {@link #MIN_RENEWAL_INTERVAL_MILLIS} ago, in which case it returns at once. Slots
+   * reported by a MOVED redirection are better applied right away with
+   * {@link #assignSlotToNode(int, HostAndPort)}.
+   */
   public void renewClusterSlots(Jedis jedis) {
     //If rediscovering is already in process - no need to start one more same rediscovering, just return
-    if (!rediscovering) {
-      try {
-        w.lock();
-        if (!rediscovering) {
-          rediscovering = true;
-
-          try {
-            if (jedis != null) {
-              try {
-                discoverClusterSlots(jedis);
-                return;
-              } catch (JedisException e) {
-                //try nodes from all pools
-              }
-            }
-
-            for (JedisPool jp : getShuffledNodesPool()) {
-              Jedis j = null;
-              try {
-                j = jp.getResource();
-                discoverClusterSlots(j);
-                return;
-              } catch (JedisConnectionException e) {
-                // try next nodes
-              } finally {
-                if (j != null) {
-                  j.close();
-                }
-              }
-            }
-          } finally {
-            rediscovering = false;      
+    if (!rediscovering.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      if (now - lastRenewal < MIN_RENEWAL_INTERVAL_NANOS) {
+        return;
+      }
+      lastRenewal = now;
+
+      if (jedis != null) {
+        try {
+          discoverClusterSlots(jedis);
+          return;
+        } catch (JedisException e) {
+          //try nodes from all pools
+        }
+      }
+
+      for (JedisPool jp : getShuffledNodesPool()) {
+        Jedis j = null;
+        try {
+          j = jp.getResource();
+          discoverClusterSlots(j);
+          return;
+        } catch (JedisConnectionException e) {
+          // try next nodes
+        } finally {
+          if (j != null) {
+            j.close();
           }
         }
-      } finally {
-        w.unlock();
       }
+    } finally {
+      rediscovering.set(false);
     }
   }
 
   private void discoverClusterSlots(Jedis jedis) {
+    // the round trip is made before locking, commands keep running meanwhile
     List<Object> slots = jedis.clusterSlots();
-    this.slots.clear();
+    w.lock();
+    try {
+      applyClusterSlots(slots);
+    } finally {
+      w.unlock();
+    }
+  }
+
+  private void applyClusterSlots(List<Object> slots) {
+    // built aside and swapped at once, so that readers never see a partial table
+    JedisPool[] table = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+    List<JedisPool>[] replicaTable = newReplicaTable();
 
     for (Object slotInfoObj : slots) {
       List<Object> slotInfo = (List<Object>) slotInfoObj;
@@ -176,10 +226,21 @@ public class JedisClusterInfoCache {
         continue;
       }
 
-      // at this time, we just use master, discard slave information
       HostAndPort targetNode = generateHostAndPort(hostInfos);
-      assignSlotsToNode(slotNums, targetNode);
+      assignSlots(table, slotNums, setupNodeIfNotExist(targetNode));
+
+      int size = slotInfo.size();
+      List<JedisPool> replicas = new ArrayList<>(size - MASTER_NODE_INDEX - 1);
+      for (int i = MASTER_NODE_INDEX + 1; i < size; i++) {
+        hostInfos = (List<Object>) slotInfo.get(i);
+        if (!hostInfos.isEmpty()) {
+          replicas.add(setupNodeIfNotExist(generateHostAndPort(hostInfos)));
+        }
+      }
+      assignReplicas(replicaTable, slotNums, replicas);
     }
+    this.slots = table;
+    this.replicaSlots = replicaTable;
   }
 
   private HostAndPort generateHostAndPort(List<Object> hostInfos) {
@@ -205,6 +266,7 @@ public class JedisClusterInfoCache {
           connectionTimeout, soTimeout, user, password, 0, clientName, 
           ssl, sslSocketFactory, sslParameters, hostnameVerifier);
       nodes.put(nodeKey, nodePool);
+      nodePools = nodes.values().toArray(new JedisPool[nodes.size()]);
       return nodePool;
     } finally {
       w.unlock();
@@ -215,7 +277,13 @@ public class JedisClusterInfoCache {
     w.lock();
     try {
       JedisPool targetPool = setupNodeIfNotExist(targetNode);
-      slots.put(slot, targetPool);
+      if (slots[slot] == targetPool) {
+        // already applied by another thread redirected the same way
+        return;
+      }
+      JedisPool[] table = slots.clone();
+      table[slot] = targetPool;
+      slots = table;
     } finally {
       w.unlock();
     }
@@ -225,14 +293,40 @@ public class JedisClusterInfoCache {
     w.lock();
     try {
       JedisPool targetPool = setupNodeIfNotExist(targetNode);
-      for (Integer slot : targetSlots) {
-        slots.put(slot, targetPool);
-      }
+      JedisPool[] table = slots.clone();
+      assignSlots(table, targetSlots, targetPool);
+      slots = table;
     } finally {
       w.unlock();
     }
   }
 
+  private static void assignSlots(JedisPool[] table, List<Integer> targetSlots,
+      JedisPool targetPool) {
+    for (Integer slot : targetSlots) {
+      table[slot] = targetPool;
+    }
+  }
+
+  private static void assignReplicas(List<JedisPool>[] table, List<Integer> targetSlots,
+      List<JedisPool> replicas) {
+    if (replicas.isEmpty()) {
+      return;
+    }
+    // shared by all the slots of the range
+    List<JedisPool> shared = Collections.unmodifiableList(replicas);
+    for (Integer slot : targetSlots) {
+      table[slot] = shared;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<JedisPool>[] newReplicaTable() {
+    List<JedisPool>[] table = new List[BinaryJedisCluster.HASHSLOTS];
+    Arrays.fill(table, Collections.<JedisPool> emptyList());
+    return table;
+  }
+
   public JedisPool getNode(String nodeKey) {
     r.lock();
     try {
@@ -243,12 +337,61 @@ public class JedisClusterInfoCache {
   }
 
   public JedisPool getSlotPool(int slot) {
-    r.lock();
-    try {
-      return slots.get(slot);
-    } finally {
-      r.unlock();
+    return slots[slot];
+  }
+
+  /**
+   * @return the pools of the replicas of the master serving the slot, as last discovered
+   */
+  public List<JedisPool> getSlotReplicaPools(int slot) {
+    return replicaSlots[slot];
+  }
+
+  /**
+   * Folds the duration of a read into the latency of the node that served it.
+   */
+  public void recordLatency(JedisPool pool, long nanos) {
+    Long previous = latencies.get(pool);
+    latencies.put(pool, previous == null ? nanos : previous + (nanos - previous) / 8);
+  }
+
+  /**
+   * @return the smoothed duration of the reads served by each node, in nanoseconds
+   */
+  public Map<JedisPool, Long> getLatencies() {
+    return latenciesView;
+  }
+
+  /**
+   * @return the health of the node of the pool, created on first use
+   */
+  public ClusterNodeHealth getHealth(JedisPool pool) {
+    ClusterNodeHealth nodeHealth = health.get(pool);
+    if (nodeHealth == null) {
+      nodeHealth = new ClusterNodeHealth();
+      ClusterNodeHealth existing = health.putIfAbsent(pool, nodeHealth);
+      if (existing != null) {
+        nodeHealth = existing;
+      }
+    }
+    return nodeHealth;
+  }
+
+  /**
+   * @return the pools of the masters serving at least a slot, each once
+   */
+  public List<JedisPool> getMasterPools() {
+    JedisPool[] table = slots;
+    List<JedisPool> masters = new ArrayList<>();
+    JedisPool previous = null;
+    for (JedisPool pool : table) {
+      // slots come in ranges, so most slots are served by the master of the previous slot
+      if (pool != null && pool != previous && !masters.contains(pool)) {
+        masters.add(pool);
+      }
+      previous = pool;
     }
+    return masters;
   }
 
   public Map<String, JedisPool> getNodes() {
@@ -260,6 +403,13 @@ public class JedisClusterInfoCache {
     }
   }
 
+  /**
+   * @return the pools of all the known nodes, without locking, not to be modified
+   */
+  public JedisPool[] getNodePools() {
+    return nodePools;
+  }
+
   public List<JedisPool> getShuffledNodesPool() {
     r.lock();
     try {
@@ -287,7 +437,11 @@ public class JedisClusterInfoCache {
         }
       }
       nodes.clear();
-      slots.clear();
+      nodePools = new JedisPool[0];
+      slots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+      replicaSlots = newReplicaTable();
+      latencies.clear();
+      health.clear();
     } finally {
       w.unlock();
     }
@@ -0,0 +1,330 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisClusterOperationException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+/**
+ * Pipeline over a Redis Cluster. Each command is routed by the slot of its key to the master
+ * serving it, over one connection per node kept until the pipeline is closed. {@link #sync()}
+ * flushes and reads all the nodes concurrently, then completes the responses in the order the
+ * commands were issued.
+ * <p>
+ * Commands redirected by a MOVED or ASK reply are sent again to the node named in the reply, up
+ * to the number of attempts of the cluster, and their responses get the reply of the last
+ * attempt. Commands to the same node run in the order they were issued, but redirected commands
+ * run after the commands that were not. Only commands on a single key are offered.
+ */
+public class JedisClusterPipeline extends PipelineBase implements Closeable {
+
+  private static final class Pending {
+    final ProtocolCommand command;
+    final byte[][] args;
+    Response<?> response;
+    Node node;
+    boolean asking;
+    Object reply;
+    // whether reply was read from the node the command was last sent to
+    boolean replied;
+
+    Pending(final ProtocolCommand command, final byte[][] args) {
+      this.command = command;
+      this.args = args;
+    }
+  }
+
+  private static final class Node {
+    final JedisClusterConnectionHandler connectionHandler;
+    final Jedis jedis;
+    final List<Pending> sent = new ArrayList<>();
+
+    Node(final JedisClusterConnectionHandler connectionHandler, final Jedis jedis) {
+      this.connectionHandler = connectionHandler;
+      this.jedis = jedis;
+    }
+
+    void send(final Pending pending) {
+      final Client client = jedis.getClient();
+      if (pending.asking) {
+        // its reply is dropped by read, right before the reply of the command
+        client.asking();
+      }
+      client.sendCommand(pending.command, pending.args);
+      pending.node = this;
+      pending.replied = false;
+      sent.add(pending);
+    }
+
+    void read() {
+      final Client client = jedis.getClient();
+      try {
+        for (Pending pending : sent) {
+          if (pending.asking) {
+            try {
+              client.getOne();
+            } catch (JedisDataException e) {
+              // the reply of the command tells whether it went through
+            }
+          }
+          try {
+            pending.reply = client.getOne();
+          } catch (JedisDataException e) {
+            pending.reply = e;
+          }
+          pending.replied = true;
+        }
+      } catch (JedisConnectionException e) {
+        connectionHandler.recordFailure(jedis);
+        throw e;
+      }
+      sent.clear();
+      // the replies of a batch are not timed one by one
+      connectionHandler.recordSuccess(jedis, -1);
+    }
+  }
+
+  private final JedisClusterConnectionHandler connectionHandler;
+  private final int maxAttempts;
+  private final CapturingClient capture = new CapturingClient();
+  private final Map<JedisPool, Node> nodes = new HashMap<>();
+  private final List<Pending> pending = new ArrayList<>();
+  private int slot;
+
+  public JedisClusterPipeline(final BinaryJedisCluster cluster) {
+    this.connectionHandler = cluster.connectionHandler;
+    this.maxAttempts = cluster.maxAttempts;
+  }
+
+  @Override
+  protected Client getClient(final String key) {
+    slot = JedisClusterCRC16.getSlot(key);
+    return capture;
+  }
+
+  @Override
+  protected Client getClient(final byte[] key) {
+    slot = JedisClusterCRC16.getSlot(key);
+    return capture;
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(final Builder<T> builder) {
+    final CapturingClient.Captured captured = capture.take();
+    final Pending command = new Pending(captured.command, captured.args);
+    capture.clear();
+
+    getNode(getSlotPool(slot)).send(command);
+    final Response<T> response = super.getResponse(builder);
+    command.response = response;
+    pending.add(command);
+    return response;
+  }
+
+  /**
+   * Flushes the commands to all the nodes and reads their replies, following redirections, then
+   * completes the responses in the order the commands were issued.
+   * @throws JedisConnectionException if a node could not be reached, in which case the responses
+   *           of this batch are not completed
+   */
+  public void sync() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    try {
+      readReplies();
+      for (Pending command : pending) {
+        generateResponse(command.reply);
+      }
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Synchronizes the pipeline as {@link #sync()}, but returns the reply of every command, in the
+   * order they were issued, instead of completing the responses. When a node cannot be reached,
+   * the commands that did not get their final reply have the connection failure as reply, and the
+   * others keep theirs.
+   */
+  List<Object> syncReplies() {
+    final List<Pending> commands = new ArrayList<>(pending);
+    JedisConnectionException failure = null;
+    try {
+      if (!commands.isEmpty()) {
+        readReplies();
+      }
+    } catch (JedisConnectionException e) {
+      failure = e;
+    } finally {
+      release();
+    }
+    final List<Object> replies = new ArrayList<>(commands.size());
+    for (Pending command : commands) {
+      if (failure != null
+          && (!command.replied || command.reply instanceof JedisRedirectionException)) {
+        replies.add(failure);
+      } else {
+        replies.add(command.reply);
+      }
+    }
+    return replies;
+  }
+
+  /**
+   * Synchronizes the pipeline and returns the reply of every command, in the order they were
+   * issued.
+   */
+  public List<Object> syncAndReturnAll() {
+    final List<Pending> commands = new ArrayList<>(pending);
+    sync();
+    final List<Object> formatted = new ArrayList<>(commands.size());
+    for (Pending command : commands) {
+      try {
+        formatted.add(command.response.get());
+      } catch (JedisDataException e) {
+        formatted.add(e);
+      }
+    }
+    return formatted;
+  }
+
+  /**
+   * Returns the connections to their pools, after reading the replies still pending.
+   */
+  @Override
+  public void close() {
+    try {
+      if (!pending.isEmpty()) {
+        sync();
+      }
+    } finally {
+      for (Node node : nodes.values()) {
+        node.jedis.close();
+      }
+      nodes.clear();
+    }
+  }
+
+  private void readReplies() {
+    readAll();
+    for (int attempt = 1; attempt < maxAttempts; attempt++) {
+      if (!redirect()) {
+        break;
+      }
+      readAll();
+    }
+  }
+
+  private void release() {
+    pending.clear();
+    clean();
+    // a connection whose replies were not all read cannot be used anymore
+    final Iterator<Node> it = nodes.values().iterator();
+    while (it.hasNext()) {
+      final Node node = it.next();
+      if (!node.sent.isEmpty() || node.jedis.getClient().isBroken()) {
+        node.jedis.getClient().disconnect();
+        node.jedis.close();
+        it.remove();
+      }
+    }
+  }
+
+  private JedisPool getSlotPool(final int slot) {
+    JedisPool pool = connectionHandler.cache.getSlotPool(slot);
+    if (pool == null) {
+      connectionHandler.renewSlotCache();
+      pool = connectionHandler.cache.getSlotPool(slot);
+      if (pool == null) {
+        throw new JedisClusterOperationException("No node serves slot " + slot);
+      }
+    }
+    return pool;
+  }
+
+  private Node getNode(final JedisPool pool) {
+    Node node = nodes.get(pool);
+    if (node == null) {
+      node = new Node(connectionHandler, connectionHandler.borrowConnection(pool));
+      nodes.put(pool, node);
+    }
+    return node;
+  }
+
+  /**
+   * Sends the redirected commands again, to the nodes named in their replies.
+   * @return whether any command was redirected
+   */
+  private boolean redirect() {
+    Node moved = null;
+    for (Pending command : pending) {
+      if (command.reply instanceof JedisMovedDataException) {
+        final JedisMovedDataException redirection = (JedisMovedDataException) command.reply;
+        connectionHandler.assignSlotToNode(redirection.getSlot(), redirection.getTargetNode());
+        moved = command.node;
+      }
+    }
+    if (moved != null) {
+      // the slot cache is renewed once, not once per moved key
+      connectionHandler.renewSlotCache(moved.jedis);
+    }
+    boolean redirected = false;
+    // only the commands redirected by the last round of replies still hold a redirection
+    for (Pending command : pending) {
+      if (command.reply instanceof JedisRedirectionException) {
+        final JedisRedirectionException redirection = (JedisRedirectionException) command.reply;
+        command.asking = redirection instanceof JedisAskDataException;
+        getNode(connectionHandler.cache.setupNodeIfNotExist(redirection.getTargetNode()))
+            .send(command);
+        redirected = true;
+      }
+    }
+    return redirected;
+  }
+
+  private void readAll() {
+    final List<Node> busy = new ArrayList<>();
+    for (Node node : nodes.values()) {
+      if (!node.sent.isEmpty()) {
+        busy.add(node);
+      }
+    }
+    if (busy.isEmpty()) {
+      return;
+    }
+    final List<PipelineReaders.Read<Void>> reads = new ArrayList<>(busy.size());
+    for (final Node node : busy) {
+      reads.add(new PipelineReaders.Read<Void>() {
+        @Override
+        Void read() {
+          node.read();
+          return null;
+        }
+      });
+    }
+    try {
+      PipelineReaders.readAll(reads);
+    } catch (JedisConnectionException failure) {
+      // the nodes read to the end keep their connection, the others are dropped by sync
+      try {
+        connectionHandler.renewSlotCache();
+      } catch (JedisException e) {
+        // the failure of the pipeline is more relevant
+      }
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package redis.clients.jedis;
+
+/**
+ * Cluster command only reading keys, which may be served by a replica as the {@link ReadFrom}
+ * strategy of the cluster chooses. A read failing on a replica is retried on the master.
+ */
+public abstract class JedisClusterReadCommand<T> extends JedisClusterCommand<T> {
+
+  public JedisClusterReadCommand(JedisClusterConnectionHandler connectionHandler, int maxAttempts) {
+    super(connectionHandler, maxAttempts, true);
+  }
+}
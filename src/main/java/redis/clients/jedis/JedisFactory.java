@@ -30,6 +30,9 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
   private final SSLSocketFactory sslSocketFactory;
   private final SSLParameters sslParameters;
   private final HostnameVerifier hostnameVerifier;
+  private final RedisProtocol protocol;
+  // the host is the path of a Unix domain socket
+  private final boolean unixSocket;
 
   JedisFactory(final String host, final int port, final int connectionTimeout,
       final int soTimeout, final String password, final int database, final String clientName) {
@@ -55,6 +58,15 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
                final int soTimeout, final String user, final String password, final int database, final String clientName,
                final boolean ssl, final SSLSocketFactory sslSocketFactory, final SSLParameters sslParameters,
                final HostnameVerifier hostnameVerifier) {
+    this(host, port, connectionTimeout, soTimeout, user, password, database, clientName, ssl,
+        sslSocketFactory, sslParameters, hostnameVerifier, RedisProtocol.RESP2);
+  }
+
+  JedisFactory(final String host, final int port, final int connectionTimeout,
+      final int soTimeout, final String user, final String password, final int database,
+      final String clientName, final boolean ssl, final SSLSocketFactory sslSocketFactory,
+      final SSLParameters sslParameters, final HostnameVerifier hostnameVerifier,
+      final RedisProtocol protocol) {
     this.hostAndPort.set(new HostAndPort(host, port));
     this.connectionTimeout = connectionTimeout;
     this.soTimeout = soTimeout;
@@ -66,6 +78,8 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
     this.sslSocketFactory = sslSocketFactory;
     this.sslParameters = sslParameters;
     this.hostnameVerifier = hostnameVerifier;
+    this.protocol = protocol;
+    this.unixSocket = false;
   }
 
   JedisFactory(final URI uri, final int connectionTimeout, final int soTimeout,
@@ -81,7 +95,12 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
         "Cannot open Redis connection due invalid URI. %s", uri.toString()));
     }
 
-    this.hostAndPort.set(new HostAndPort(uri.getHost(), uri.getPort()));
+    this.unixSocket = JedisURIHelper.isUnixSocketScheme(uri);
+    if (unixSocket) {
+      this.hostAndPort.set(new HostAndPort(JedisURIHelper.getUnixSocketPath(uri), 0));
+    } else {
+      this.hostAndPort.set(new HostAndPort(uri.getHost(), uri.getPort()));
+    }
     this.connectionTimeout = connectionTimeout;
     this.soTimeout = soTimeout;
     this.user = JedisURIHelper.getUser(uri);
@@ -92,6 +111,7 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
     this.sslSocketFactory = sslSocketFactory;
     this.sslParameters = sslParameters;
     this.hostnameVerifier = hostnameVerifier;
+    this.protocol = RedisProtocol.RESP2;
   }
 
   public void setHostAndPort(final HostAndPort hostAndPort) {
@@ -124,8 +144,10 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
   @Override
   public PooledObject<Jedis> makeObject() throws Exception {
     final HostAndPort hp = this.hostAndPort.get();
-    final Jedis jedis = new Jedis(hp.getHost(), hp.getPort(), connectionTimeout, soTimeout,
-        ssl, sslSocketFactory, sslParameters, hostnameVerifier);
+    final Jedis jedis = unixSocket
+        ? new Jedis(new UnixDomainJedisSocketFactory(hp.getHost(), connectionTimeout, soTimeout))
+        : new Jedis(hp.getHost(), hp.getPort(), connectionTimeout, soTimeout, ssl,
+            sslSocketFactory, sslParameters, hostnameVerifier);
     try {
       jedis.connect();
       if (user != null) {
@@ -133,6 +155,9 @@ class JedisFactory implements PooledObjectFactory<Jedis> {
       } else if (password != null) {
         jedis.auth(password);
       }
+      if (protocol != RedisProtocol.RESP2) {
+        jedis.hello(protocol);
+      }
       if (database != 0) {
         jedis.select(database);
       }
@@ -0,0 +1,165 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Reply of a command sent over a {@link NioConnection}, completed by an event loop thread. Unlike
+ * a plain {@link Response}, {@link #get()} does not require a pipeline to be synced first: it waits
+ * for the reply, up to the socket timeout.
+ * <p>
+ * Listeners added with {@link #addListener(Listener)} are notified once the reply arrives, which
+ * lets many commands be in flight without holding a thread for each of them. Errors are thrown by
+ * the get methods as the {@link JedisException} raised by a blocking call would be, rather than
+ * wrapped in an {@link java.util.concurrent.ExecutionException}.
+ */
+public class JedisFuture<T> extends Response<T> implements Future<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(JedisFuture.class.getName());
+
+  /**
+   * Notified once a {@link JedisFuture} is done, either from the event loop thread completing it or
+   * from the thread adding the listener when the future is already done. Listeners must not block.
+   */
+  public interface Listener<T> {
+    void onComplete(JedisFuture<T> future);
+  }
+
+  private final CountDownLatch done = new CountDownLatch(1);
+  private final int timeout;
+  private volatile JedisConnectionException failure;
+  private List<Listener<T>> listeners = new ArrayList<>(1);
+
+  private final NioConnection.Callback callback = new NioConnection.Callback() {
+    @Override
+    public void onReply(final Object reply) {
+      set(reply);
+      complete();
+    }
+
+    @Override
+    public void onFailure(final JedisConnectionException cause) {
+      failure = cause;
+      complete();
+    }
+  };
+
+  /**
+   * @param timeout milliseconds {@link #get()} waits for the reply, 0 to wait forever
+   */
+  JedisFuture(final Builder<T> builder, final int timeout) {
+    super(builder);
+    this.timeout = timeout;
+  }
+
+  NioConnection.Callback callback() {
+    return callback;
+  }
+
+  /**
+   * Registers a listener to be notified once the reply arrives or the connection fails. If the
+   * future is already done the listener is notified right away by the calling thread.
+   */
+  public JedisFuture<T> addListener(final Listener<T> listener) {
+    synchronized (this) {
+      if (listeners != null) {
+        listeners.add(listener);
+        return this;
+      }
+    }
+    notifyListener(listener);
+    return this;
+  }
+
+  /**
+   * Commands already written cannot be taken back, so this always returns false.
+   */
+  @Override
+  public boolean cancel(final boolean mayInterruptIfRunning) {
+    return false;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return false;
+  }
+
+  @Override
+  public boolean isDone() {
+    return done.getCount() == 0;
+  }
+
+  /**
+   * @return true if the command could not be completed because its connection broke
+   */
+  public boolean isFailed() {
+    return isDone() && failure != null;
+  }
+
+  @Override
+  public T get() {
+    try {
+      if (timeout > 0) {
+        if (!done.await(timeout, TimeUnit.MILLISECONDS)) {
+          throw new JedisConnectionException("Timed out waiting for the reply after " + timeout
+              + " ms");
+        }
+      } else {
+        done.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JedisConnectionException("Interrupted while waiting for the reply", e);
+    }
+    return getNow();
+  }
+
+  @Override
+  public T get(final long timeout, final TimeUnit unit) throws InterruptedException,
+      TimeoutException {
+    if (!done.await(timeout, unit)) {
+      throw new TimeoutException("Timed out waiting for the reply after " + timeout + " " + unit);
+    }
+    return getNow();
+  }
+
+  private T getNow() {
+    if (failure != null) {
+      throw failure;
+    }
+    // the reply is decoded lazily by the first caller
+    synchronized (this) {
+      return super.get();
+    }
+  }
+
+  private void complete() {
+    final List<Listener<T>> toNotify;
+    synchronized (this) {
+      toNotify = listeners;
+      listeners = null;
+    }
+    done.countDown();
+    for (Listener<T> listener : toNotify) {
+      notifyListener(listener);
+    }
+  }
+
+  private void notifyListener(final Listener<T> listener) {
+    try {
+      listener.onComplete(this);
+    } catch (RuntimeException e) {
+      log.warn("Listener of {} failed", this, e);
+    }
+  }
+}
@@ -14,6 +14,8 @@ import redis.clients.jedis.util.JedisURIHelper;
 
 public class JedisPool extends JedisPoolAbstract {
 
+  private volatile ClientSideCache clientSideCache;
+
   public JedisPool() {
     this(Protocol.DEFAULT_HOST, Protocol.DEFAULT_PORT);
   }
@@ -207,6 +209,18 @@ public class JedisPool extends JedisPoolAbstract {
         database, clientName, ssl, sslSocketFactory, sslParameters, hostnameVerifier));
   }
 
+  /**
+   * @param protocol protocol negotiated with HELLO on every connection of the pool
+   */
+  public JedisPool(final GenericObjectPoolConfig poolConfig, final String host, int port,
+      final int connectionTimeout, final int soTimeout, final String user, final String password,
+      final int database, final String clientName, final boolean ssl,
+      final SSLSocketFactory sslSocketFactory, final SSLParameters sslParameters,
+      final HostnameVerifier hostnameVerifier, final RedisProtocol protocol) {
+    super(poolConfig, new JedisFactory(host, port, connectionTimeout, soTimeout, user, password,
+        database, clientName, ssl, sslSocketFactory, sslParameters, hostnameVerifier, protocol));
+  }
+
   public JedisPool(final GenericObjectPoolConfig poolConfig) {
     this(poolConfig, Protocol.DEFAULT_HOST, Protocol.DEFAULT_PORT);
   }
@@ -287,9 +301,18 @@ public class JedisPool extends JedisPoolAbstract {
   public Jedis getResource() {
     Jedis jedis = super.getResource();
     jedis.setDataSource(this);
+    jedis.setClientSideCache(clientSideCache);
     return jedis;
   }
 
+  /**
+   * Has the connections handed out from now on serve reads from the given cache.
+   * @see Jedis#setClientSideCache(ClientSideCache)
+   */
+  public void setClientSideCache(final ClientSideCache clientSideCache) {
+    this.clientSideCache = clientSideCache;
+  }
+
   @Override
   protected void returnBrokenResource(final Jedis resource) {
     if (resource != null) {
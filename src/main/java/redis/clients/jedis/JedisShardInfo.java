@@ -30,7 +30,7 @@ public class JedisShardInfo extends ShardInfo<Jedis> {
   public JedisShardInfo(String host) {
     super(Sharded.DEFAULT_WEIGHT);
     URI uri = URI.create(host);
-    if (JedisURIHelper.isValid(uri)) {
+    if (JedisURIHelper.isValid(uri) && !JedisURIHelper.isUnixSocketScheme(uri)) {
       this.host = uri.getHost();
       this.port = uri.getPort();
       this.user = JedisURIHelper.getUser(uri);
@@ -164,7 +164,7 @@ public class JedisShardInfo extends ShardInfo<Jedis> {
 
   public JedisShardInfo(URI uri) {
     super(Sharded.DEFAULT_WEIGHT);
-    if (!JedisURIHelper.isValid(uri)) {
+    if (!JedisURIHelper.isValid(uri) || JedisURIHelper.isUnixSocketScheme(uri)) {
       throw new InvalidURIException(String.format(
         "Cannot open Redis connection due invalid URI. %s", uri.toString()));
     }
@@ -2,12 +2,14 @@ package redis.clients.jedis;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
+import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.exceptions.JedisNoReachableClusterNodeException;
 
@@ -55,7 +57,23 @@ public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandl
 
   @Override
   public Jedis getConnection() {
-    // In antirez's redis-rb-cluster implementation,
+    // a node known to be healthy is used right away, starting at a random one
+    JedisPool[] known = cache.getNodePools();
+    if (known.length > 0) {
+      int first = ThreadLocalRandom.current().nextInt(known.length);
+      for (int i = 0; i < known.length; i++) {
+        JedisPool pool = known[(first + i) % known.length];
+        if (isKnownHealthy(pool)) {
+          try {
+            return borrowConnection(pool);
+          } catch (JedisException ex) {
+            // try the next node
+          }
+        }
+      }
+    }
+
+    // Otherwise, as in antirez's redis-rb-cluster implementation,
     // getRandomConnection always return valid connection (able to
     // ping-pong)
     // or exception if all connections are invalid
@@ -65,17 +83,26 @@ public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandl
     for (JedisPool pool : pools) {
       Jedis jedis = null;
       try {
-        jedis = pool.getResource();
+        jedis = borrowConnection(pool);
 
         if (jedis == null) {
           continue;
         }
 
+        long start = System.nanoTime();
         String result = jedis.ping();
 
-        if (result.equalsIgnoreCase("pong")) return jedis;
+        if (result.equalsIgnoreCase("pong")) {
+          recordSuccess(jedis, System.nanoTime() - start);
+          return jedis;
+        }
 
         jedis.close();
+      } catch (JedisConnectionException ex) {
+        recordFailure(jedis);
+        if (jedis != null) {
+          jedis.close();
+        }
       } catch (JedisException ex) {
         if (jedis != null) {
           jedis.close();
@@ -92,12 +119,12 @@ public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandl
     if (connectionPool != null) {
       // It can't guaranteed to get valid connection because of node
       // assignment
-      return connectionPool.getResource();
+      return borrowConnection(connectionPool);
     } else {
       renewSlotCache(); //It's abnormal situation for cluster mode, that we have just nothing for slot, try to rediscover state
       connectionPool = cache.getSlotPool(slot);
       if (connectionPool != null) {
-        return connectionPool.getResource();
+        return borrowConnection(connectionPool);
       } else {
         //no choice, fallback to new connection to random node
         return getConnection();
@@ -0,0 +1,181 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Thread-safe pipeline shared by many threads. Commands issued by all threads are written
+ * back-to-back over one or a few {@link NioConnection}s and flushed together by the event loop,
+ * while each reply is matched to its command in FIFO order.
+ * <p>
+ * Every command returns immediately with a {@link JedisFuture} whose {@link Response#get()} waits
+ * for the reply, so a synchronous call reads as {@code pipeline.get("key").get()}. There is no need to
+ * sync. Commands changing the state of a connection (SELECT, WATCH) are rejected, and blocking
+ * commands should be avoided as they hold up every thread sharing the connection.
+ */
+public class MultiplexedPipeline extends MultiKeyPipelineBase implements Closeable {
+
+  private final NioEventLoop eventLoop;
+  private final boolean ownEventLoop;
+  private final JedisSocketFactory jedisSocketFactory;
+  private final String user;
+  private final String password;
+  private final int database;
+  private final AtomicReferenceArray<NioConnection> connections;
+  private final CapturingClient capture = new CapturingClient();
+
+  public MultiplexedPipeline(final String host, final int port) {
+    this(host, port, Protocol.DEFAULT_TIMEOUT, null);
+  }
+
+  public MultiplexedPipeline(final HostAndPort hostAndPort, final String password) {
+    this(hostAndPort.getHost(), hostAndPort.getPort(), Protocol.DEFAULT_TIMEOUT, password);
+  }
+
+  public MultiplexedPipeline(final String host, final int port, final int timeout,
+      final String password) {
+    this(new NioEventLoop(), true, new ChannelJedisSocketFactory(host, port, timeout, timeout), 1,
+        null, password, Protocol.DEFAULT_DATABASE);
+  }
+
+  /**
+   * @param eventLoop event loop driving the connections, left open by {@link #close()}
+   * @param jedisSocketFactory factory of channel backed sockets
+   * @param connections number of connections opened to the node, each calling thread being
+   *          bound to one of them
+   */
+  public MultiplexedPipeline(final NioEventLoop eventLoop,
+      final JedisSocketFactory jedisSocketFactory, final int connections, final String user,
+      final String password, final int database) {
+    this(eventLoop, false, jedisSocketFactory, connections, user, password, database);
+  }
+
+  private MultiplexedPipeline(final NioEventLoop eventLoop, final boolean ownEventLoop,
+      final JedisSocketFactory jedisSocketFactory, final int connections, final String user,
+      final String password, final int database) {
+    if (connections <= 0) {
+      throw new IllegalArgumentException("connections <= 0");
+    }
+    this.eventLoop = eventLoop;
+    this.ownEventLoop = ownEventLoop;
+    this.jedisSocketFactory = jedisSocketFactory;
+    this.user = user;
+    this.password = password;
+    this.database = database;
+    this.connections = new AtomicReferenceArray<>(connections);
+    this.client = capture;
+    try {
+      for (int i = 0; i < connections; i++) {
+        this.connections.set(i, openConnection());
+      }
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  protected Client getClient(final String key) {
+    return capture;
+  }
+
+  @Override
+  protected Client getClient(final byte[] key) {
+    return capture;
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(final Builder<T> builder) {
+    final CapturingClient.Captured captured = capture.take();
+    final ProtocolCommand command = captured.command;
+    final byte[][] args = captured.args;
+    capture.clear();
+
+    final JedisFuture<T> response = new JedisFuture<>(builder, jedisSocketFactory.getSoTimeout());
+    nextConnection().sendCommand(command, args, response.callback());
+    return response;
+  }
+
+  @Override
+  public Response<String> select(final int index) {
+    throw new JedisDataException("SELECT is not supported on a multiplexed pipeline, "
+        + "pass the database to the constructor instead");
+  }
+
+  @Override
+  public Response<String> watch(final String... keys) {
+    throw new JedisDataException("WATCH is not supported on a multiplexed pipeline");
+  }
+
+  @Override
+  public Response<String> watch(final byte[]... keys) {
+    throw new JedisDataException("WATCH is not supported on a multiplexed pipeline");
+  }
+
+  @Override
+  public Response<String> unwatch() {
+    throw new JedisDataException("UNWATCH is not supported on a multiplexed pipeline");
+  }
+
+  @Override
+  public void close() {
+    for (int i = 0; i < connections.length(); i++) {
+      NioConnection connection = connections.get(i);
+      if (connection != null) {
+        connection.close();
+      }
+    }
+    if (ownEventLoop) {
+      eventLoop.close();
+    }
+  }
+
+  private NioConnection nextConnection() {
+    // a thread always uses the same connection, so its commands run in the order it sent them
+    final int index = (int) (Thread.currentThread().getId() % connections.length());
+    NioConnection connection = connections.get(index);
+    if (connection.isBroken()) {
+      // reconnect once for all the threads hitting the broken connection
+      synchronized (connections) {
+        connection = connections.get(index);
+        if (connection.isBroken()) {
+          connection = openConnection();
+          connections.set(index, connection);
+        }
+      }
+    }
+    return connection;
+  }
+
+  private NioConnection openConnection() {
+    final NioConnection connection = new NioConnection(eventLoop, jedisSocketFactory);
+    try {
+      connection.connect();
+      if (user != null) {
+        handshake(connection, Protocol.Command.AUTH, SafeEncoder.encode(user),
+          SafeEncoder.encode(password));
+      } else if (password != null) {
+        handshake(connection, Protocol.Command.AUTH, SafeEncoder.encode(password));
+      }
+      if (database != 0) {
+        handshake(connection, Protocol.Command.SELECT, Protocol.toByteArray(database));
+      }
+    } catch (RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+    return connection;
+  }
+
+  private void handshake(final NioConnection connection, final ProtocolCommand cmd,
+      final byte[]... args) {
+    final JedisFuture<String> response = new JedisFuture<>(BuilderFactory.STRING,
+        jedisSocketFactory.getSoTimeout());
+    connection.sendCommand(cmd, args, response.callback());
+    response.get();
+  }
+}
@@ -0,0 +1,389 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.RedisInputStream;
+import redis.clients.jedis.util.RedisOutputStream;
+
+/**
+ * Non-blocking alternative to {@link Connection}. Commands are encoded into a direct buffer by the
+ * calling thread and written by a {@link NioEventLoop} thread, which also decodes the replies and
+ * hands them to the {@link Callback} of each command in the order the commands were sent. The
+ * socket is obtained from a {@link JedisSocketFactory} creating channel backed sockets, such as
+ * {@link ChannelJedisSocketFactory}.
+ * <p>
+ * Sending is thread-safe: commands issued concurrently are written back-to-back and flushed
+ * together by the event loop.
+ */
+public class NioConnection implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(NioConnection.class.getName());
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte[][] EMPTY_ARGS = new byte[0][];
+
+  /**
+   * Receives the reply of a single command. Both methods are invoked from an event loop thread and
+   * must not block.
+   */
+  public interface Callback {
+    /**
+     * @param reply the decoded reply, as returned by {@link Protocol#read(RedisInputStream)}, or the
+     *          {@link JedisDataException} sent back by Redis
+     */
+    void onReply(Object reply);
+
+    void onFailure(JedisConnectionException cause);
+  }
+
+  private final NioEventLoop eventLoop;
+  private final JedisSocketFactory jedisSocketFactory;
+
+  private final Object writeLock = new Object();
+  private ByteBuffer outbound = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private final RedisOutputStream outputStream = new RedisOutputStream(new OutboundStream());
+  private final Queue<Callback> callbacks = new ConcurrentLinkedQueue<>();
+  private boolean writeScheduled = false;
+
+  private byte[] inbound = new byte[BUFFER_SIZE];
+  private int inboundStart, inboundEnd;
+  private final Protocol.ReplyScanner replyScanner = new Protocol.ReplyScanner();
+  private final ReplyStream replyStream = new ReplyStream();
+  private final RedisInputStream inputStream = new RedisInputStream(replyStream);
+
+  private SocketChannel channel;
+  private NioEventLoop.Worker worker;
+  private SelectionKey key;
+  private volatile boolean broken = false;
+  private volatile PushListener pushListener;
+  private JedisConnectionException failure;
+
+  public NioConnection(final NioEventLoop eventLoop, final JedisSocketFactory jedisSocketFactory) {
+    this.eventLoop = eventLoop;
+    this.jedisSocketFactory = jedisSocketFactory;
+  }
+
+  public String getHost() {
+    return jedisSocketFactory.getHost();
+  }
+
+  public int getPort() {
+    return jedisSocketFactory.getPort();
+  }
+
+  public int getSoTimeout() {
+    return jedisSocketFactory.getSoTimeout();
+  }
+
+  /**
+   * Opens the socket through the socket factory, blocking up to the connection timeout, and hands
+   * it over to the event loop.
+   */
+  public void connect() {
+    synchronized (writeLock) {
+      if (channel != null || broken) {
+        return;
+      }
+      Socket socket = null;
+      try {
+        socket = jedisSocketFactory.createSocket();
+        SocketChannel socketChannel = socket.getChannel();
+        if (socketChannel == null) {
+          throw new JedisConnectionException("Socket created for "
+              + jedisSocketFactory.getDescription() + " is not backed by a SocketChannel");
+        }
+        socketChannel.configureBlocking(false);
+        channel = socketChannel;
+        worker = eventLoop.register(this);
+      } catch (IOException ex) {
+        broken = true;
+        IOUtils.closeQuietly(socket);
+        throw new JedisConnectionException("Failed connecting to "
+            + jedisSocketFactory.getDescription(), ex);
+      } catch (JedisConnectionException ex) {
+        broken = true;
+        IOUtils.closeQuietly(socket);
+        throw ex;
+      }
+    }
+  }
+
+  public boolean isConnected() {
+    return channel != null && !broken && channel.isOpen();
+  }
+
+  /**
+   * Sets the listener receiving the push messages of a RESP3 connection, called by the event loop
+   * thread. Without a listener they are taken as the reply to the oldest pending command.
+   */
+  public void setPushListener(final PushListener pushListener) {
+    this.pushListener = pushListener;
+  }
+
+  public boolean isBroken() {
+    return broken;
+  }
+
+  public void sendCommand(final ProtocolCommand cmd, final Callback callback) {
+    sendCommand(cmd, EMPTY_ARGS, callback);
+  }
+
+  /**
+   * Queues a command for writing. The callback is completed by the event loop once the reply has
+   * been read, or failed if the connection breaks first.
+   */
+  public void sendCommand(final ProtocolCommand cmd, final byte[][] args, final Callback callback) {
+    synchronized (writeLock) {
+      if (broken) {
+        throw new JedisConnectionException("Attempting to write to a broken connection", failure);
+      }
+      if (channel == null) {
+        connect();
+      }
+      try {
+        Protocol.sendCommand(outputStream, cmd, args);
+        outputStream.flush();
+      } catch (IOException ex) {
+        // only thrown if the outbound buffer cannot grow anymore
+        throw new JedisConnectionException(ex);
+      }
+      callbacks.add(callback);
+      if (!writeScheduled) {
+        writeScheduled = true;
+        worker.requestWrite(this);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    fail(new JedisConnectionException("Connection closed"));
+  }
+
+  void handleRegister(final Selector selector) {
+    synchronized (writeLock) {
+      if (broken) {
+        return;
+      }
+      try {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+      } catch (ClosedChannelException ex) {
+        fail(new JedisConnectionException(ex));
+        return;
+      }
+      // commands sent before the registration had their write request dropped
+      if (outbound.position() > 0) {
+        handleWrite();
+      }
+    }
+  }
+
+  void handleWrite() {
+    synchronized (writeLock) {
+      if (broken || key == null) {
+        return;
+      }
+      try {
+        outbound.flip();
+        while (outbound.hasRemaining() && channel.write(outbound) > 0) {
+          // keep writing until the socket buffer is full
+        }
+        final boolean remaining = outbound.hasRemaining();
+        outbound.compact();
+        if (remaining) {
+          key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        } else {
+          key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+          writeScheduled = false;
+          if (outbound.capacity() > BUFFER_SIZE) {
+            // a big command does not pin its off-heap buffer for the life of the connection
+            outbound = ByteBuffer.allocateDirect(BUFFER_SIZE);
+          }
+        }
+      } catch (IOException ex) {
+        fail(new JedisConnectionException(ex));
+      }
+    }
+  }
+
+  void handleRead(final ByteBuffer readBuffer) {
+    int read;
+    try {
+      do {
+        readBuffer.clear();
+        read = channel.read(readBuffer);
+        if (read > 0) {
+          readBuffer.flip();
+          ensureInboundCapacity(read);
+          readBuffer.get(inbound, inboundEnd, read);
+          inboundEnd += read;
+        }
+      } while (read == readBuffer.capacity());
+      decodeReplies();
+    } catch (IOException ex) {
+      fail(new JedisConnectionException(ex));
+      return;
+    } catch (JedisConnectionException ex) {
+      fail(ex);
+      return;
+    }
+    if (read < 0) {
+      fail(new JedisConnectionException("Unexpected end of stream."));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void decodeReplies() {
+    while (inboundStart < inboundEnd) {
+      final int end = replyScanner.scan(inbound, inboundStart, inboundEnd);
+      if (end < 0) {
+        break;
+      }
+
+      final boolean push = inbound[inboundStart] == Protocol.GREATER_THAN_BYTE;
+      replyStream.reset(inboundStart, end);
+      Object reply;
+      try {
+        reply = Protocol.read(inputStream);
+      } catch (JedisDataException e) {
+        reply = e;
+      }
+      inboundStart = end;
+
+      final PushListener listener = pushListener;
+      if (push && listener != null) {
+        try {
+          listener.onPush((List<Object>) reply);
+        } catch (RuntimeException e) {
+          log.warn("Push listener for {} failed", jedisSocketFactory.getDescription(), e);
+        }
+        continue;
+      }
+
+      final Callback callback = callbacks.poll();
+      if (callback != null) {
+        try {
+          callback.onReply(reply);
+        } catch (RuntimeException e) {
+          log.warn("Reply callback for {} failed", jedisSocketFactory.getDescription(), e);
+        }
+      }
+    }
+    if (inboundStart == inboundEnd) {
+      inboundStart = inboundEnd = 0;
+    }
+  }
+
+  private void ensureInboundCapacity(final int length) {
+    if (inboundEnd + length <= inbound.length) {
+      return;
+    }
+    final int pending = inboundEnd - inboundStart;
+    byte[] target = inbound;
+    if (pending + length > inbound.length) {
+      target = new byte[Math.max(inbound.length * 2, pending + length)];
+    }
+    System.arraycopy(inbound, inboundStart, target, 0, pending);
+    inbound = target;
+    inboundStart = 0;
+    inboundEnd = pending;
+  }
+
+  void fail(final JedisConnectionException cause) {
+    synchronized (writeLock) {
+      if (!broken) {
+        broken = true;
+        failure = cause;
+        if (key != null) {
+          key.cancel();
+        }
+        if (channel != null) {
+          IOUtils.closeQuietly(channel.socket());
+        }
+      }
+      Callback callback;
+      while ((callback = callbacks.poll()) != null) {
+        try {
+          callback.onFailure(cause);
+        } catch (RuntimeException e) {
+          log.warn("Failure callback for {} failed", jedisSocketFactory.getDescription(), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Appends encoded commands to the direct outbound buffer, growing it when needed.
+   */
+  private class OutboundStream extends OutputStream {
+    @Override
+    public void write(final int b) {
+      ensureCapacity(1);
+      outbound.put((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      ensureCapacity(len);
+      outbound.put(b, off, len);
+    }
+
+    private void ensureCapacity(final int length) {
+      if (outbound.remaining() >= length) {
+        return;
+      }
+      ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(outbound.capacity() * 2,
+        outbound.position() + length));
+      outbound.flip();
+      grown.put(outbound);
+      outbound = grown;
+    }
+  }
+
+  /**
+   * Serves exactly one complete reply out of the inbound bytes.
+   */
+  private class ReplyStream extends InputStream {
+    private int position, limit;
+
+    void reset(final int position, final int limit) {
+      this.position = position;
+      this.limit = limit;
+    }
+
+    @Override
+    public int read() {
+      return position < limit ? inbound[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (position >= limit) {
+        return -1;
+      }
+      final int length = Math.min(len, limit - position);
+      System.arraycopy(inbound, position, b, off, length);
+      position += length;
+      return length;
+    }
+  }
+}
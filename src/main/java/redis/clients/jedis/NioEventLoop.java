@@ -0,0 +1,158 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * Selector based I/O threads driving {@link NioConnection}s. Connections are spread round-robin over
+ * the I/O threads, so a few threads can serve thousands of connections: no thread ever waits for
+ * the reply of a single command.
+ */
+public class NioEventLoop implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(NioEventLoop.class.getName());
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final Worker[] workers;
+  private final AtomicInteger nextWorker = new AtomicInteger();
+
+  public NioEventLoop() {
+    this(1);
+  }
+
+  public NioEventLoop(final int ioThreads) {
+    if (ioThreads <= 0) {
+      throw new IllegalArgumentException("ioThreads <= 0");
+    }
+    workers = new Worker[ioThreads];
+    for (int i = 0; i < ioThreads; i++) {
+      workers[i] = new Worker("jedis-nio-" + i);
+    }
+    for (Worker worker : workers) {
+      worker.thread.start();
+    }
+  }
+
+  Worker register(final NioConnection connection) {
+    Worker worker = workers[(nextWorker.getAndIncrement() & Integer.MAX_VALUE) % workers.length];
+    worker.register(connection);
+    return worker;
+  }
+
+  @Override
+  public void close() {
+    for (Worker worker : workers) {
+      worker.shutdown();
+    }
+  }
+
+  static final class Worker implements Runnable {
+    private final Thread thread;
+    private final Selector selector;
+    // only ever touched by this worker's thread, so it can be shared by all of its connections
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final Queue<NioConnection> registrations = new ConcurrentLinkedQueue<>();
+    private final Queue<NioConnection> writes = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    Worker(final String name) {
+      try {
+        selector = Selector.open();
+      } catch (IOException ex) {
+        throw new JedisConnectionException("Failed opening selector", ex);
+      }
+      thread = new Thread(this, name);
+      thread.setDaemon(true);
+    }
+
+    void register(final NioConnection connection) {
+      if (!running) {
+        throw new JedisConnectionException("Event loop is closed");
+      }
+      registrations.add(connection);
+      selector.wakeup();
+    }
+
+    void requestWrite(final NioConnection connection) {
+      writes.add(connection);
+      selector.wakeup();
+    }
+
+    void shutdown() {
+      running = false;
+      selector.wakeup();
+      if (Thread.currentThread() != thread) {
+        try {
+          thread.join();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (running) {
+          selector.select();
+
+          NioConnection connection;
+          while ((connection = registrations.poll()) != null) {
+            connection.handleRegister(selector);
+          }
+          while ((connection = writes.poll()) != null) {
+            connection.handleWrite();
+          }
+
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            connection = (NioConnection) key.attachment();
+            if (key.isValid() && key.isReadable()) {
+              connection.handleRead(readBuffer);
+            }
+            if (key.isValid() && key.isWritable()) {
+              connection.handleWrite();
+            }
+          }
+        }
+      } catch (IOException | ClosedSelectorException ex) {
+        log.error("Jedis event loop {} stopped unexpectedly", thread.getName(), ex);
+      } finally {
+        running = false;
+        closeConnections();
+      }
+    }
+
+    private void closeConnections() {
+      final JedisConnectionException cause = new JedisConnectionException("Event loop is closed");
+      NioConnection connection;
+      while ((connection = registrations.poll()) != null) {
+        connection.fail(cause);
+      }
+      try {
+        for (SelectionKey key : selector.keys()) {
+          ((NioConnection) key.attachment()).fail(cause);
+        }
+        selector.close();
+      } catch (IOException | ClosedSelectorException ex) {
+        // ignored, nothing left to release
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * Reads the replies of a pipeline spread over several connections concurrently, so that a sync
+ * costs the latency of the slowest connection rather than the sum of them.
+ */
+final class PipelineReaders {
+
+  /**
+   * Reads the replies pending on one connection.
+   */
+  abstract static class Read<T> {
+    abstract T read();
+  }
+
+  // reads the replies of all the connections but one, shared by all the pipelines
+  private static final ExecutorService READERS = Executors
+      .newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+          final Thread thread = new Thread(r, "jedis-pipeline-reader-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+
+  private PipelineReaders() {
+  }
+
+  /**
+   * Runs the reads concurrently, the calling thread running the first one, and waits for all of
+   * them to end, so that no connection is still being read once this returns or throws, even if
+   * the calling thread is interrupted meanwhile.
+   * @return the result of each read, in order
+   * @throws JedisConnectionException the first failure of a read
+   */
+  static <T> List<T> readAll(final List<? extends Read<T>> reads) {
+    final List<Future<T>> futures = new ArrayList<>(Math.max(reads.size() - 1, 0));
+    for (int i = 1; i < reads.size(); i++) {
+      final Read<T> read = reads.get(i);
+      futures.add(READERS.submit(new Callable<T>() {
+        @Override
+        public T call() {
+          return read.read();
+        }
+      }));
+    }
+
+    final List<T> results = new ArrayList<>(reads.size());
+    JedisConnectionException failure = null;
+    boolean interrupted = false;
+    try {
+      if (!reads.isEmpty()) {
+        try {
+          results.add(reads.get(0).read());
+        } catch (JedisConnectionException e) {
+          failure = e;
+        }
+      }
+    } finally {
+      // the connections are released by the caller, so the reads must all be over first: an
+      // interrupt only takes effect once they are
+      for (Future<T> future : futures) {
+        for (;;) {
+          try {
+            results.add(future.get());
+            break;
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause() instanceof JedisConnectionException
+                  ? (JedisConnectionException) e.getCause()
+                  : new JedisConnectionException(e.getCause());
+            }
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return results;
+  }
+}
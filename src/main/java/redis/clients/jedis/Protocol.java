@@ -1,7 +1,10 @@
 package redis.clients.jedis;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -34,6 +37,17 @@ public final class Protocol {
   public static final byte PLUS_BYTE = '+';
   public static final byte MINUS_BYTE = '-';
   public static final byte COLON_BYTE = ':';
+  // RESP3 types, only sent by the server once HELLO 3 was negotiated
+  public static final byte PERCENT_BYTE = '%';
+  public static final byte TILDE_BYTE = '~';
+  public static final byte COMMA_BYTE = ',';
+  public static final byte HASH_BYTE = '#';
+  public static final byte LEFT_PAREN_BYTE = '(';
+  public static final byte UNDERSCORE_BYTE = '_';
+  public static final byte EQUALS_BYTE = '=';
+  public static final byte EXCLAMATION_BYTE = '!';
+  public static final byte PIPE_BYTE = '|';
+  public static final byte GREATER_THAN_BYTE = '>';
 
   public static final String SENTINEL_MASTERS = "masters";
   public static final String SENTINEL_GET_MASTER_ADDR_BY_NAME = "get-master-addr-by-name";
@@ -69,6 +83,18 @@ public final class Protocol {
   public static final String PUBSUB_NUMSUB = "numsub";
   public static final String PUBSUB_NUM_PAT = "numpat";
 
+  // largest magnitude below which every integral double is exactly a long
+  private static final long MAX_EXACT_INTEGRAL = 1L << 53;
+
+  // encoded small numbers, shared as they are never modified
+  private static final int NUMBER_CACHE_LOW = -1;
+  private static final byte[][] NUMBER_CACHE = new byte[1025][];
+  static {
+    for (int i = 0; i < NUMBER_CACHE.length; i++) {
+      NUMBER_CACHE[i] = encodeLong(i + NUMBER_CACHE_LOW);
+    }
+  }
+
   public static final byte[] BYTES_TRUE = toByteArray(1);
   public static final byte[] BYTES_FALSE = toByteArray(0);
   public static final byte[] BYTES_TILDE = SafeEncoder.encode("~");
@@ -82,18 +108,10 @@ public final class Protocol {
 
   public static void sendCommand(final RedisOutputStream os, final ProtocolCommand command,
       final byte[]... args) {
-    sendCommand(os, command.getRaw(), args);
-  }
-
-  private static void sendCommand(final RedisOutputStream os, final byte[] command,
-      final byte[]... args) {
     try {
       os.write(ASTERISK_BYTE);
       os.writeIntCrLf(args.length + 1);
-      os.write(DOLLAR_BYTE);
-      os.writeIntCrLf(command.length);
-      os.write(command);
-      os.writeCrLf();
+      writeCommandName(os, command);
 
       for (final byte[] arg : args) {
         os.write(DOLLAR_BYTE);
@@ -106,8 +124,53 @@ public final class Protocol {
     }
   }
 
+  /**
+   * Sends a command whose arguments are written from {@link BulkSource}s.
+   * @param channel channel of the connection socket, used to transfer file and buffer contents
+   *          directly when not null
+   */
+  public static void sendCommand(final RedisOutputStream os, final WritableByteChannel channel,
+      final ProtocolCommand command, final BulkSource... args) {
+    for (final BulkSource arg : args) {
+      if (arg.length() > Integer.MAX_VALUE) {
+        throw new JedisDataException("Argument of " + arg.length() + " bytes is too large");
+      }
+    }
+
+    try {
+      os.write(ASTERISK_BYTE);
+      os.writeIntCrLf(args.length + 1);
+      writeCommandName(os, command);
+
+      for (final BulkSource arg : args) {
+        os.write(DOLLAR_BYTE);
+        os.writeIntCrLf((int) arg.length());
+        arg.writeTo(os, channel);
+        os.writeCrLf();
+      }
+    } catch (IOException e) {
+      throw new JedisConnectionException(e);
+    }
+  }
+
+  private static void writeCommandName(final RedisOutputStream os, final ProtocolCommand command)
+      throws IOException {
+    if (command instanceof Command) {
+      os.write(((Command) command).frame);
+      return;
+    }
+    final byte[] raw = command.getRaw();
+    os.write(DOLLAR_BYTE);
+    os.writeIntCrLf(raw.length);
+    os.write(raw);
+    os.writeCrLf();
+  }
+
   private static void processError(final RedisInputStream is) {
-    String message = is.readLine();
+    throwError(is.readLine());
+  }
+
+  private static void throwError(final String message) {
     // TODO: I'm not sure if this is the best way to do this.
     // Maybe Read only first 5 bytes instead?
     if (message.startsWith(MOVED_PREFIX)) {
@@ -152,19 +215,44 @@ public final class Protocol {
   }
 
   private static Object process(final RedisInputStream is) {
-    final byte b = is.readByte();
+    return process(is.readByte(), is);
+  }
+
+  private static Object process(final byte b, final RedisInputStream is) {
     switch (b) {
     case PLUS_BYTE:
       return processStatusCodeReply(is);
     case DOLLAR_BYTE:
       return processBulkReply(is);
     case ASTERISK_BYTE:
+    case TILDE_BYTE:
+    case GREATER_THAN_BYTE:
       return processMultiBulkReply(is);
     case COLON_BYTE:
       return processInteger(is);
     case MINUS_BYTE:
       processError(is);
       return null;
+    case PERCENT_BYTE:
+      return processMapReply(is);
+    case COMMA_BYTE:
+      return processDouble(is);
+    case HASH_BYTE:
+      return processBoolean(is);
+    case LEFT_PAREN_BYTE:
+      return new BigInteger(is.readLine());
+    case UNDERSCORE_BYTE:
+      processNull(is);
+      return null;
+    case EQUALS_BYTE:
+      return processVerbatimReply(is);
+    case EXCLAMATION_BYTE:
+      throwError(SafeEncoder.encode(processBulkReply(is)));
+      return null;
+    case PIPE_BYTE:
+      // attributes only carry auxiliary information about the reply that follows them
+      processMapReply(is);
+      return process(is);
     default:
       throw new JedisConnectionException("Unknown reply: " + (char) b);
     }
@@ -196,10 +284,103 @@ public final class Protocol {
     return read;
   }
 
+  /**
+   * Reads the header of a bulk reply and leaves its payload in the stream, so that it can be
+   * consumed without materializing the whole value. The caller must then read exactly the returned
+   * number of bytes followed by CRLF.
+   * @return the length of the payload, or -1 for a nil reply
+   */
+  public static int readBulkReplyLength(final RedisInputStream is) {
+    return readBulkReplyLength(is, null);
+  }
+
+  /**
+   * Reads the header of a bulk reply as {@link #readBulkReplyLength(RedisInputStream)}, handing
+   * the push messages that precede it to the listener.
+   */
+  public static int readBulkReplyLength(final RedisInputStream is,
+      final PushListener pushListener) {
+    byte b = is.readByte();
+    while (b == GREATER_THAN_BYTE && pushListener != null) {
+      pushListener.onPush(processMultiBulkReply(is));
+      b = is.readByte();
+    }
+    switch (b) {
+    case DOLLAR_BYTE:
+      return is.readIntCrLf();
+    case UNDERSCORE_BYTE:
+      // the RESP3 null of a missing key
+      processNull(is);
+      return -1;
+    case MINUS_BYTE:
+      processError(is);
+      return -1;
+    case EXCLAMATION_BYTE:
+      throwError(SafeEncoder.encode(processBulkReply(is)));
+      return -1;
+    default:
+      throw new JedisConnectionException("Expected a bulk reply but got: " + (char) b);
+    }
+  }
+
   private static Long processInteger(final RedisInputStream is) {
     return is.readLongCrLf();
   }
 
+  private static Double processDouble(final RedisInputStream is) {
+    final String value = is.readLine();
+    switch (value) {
+    case "inf":
+      return Double.POSITIVE_INFINITY;
+    case "-inf":
+      return Double.NEGATIVE_INFINITY;
+    case "nan":
+      return Double.NaN;
+    default:
+      return Double.valueOf(value);
+    }
+  }
+
+  private static Boolean processBoolean(final RedisInputStream is) {
+    final byte value = is.readByte();
+    is.readByte();
+    is.readByte();
+    return value == 't';
+  }
+
+  private static void processNull(final RedisInputStream is) {
+    // the line is empty, only CRLF follows the type
+    is.readByte();
+    is.readByte();
+  }
+
+  /**
+   * @return the text of the verbatim string, without its three letter format and colon
+   */
+  private static byte[] processVerbatimReply(final RedisInputStream is) {
+    final byte[] value = processBulkReply(is);
+    return value == null ? null : Arrays.copyOfRange(value, 4, value.length);
+  }
+
+  /**
+   * @return the keys and values of the map one after the other, as a RESP2 server sends them
+   */
+  private static List<Object> processMapReply(final RedisInputStream is) {
+    final int num = is.readIntCrLf();
+    if (num == -1) {
+      return null;
+    }
+    final List<Object> ret = new ArrayList<>(num * 2);
+    for (int i = 0; i < num * 2; i++) {
+      try {
+        ret.add(process(is));
+      } catch (JedisDataException e) {
+        ret.add(e);
+      }
+    }
+    return ret;
+  }
+
   private static List<Object> processMultiBulkReply(final RedisInputStream is) {
     final int num = is.readIntCrLf();
     if (num == -1) {
@@ -220,26 +401,467 @@ public final class Protocol {
     return process(is);
   }
 
+  /**
+   * Parses one reply, handing the push messages that precede it to the listener. Without a
+   * listener a push message is returned as the reply, like the messages of a RESP2 subscription.
+   * @param pushListener receives push messages; it must not throw, since the reply following them
+   *          would be left in the stream
+   */
+  public static Object read(final RedisInputStream is, final PushListener pushListener) {
+    while (true) {
+      final byte b = is.readByte();
+      if (b != GREATER_THAN_BYTE || pushListener == null) {
+        return process(b, is);
+      }
+      pushListener.onPush(processMultiBulkReply(is));
+    }
+  }
+
+  /**
+   * Parses one reply and reports its elements to the visitor instead of building the generic
+   * object tree. An error making up the whole reply is thrown, as by
+   * {@link #read(RedisInputStream)}. If the visitor throws, the rest of the reply is still read so
+   * that the stream stays usable, then the exception is rethrown.
+   * @return the result of the visitor
+   */
+  public static <T> T read(final RedisInputStream is, final ReplyVisitor<T> visitor) {
+    return read(is, visitor, null);
+  }
+
+  /**
+   * Parses one reply as {@link #read(RedisInputStream, ReplyVisitor)}, handing the push messages
+   * that precede it to the listener as {@link #read(RedisInputStream, PushListener)} does.
+   */
+  public static <T> T read(final RedisInputStream is, final ReplyVisitor<T> visitor,
+      final PushListener pushListener) {
+    byte b = is.readByte();
+    while (b == GREATER_THAN_BYTE && pushListener != null) {
+      pushListener.onPush(processMultiBulkReply(is));
+      b = is.readByte();
+    }
+    final GuardedVisitor guarded = new GuardedVisitor(visitor);
+    visit(b, is, guarded, true);
+    if (guarded.failure != null) {
+      throw guarded.failure;
+    }
+    return visitor.result();
+  }
+
+  private static void visit(final RedisInputStream is, final GuardedVisitor visitor,
+      final boolean topLevel) {
+    visit(is.readByte(), is, visitor, topLevel);
+  }
+
+  private static void visit(final byte b, final RedisInputStream is, final GuardedVisitor visitor,
+      final boolean topLevel) {
+    switch (b) {
+    case PLUS_BYTE:
+      visitor.status(processStatusCodeReply(is));
+      break;
+    case DOLLAR_BYTE:
+      final byte[] value = processBulkReply(is);
+      if (value == null) {
+        visitor.nil();
+      } else {
+        visitor.bulk(value);
+      }
+      break;
+    case ASTERISK_BYTE:
+    case GREATER_THAN_BYTE:
+      final int num = is.readIntCrLf();
+      if (num == -1) {
+        visitor.nil();
+        break;
+      }
+      visitor.arrayStart(num);
+      for (int i = 0; i < num; i++) {
+        visit(is, visitor, false);
+      }
+      visitor.arrayEnd();
+      break;
+    case TILDE_BYTE:
+      final int size = is.readIntCrLf();
+      visitor.setStart(size);
+      for (int i = 0; i < size; i++) {
+        visit(is, visitor, false);
+      }
+      visitor.arrayEnd();
+      break;
+    case PERCENT_BYTE:
+      final int pairs = is.readIntCrLf();
+      visitor.mapStart(pairs);
+      for (int i = 0; i < pairs * 2; i++) {
+        visit(is, visitor, false);
+      }
+      visitor.arrayEnd();
+      break;
+    case COLON_BYTE:
+      visitor.integer(is.readLongCrLf());
+      break;
+    case COMMA_BYTE:
+      visitor.doubleValue(processDouble(is));
+      break;
+    case HASH_BYTE:
+      visitor.bool(processBoolean(is));
+      break;
+    case LEFT_PAREN_BYTE:
+      visitor.bigNumber(new BigInteger(is.readLine()));
+      break;
+    case UNDERSCORE_BYTE:
+      processNull(is);
+      visitor.nil();
+      break;
+    case EQUALS_BYTE:
+      visitor.bulk(processVerbatimReply(is));
+      break;
+    case PIPE_BYTE:
+      processMapReply(is);
+      visit(is, visitor, topLevel);
+      break;
+    case MINUS_BYTE:
+    case EXCLAMATION_BYTE:
+      final String message = b == MINUS_BYTE ? is.readLine()
+          : SafeEncoder.encode(processBulkReply(is));
+      if (topLevel) {
+        throwError(message);
+      }
+      try {
+        throwError(message);
+      } catch (JedisDataException e) {
+        visitor.error(e);
+      }
+      break;
+    default:
+      throw new JedisConnectionException("Unknown reply: " + (char) b);
+    }
+  }
+
+  /**
+   * Forwards the events to a visitor until it fails, keeping the first failure.
+   */
+  private static final class GuardedVisitor {
+    private final ReplyVisitor<?> visitor;
+    private RuntimeException failure;
+
+    GuardedVisitor(final ReplyVisitor<?> visitor) {
+      this.visitor = visitor;
+    }
+
+    void arrayStart(final int size) {
+      if (failure == null) {
+        try {
+          visitor.arrayStart(size);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void arrayEnd() {
+      if (failure == null) {
+        try {
+          visitor.arrayEnd();
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void bulk(final byte[] value) {
+      if (failure == null) {
+        try {
+          visitor.bulk(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void nil() {
+      if (failure == null) {
+        try {
+          visitor.nil();
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void status(final byte[] value) {
+      if (failure == null) {
+        try {
+          visitor.status(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void integer(final long value) {
+      if (failure == null) {
+        try {
+          visitor.integer(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void error(final JedisDataException error) {
+      if (failure == null) {
+        try {
+          visitor.error(error);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void mapStart(final int pairs) {
+      if (failure == null) {
+        try {
+          visitor.mapStart(pairs);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void setStart(final int size) {
+      if (failure == null) {
+        try {
+          visitor.setStart(size);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void doubleValue(final double value) {
+      if (failure == null) {
+        try {
+          visitor.doubleValue(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void bool(final boolean value) {
+      if (failure == null) {
+        try {
+          visitor.bool(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+
+    void bigNumber(final BigInteger value) {
+      if (failure == null) {
+        try {
+          visitor.bigNumber(value);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Looks for one complete reply in the given bytes without decoding it. This lets non-blocking
+   * transports accumulate socket reads until a whole reply is available and only then hand it to
+   * {@link #read(RedisInputStream)}.
+   * @param buf bytes received so far
+   * @param offset position of the first byte of the reply
+   * @param limit position after the last received byte
+   * @return position right after the end of the reply, or -1 if the reply is not complete yet
+   */
+  public static int scanReply(final byte[] buf, final int offset, final int limit) {
+    return new ReplyScanner().scan(buf, offset, limit);
+  }
+
+  /**
+   * Incremental form of {@link Protocol#scanReply(byte[], int, int)} for a reply arriving over
+   * many reads: the elements found complete by a call are not scanned again by the next one, so
+   * that a big array costs a single pass over its elements.
+   */
+  public static final class ReplyScanner {
+    // bytes of the reply already scanned, and elements still expected after them
+    private int scanned;
+    private long pending = 1;
+
+    /**
+     * @param buf bytes received so far
+     * @param offset position of the first byte of the reply, which may have moved since the
+     *          previous call as long as the bytes of the reply did not change
+     * @param limit position after the last received byte
+     * @return position right after the end of the reply, or -1 if the reply is not complete yet,
+     *         the next call then resuming where this one stopped
+     */
+    public int scan(final byte[] buf, final int offset, final int limit) {
+      int pos = offset + scanned;
+      while (pending > 0) {
+        if (pos >= limit) {
+          return incomplete(offset, pos);
+        }
+        final byte b = buf[pos];
+        int lineEnd = pos + 1;
+        while (lineEnd + 1 < limit && (buf[lineEnd] != '\r' || buf[lineEnd + 1] != '\n')) {
+          lineEnd++;
+        }
+        if (lineEnd + 1 >= limit) {
+          return incomplete(offset, pos);
+        }
+
+        switch (b) {
+        case PLUS_BYTE:
+        case MINUS_BYTE:
+        case COLON_BYTE:
+        case COMMA_BYTE:
+        case HASH_BYTE:
+        case LEFT_PAREN_BYTE:
+        case UNDERSCORE_BYTE:
+          pending--;
+          break;
+        case DOLLAR_BYTE:
+        case EQUALS_BYTE:
+        case EXCLAMATION_BYTE:
+          final long len = parseLong(buf, pos + 1, lineEnd);
+          if (len >= 0) {
+            if (lineEnd + 2 + len + 2 > limit) {
+              return incomplete(offset, pos);
+            }
+            lineEnd += len + 2;
+          }
+          pending--;
+          break;
+        case ASTERISK_BYTE:
+        case TILDE_BYTE:
+        case GREATER_THAN_BYTE:
+          pending += Math.max(parseLong(buf, pos + 1, lineEnd), 0) - 1;
+          break;
+        case PERCENT_BYTE:
+          pending += 2 * Math.max(parseLong(buf, pos + 1, lineEnd), 0) - 1;
+          break;
+        case PIPE_BYTE:
+          // the attributes are followed by the reply they describe
+          pending += 2 * parseLong(buf, pos + 1, lineEnd);
+          break;
+        default:
+          throw new JedisConnectionException("Unknown reply: " + (char) b);
+        }
+        pos = lineEnd + 2;
+      }
+      scanned = 0;
+      pending = 1;
+      return pos;
+    }
+
+    /**
+     * Remembers the element the next call starts with, scanned again as it is not complete.
+     */
+    private int incomplete(final int offset, final int elementStart) {
+      scanned = elementStart - offset;
+      return -1;
+    }
+  }
+
+  private static long parseLong(final byte[] buf, final int start, final int end) {
+    int pos = start;
+    final boolean isNeg = buf[pos] == '-';
+    if (isNeg) {
+      pos++;
+    }
+    long value = 0;
+    while (pos < end) {
+      value = value * 10 + buf[pos++] - '0';
+    }
+    return isNeg ? -value : value;
+  }
+
   public static final byte[] toByteArray(final boolean value) {
     return value ? BYTES_TRUE : BYTES_FALSE;
   }
 
   public static final byte[] toByteArray(final int value) {
-    return SafeEncoder.encode(String.valueOf(value));
+    return encodeLong(value);
   }
 
+  /**
+   * Encodes the decimal digits of the value, without going through a String.
+   */
   public static final byte[] toByteArray(final long value) {
-    return SafeEncoder.encode(String.valueOf(value));
+    return encodeLong(value);
   }
 
   public static final byte[] toByteArray(final double value) {
+    final long integral = (long) value;
+    if (isExactIntegral(value, integral)) {
+      return encodeLong(integral);
+    }
+    return toArgument(value);
+  }
+
+  static byte[] toArgument(final boolean value) {
+    return toByteArray(value);
+  }
+
+  static byte[] toArgument(final int value) {
+    return toArgument((long) value);
+  }
+
+  /**
+   * Encodes a numeric argument of a command. Small values return a shared array, so the result
+   * must only be written to the connection, never handed out.
+   */
+  static byte[] toArgument(final long value) {
+    if (value >= NUMBER_CACHE_LOW && value < NUMBER_CACHE_LOW + NUMBER_CACHE.length) {
+      return NUMBER_CACHE[(int) value - NUMBER_CACHE_LOW];
+    }
+    return encodeLong(value);
+  }
+
+  static byte[] toArgument(final double value) {
     if (value == Double.POSITIVE_INFINITY) {
       return POSITIVE_INFINITY_BYTES;
     } else if (value == Double.NEGATIVE_INFINITY) {
       return NEGATIVE_INFINITY_BYTES;
-    } else {
+    }
+    final long integral = (long) value;
+    if (isExactIntegral(value, integral)) {
+      return toArgument(integral);
+    }
+    return SafeEncoder.encode(String.valueOf(value));
+  }
+
+  /**
+   * Integral scores and increments are written like longs, skipping the String round trip.
+   */
+  private static boolean isExactIntegral(final double value, final long integral) {
+    return integral == value && Math.abs(integral) < MAX_EXACT_INTEGRAL
+        && (integral != 0 || Double.doubleToRawLongBits(value) == 0);
+  }
+
+  private static byte[] encodeLong(final long value) {
+    if (value == Long.MIN_VALUE) {
       return SafeEncoder.encode(String.valueOf(value));
     }
+    long remaining = value < 0 ? -value : value;
+    int size = value < 0 ? 2 : 1;
+    for (long rest = remaining; rest >= 10; rest /= 10) {
+      size++;
+    }
+    final byte[] encoded = new byte[size];
+    int pos = size;
+    do {
+      encoded[--pos] = (byte) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0);
+    if (value < 0) {
+      encoded[0] = '-';
+    }
+    return encoded;
   }
 
   public static enum Command implements ProtocolCommand {
@@ -260,12 +882,23 @@ public final class Protocol {
     PFADD, PFCOUNT, PFMERGE, READONLY, GEOADD, GEODIST, GEOHASH, GEOPOS, GEORADIUS, GEORADIUS_RO,
     GEORADIUSBYMEMBER, GEORADIUSBYMEMBER_RO, MODULE, BITFIELD, HSTRLEN, TOUCH, SWAPDB, MEMORY,
     XADD, XLEN, XDEL, XTRIM, XRANGE, XREVRANGE, XREAD, XACK, XGROUP, XREADGROUP, XPENDING, XCLAIM,
-    ACL, XINFO, BITFIELD_RO;
+    ACL, XINFO, BITFIELD_RO, HELLO;
 
     private final byte[] raw;
+    // the whole bulk string frame of the name, written as is
+    private final byte[] frame;
 
     Command() {
       raw = SafeEncoder.encode(this.name());
+      final byte[] length = SafeEncoder.encode(String.valueOf(raw.length));
+      frame = new byte[raw.length + length.length + 5];
+      frame[0] = DOLLAR_BYTE;
+      System.arraycopy(length, 0, frame, 1, length.length);
+      frame[length.length + 1] = '\r';
+      frame[length.length + 2] = '\n';
+      System.arraycopy(raw, 0, frame, length.length + 3, raw.length);
+      frame[frame.length - 2] = '\r';
+      frame[frame.length - 1] = '\n';
     }
 
     @Override
@@ -281,7 +914,7 @@ public final class Protocol {
     GETNAME, SETNAME, LIST, MATCH, COUNT, PING, PONG, UNLOAD, REPLACE, KEYS, PAUSE, DOCTOR,
     BLOCK, NOACK, STREAMS, KEY, CREATE, MKSTREAM, SETID, DESTROY, DELCONSUMER, MAXLEN, GROUP,
     ID, IDLE, TIME, RETRYCOUNT, FORCE, STREAM, GROUPS, CONSUMERS, HELP, FREQ,
-    SETUSER, GETUSER, DELUSER, WHOAMI, CAT, GENPASS, USERS;
+    SETUSER, GETUSER, DELUSER, WHOAMI, CAT, GENPASS, USERS, TRACKING, REDIRECT, ON;
 
     public final byte[] raw;
 
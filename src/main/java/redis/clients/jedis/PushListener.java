@@ -0,0 +1,17 @@
+package redis.clients.jedis;
+
+import java.util.List;
+
+/**
+ * Receives the push messages a RESP3 server sends outside of the replies to commands, such as
+ * invalidation messages of client side caching.
+ * @see Connection#setPushListener(PushListener)
+ */
+public interface PushListener {
+
+  /**
+   * @param push the kind of the message followed by its content, decoded as by
+   *          {@link Protocol#read(redis.clients.jedis.util.RedisInputStream)}
+   */
+  void onPush(List<Object> push);
+}
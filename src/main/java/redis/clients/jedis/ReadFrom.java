@@ -0,0 +1,112 @@
+package redis.clients.jedis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses the node a {@link JedisCluster} reads a slot from, among the master serving the slot
+ * and its replicas. Connections to replicas are switched to READONLY before the read. Reads
+ * failing on a replica are retried on the master, and writes always go to the master.
+ * <p>
+ * The strategies below cover the common cases; others can be plugged in by extending this class.
+ * Implementations are called concurrently by all the threads using the cluster.
+ */
+public abstract class ReadFrom {
+
+  /**
+   * Reads from the master only, as writes do. This is the default.
+   */
+  public static final ReadFrom MASTER = new ReadFrom() {
+    @Override
+    public JedisPool select(final JedisPool master, final List<JedisPool> replicas,
+        final Map<JedisPool, Long> latencies) {
+      return master;
+    }
+
+    @Override
+    public String toString() {
+      return "MASTER";
+    }
+  };
+
+  /**
+   * Reads from a random replica, or from the master when it has none.
+   */
+  public static final ReadFrom REPLICA_PREFERRED = new ReadFrom() {
+    @Override
+    public JedisPool select(final JedisPool master, final List<JedisPool> replicas,
+        final Map<JedisPool, Long> latencies) {
+      if (replicas.isEmpty()) {
+        return master;
+      }
+      return replicas.get(ThreadLocalRandom.current().nextInt(replicas.size()));
+    }
+
+    @Override
+    public String toString() {
+      return "REPLICA_PREFERRED";
+    }
+  };
+
+  /**
+   * Reads from the node, master or replica, whose reads were the fastest lately. Nodes not read
+   * from yet are tried first, so that their latency gets measured.
+   */
+  public static final ReadFrom NEAREST = new ReadFrom() {
+    @Override
+    public JedisPool select(final JedisPool master, final List<JedisPool> replicas,
+        final Map<JedisPool, Long> latencies) {
+      JedisPool nearest = master;
+      long nearestLatency = latency(master, latencies);
+      for (JedisPool replica : replicas) {
+        final long latency = latency(replica, latencies);
+        if (latency < nearestLatency) {
+          nearest = replica;
+          nearestLatency = latency;
+        }
+      }
+      return nearest;
+    }
+
+    private long latency(final JedisPool pool, final Map<JedisPool, Long> latencies) {
+      final Long latency = latencies.get(pool);
+      return latency == null ? 0 : latency;
+    }
+
+    @Override
+    public String toString() {
+      return "NEAREST";
+    }
+  };
+
+  /**
+   * Spreads the reads evenly over the master and its replicas.
+   */
+  public static final ReadFrom ROUND_ROBIN = new ReadFrom() {
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public JedisPool select(final JedisPool master, final List<JedisPool> replicas,
+        final Map<JedisPool, Long> latencies) {
+      final int index = (next.getAndIncrement() & Integer.MAX_VALUE) % (replicas.size() + 1);
+      return index == 0 ? master : replicas.get(index - 1);
+    }
+
+    @Override
+    public String toString() {
+      return "ROUND_ROBIN";
+    }
+  };
+
+  /**
+   * @param master pool of the master serving the slot
+   * @param replicas pools of the replicas of the master, possibly empty
+   * @param latencies smoothed duration of the reads served by each node, in nanoseconds, with no
+   *          entry for the nodes not read from yet
+   * @return the pool to borrow the connection of the read from
+   */
+  public abstract JedisPool select(JedisPool master, List<JedisPool> replicas,
+      Map<JedisPool, Long> latencies);
+}
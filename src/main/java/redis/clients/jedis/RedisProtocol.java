@@ -0,0 +1,19 @@
+package redis.clients.jedis;
+
+/**
+ * Version of the serialization protocol spoken on a connection. RESP3 is negotiated with HELLO
+ * and requires Redis 6 or later.
+ */
+public enum RedisProtocol {
+  RESP2(2), RESP3(3);
+
+  private final int version;
+
+  RedisProtocol(final int version) {
+    this.version = version;
+  }
+
+  public int version() {
+    return version;
+  }
+}
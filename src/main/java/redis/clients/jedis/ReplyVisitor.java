@@ -0,0 +1,101 @@
+package redis.clients.jedis;
+
+import java.math.BigInteger;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Receives the elements of a reply as {@link Protocol#read(redis.clients.jedis.util.RedisInputStream,
+ * ReplyVisitor)} parses them, in the order they appear on the wire, so that the final result can be
+ * built in one pass instead of from the generic object tree returned by
+ * {@link Protocol#read(redis.clients.jedis.util.RedisInputStream)}.
+ * <p>
+ * Elements of an array are reported between {@link #arrayStart(int)} and {@link #arrayEnd()}.
+ * The RESP3 types have their own events, which by default report the value as a RESP2 server
+ * would send it, so visitors written for RESP2 replies keep working on a RESP3 connection.
+ * Events a visitor does not override are rejected with a {@link JedisDataException}, which is
+ * thrown once the whole reply has been read. An instance is used for a single reply.
+ */
+public abstract class ReplyVisitor<T> {
+
+  /**
+   * @param size number of elements that follow before the matching {@link #arrayEnd()}
+   */
+  public void arrayStart(final int size) {
+    throw unexpected("array");
+  }
+
+  public void arrayEnd() {
+    throw unexpected("array");
+  }
+
+  public void bulk(final byte[] value) {
+    throw unexpected("bulk string");
+  }
+
+  public void status(final byte[] value) {
+    throw unexpected("status");
+  }
+
+  public void integer(final long value) {
+    throw unexpected("integer");
+  }
+
+  /**
+   * Nil bulk string or nil array.
+   */
+  public void nil() {
+    throw unexpected("nil");
+  }
+
+  /**
+   * Error nested in an array. An error making up the whole reply is thrown instead.
+   */
+  public void error(final JedisDataException error) {
+    throw error;
+  }
+
+  /**
+   * Start of a RESP3 map, whose keys and values follow one after the other before
+   * {@link #arrayEnd()}. Reported as an array of twice the size by default.
+   */
+  public void mapStart(final int pairs) {
+    arrayStart(pairs * 2);
+  }
+
+  /**
+   * Start of a RESP3 set, whose members follow before {@link #arrayEnd()}. Reported as an array
+   * by default.
+   */
+  public void setStart(final int size) {
+    arrayStart(size);
+  }
+
+  /**
+   * RESP3 double. Reported as its decimal representation by default.
+   */
+  public void doubleValue(final double value) {
+    bulk(Protocol.toByteArray(value));
+  }
+
+  /**
+   * RESP3 boolean. Reported as the integer 1 or 0 by default.
+   */
+  public void bool(final boolean value) {
+    integer(value ? 1 : 0);
+  }
+
+  /**
+   * RESP3 big number. Reported as its decimal representation by default.
+   */
+  public void bigNumber(final BigInteger value) {
+    bulk(SafeEncoder.encode(value.toString()));
+  }
+
+  public abstract T result();
+
+  private JedisDataException unexpected(final String element) {
+    return new JedisDataException("Unexpected " + element + " in reply for " + this);
+  }
+}
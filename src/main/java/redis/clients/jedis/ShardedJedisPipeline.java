@@ -1,8 +1,11 @@
 package redis.clients.jedis;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 public class ShardedJedisPipeline extends PipelineBase {
@@ -40,8 +43,8 @@ public class ShardedJedisPipeline extends PipelineBase {
    * commands you execute.
    */
   public void sync() {
-    for (Client client : clients) {
-      generateResponse(client.getOne());
+    for (Object reply : readAll()) {
+      generateResponse(reply);
     }
   }
 
@@ -53,12 +56,55 @@ public class ShardedJedisPipeline extends PipelineBase {
    */
   public List<Object> syncAndReturnAll() {
     List<Object> formatted = new ArrayList<Object>();
-    for (Client client : clients) {
-      formatted.add(generateResponse(client.getOne()).get());
+    for (Object reply : readAll()) {
+      formatted.add(generateResponse(reply).get());
     }
     return formatted;
   }
 
+  /**
+   * Flushes the commands of every shard, then reads the replies of the shards concurrently, so
+   * that a sync costs the latency of the slowest shard rather than the sum of them.
+   * @return the replies in the order the commands were issued, errors included as
+   *         {@link redis.clients.jedis.exceptions.JedisDataException}s
+   */
+  private List<Object> readAll() {
+    final Map<Client, Integer> counts = new IdentityHashMap<>();
+    for (Client client : clients) {
+      final Integer count = counts.get(client);
+      counts.put(client, count == null ? 1 : count + 1);
+    }
+    for (Client client : counts.keySet()) {
+      client.flush();
+    }
+
+    final List<Client> connections = new ArrayList<>(counts.keySet());
+    final List<PipelineReaders.Read<List<Object>>> reads = new ArrayList<>(connections.size());
+    for (final Client client : connections) {
+      final int count = counts.get(client);
+      reads.add(new PipelineReaders.Read<List<Object>>() {
+        @Override
+        List<Object> read() {
+          return client.getMany(count);
+        }
+      });
+    }
+    try {
+      final List<List<Object>> read = PipelineReaders.readAll(reads);
+      final Map<Client, Iterator<Object>> replies = new IdentityHashMap<>();
+      for (int i = 0; i < connections.size(); i++) {
+        replies.put(connections.get(i), read.get(i).iterator());
+      }
+      final List<Object> ordered = new ArrayList<>(clients.size());
+      for (Client client : clients) {
+        ordered.add(replies.get(client).next());
+      }
+      return ordered;
+    } finally {
+      clients.clear();
+    }
+  }
+
   @Override
   protected Client getClient(String key) {
     Client client = jedis.getShard(key).getClient();
@@ -0,0 +1,146 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.concurrent.BlockingQueue;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Pipeline for bulk jobs sending an unbounded number of commands. Unlike a {@link Pipeline}, which
+ * keeps every {@link Response} until {@link Pipeline#sync()}, it reads the pending replies as soon
+ * as a given number of commands or bytes has been sent, and hands each of them to a
+ * {@link Listener}. The memory used, on the client as in the output buffer of the server, is thus
+ * bounded by these limits rather than by the size of the job.
+ * <p>
+ * The {@link Response} returned for a command is completed once its reply is read, and can simply
+ * be ignored when replies are consumed through the listener. The connection must not be used for
+ * anything else until the pipeline is {@link #sync() synced} or closed.
+ */
+public class StreamingPipeline extends MultiKeyPipelineBase implements Closeable {
+
+  public static final int DEFAULT_MAX_PENDING_COMMANDS = 1000;
+  public static final int DEFAULT_MAX_PENDING_BYTES = 1024 * 1024;
+
+  /**
+   * Receives the replies in the order the commands were sent, from the thread sending the
+   * commands.
+   */
+  public interface Listener {
+    /**
+     * An exception thrown here ends the pipeline and breaks the connection, whose remaining
+     * replies are not read.
+     * @param reply the reply built as the {@link Response} of the command would return it, or the
+     *          {@link JedisDataException} it would throw
+     */
+    void onReply(Object reply);
+  }
+
+  private final int maxPendingCommands;
+  private final int maxPendingBytes;
+  private final Listener listener;
+  private long drainedAtBytes;
+
+  /**
+   * Drains the replies every {@value #DEFAULT_MAX_PENDING_COMMANDS} commands or
+   * {@value #DEFAULT_MAX_PENDING_BYTES} bytes.
+   */
+  public StreamingPipeline(final BinaryJedis jedis, final Listener listener) {
+    this(jedis, DEFAULT_MAX_PENDING_COMMANDS, DEFAULT_MAX_PENDING_BYTES, listener);
+  }
+
+  /**
+   * @param maxPendingCommands number of commands sent before their replies are read
+   * @param maxPendingBytes number of bytes of commands sent before their replies are read
+   * @param listener receives every reply, or null if they are only read into their responses
+   */
+  public StreamingPipeline(final BinaryJedis jedis, final int maxPendingCommands,
+      final int maxPendingBytes, final Listener listener) {
+    this.client = jedis.getClient();
+    this.maxPendingCommands = maxPendingCommands;
+    this.maxPendingBytes = maxPendingBytes;
+    this.listener = listener;
+    this.drainedAtBytes = client.getWrittenBytes();
+  }
+
+  /**
+   * Hands the replies to a queue, blocking the sending thread while it is full so that the job
+   * cannot run ahead of the consumer of the replies.
+   */
+  public StreamingPipeline(final BinaryJedis jedis, final int maxPendingCommands,
+      final int maxPendingBytes, final BlockingQueue<Object> replies) {
+    this(jedis, maxPendingCommands, maxPendingBytes, new Listener() {
+      @Override
+      public void onReply(final Object reply) {
+        try {
+          replies.put(reply);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new JedisConnectionException("Interrupted while queuing a reply", e);
+        }
+      }
+    });
+  }
+
+  @Override
+  protected Client getClient(final String key) {
+    return client;
+  }
+
+  @Override
+  protected Client getClient(final byte[] key) {
+    return client;
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(final Builder<T> builder) {
+    final Response<T> response = super.getResponse(builder);
+    final long written = client.getWrittenBytes();
+    if (written < drainedAtBytes) {
+      // the client reconnected
+      drainedAtBytes = 0;
+    }
+    if (getPipelinedResponseLength() >= maxPendingCommands
+        || written - drainedAtBytes >= maxPendingBytes) {
+      sync();
+    }
+    return response;
+  }
+
+  /**
+   * Sends the queued commands and reads all the pending replies.
+   */
+  public void sync() {
+    final int pending = getPipelinedResponseLength();
+    for (int i = 0; i < pending; i++) {
+      Object data;
+      try {
+        data = client.getOne();
+      } catch (JedisDataException e) {
+        data = e;
+      }
+      final Response<?> response = generateResponse(data);
+      if (listener != null) {
+        Object reply;
+        try {
+          reply = response.get();
+        } catch (JedisDataException e) {
+          reply = e;
+        }
+        try {
+          listener.onReply(reply);
+        } catch (RuntimeException e) {
+          // the remaining replies would be read as the replies to other commands
+          client.setBroken();
+          throw e;
+        }
+      }
+    }
+    drainedAtBytes = client.getWrittenBytes();
+  }
+
+  @Override
+  public void close() {
+    sync();
+  }
+}
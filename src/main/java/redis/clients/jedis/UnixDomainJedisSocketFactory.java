@@ -0,0 +1,93 @@
+package redis.clients.jedis;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+
+import org.newsclub.net.unix.AFUNIXSocket;
+import org.newsclub.net.unix.AFUNIXSocketAddress;
+
+/**
+ * JedisSocketFactory connecting to a server listening on a Unix domain socket, which spares a
+ * server running on the same host the TCP stack. The path of the socket file takes the place of
+ * the host, and the port is always 0.
+ * <p>
+ * The sockets are provided by junixsocket, an optional dependency which has to be added to the
+ * application to use this factory.
+ */
+public class UnixDomainJedisSocketFactory implements JedisSocketFactory {
+
+  private String path;
+  private int connectionTimeout;
+  private int soTimeout;
+
+  public UnixDomainJedisSocketFactory(String path) {
+    this(path, Protocol.DEFAULT_TIMEOUT, Protocol.DEFAULT_TIMEOUT);
+  }
+
+  public UnixDomainJedisSocketFactory(String path, int connectionTimeout, int soTimeout) {
+    this.path = path;
+    this.connectionTimeout = connectionTimeout;
+    this.soTimeout = soTimeout;
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    Socket socket = null;
+    try {
+      socket = AFUNIXSocket.newStrictInstance();
+      socket.connect(new AFUNIXSocketAddress(new File(path)), getConnectionTimeout());
+      socket.setSoTimeout(getSoTimeout());
+      return socket;
+    } catch (IOException ex) {
+      if (socket != null) {
+        socket.close();
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public String getDescription() {
+    return path;
+  }
+
+  @Override
+  public String getHost() {
+    return path;
+  }
+
+  @Override
+  public void setHost(String host) {
+    this.path = host;
+  }
+
+  @Override
+  public int getPort() {
+    return 0;
+  }
+
+  @Override
+  public void setPort(int port) {
+  }
+
+  @Override
+  public int getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  @Override
+  public void setConnectionTimeout(int connectionTimeout) {
+    this.connectionTimeout = connectionTimeout;
+  }
+
+  @Override
+  public int getSoTimeout() {
+    return soTimeout;
+  }
+
+  @Override
+  public void setSoTimeout(int soTimeout) {
+    this.soTimeout = soTimeout;
+  }
+}
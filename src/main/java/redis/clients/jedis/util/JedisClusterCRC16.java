@@ -33,6 +33,30 @@ public final class JedisClusterCRC16 {
           0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
           0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0,};
 
+  /**
+   * Tables of slicing-by-8: SLICING_TABLE[k][b] is the CRC16 of byte b followed by k zero bytes,
+   * so that 8 bytes are folded into the CRC at once by xoring one lookup per byte.
+   */
+  private static final int[][] SLICING_TABLE = new int[8][256];
+
+  static {
+    SLICING_TABLE[0] = LOOKUP_TABLE;
+    for (int k = 1; k < SLICING_TABLE.length; k++) {
+      for (int b = 0; b < 256; b++) {
+        final int crc = SLICING_TABLE[k - 1][b];
+        SLICING_TABLE[k][b] = ((crc << 8) ^ LOOKUP_TABLE[(crc >>> 8) & 0xFF]) & 0xFFFF;
+      }
+    }
+  }
+
+  private static final int[] T1 = SLICING_TABLE[1];
+  private static final int[] T2 = SLICING_TABLE[2];
+  private static final int[] T3 = SLICING_TABLE[3];
+  private static final int[] T4 = SLICING_TABLE[4];
+  private static final int[] T5 = SLICING_TABLE[5];
+  private static final int[] T6 = SLICING_TABLE[6];
+  private static final int[] T7 = SLICING_TABLE[7];
+
   private JedisClusterCRC16(){
     throw new InstantiationError( "Must not instantiate this class" );
   }
@@ -42,9 +66,17 @@ public final class JedisClusterCRC16 {
       throw new JedisClusterOperationException("Slot calculation of null is impossible");
     }
 
-    key = JedisClusterHashTagUtil.getHashTag(key);
+    // braces are ASCII and never part of the UTF-8 encoding of another character, so the hash tag
+    // found in the chars is the one the bytes of the key would hold
+    int s = key.indexOf('{');
+    if (s > -1) {
+      int e = key.indexOf('}', s + 1);
+      if (e > -1 && e != s + 1) {
+        return getCRC16(key, s + 1, e) & (16384 - 1);
+      }
+    }
     // optimization with modulo operator with power of 2 equivalent to getCRC16(key) % 16384
-    return getCRC16(key) & (16384 - 1);
+    return getCRC16(key, 0, key.length()) & (16384 - 1);
   }
 
   public static int getSlot(byte[] key) {
@@ -73,7 +105,8 @@ public final class JedisClusterCRC16 {
 
   /**
    * Create a CRC16 checksum from the bytes. implementation is from mp911de/lettuce, modified with
-   * some more optimizations
+   * some more optimizations: 8 then 4 bytes at a time through the slicing tables, the remaining
+   * bytes one at a time
    * @param bytes
    * @param s
    * @param e
@@ -82,8 +115,19 @@ public final class JedisClusterCRC16 {
    */
   public static int getCRC16(byte[] bytes, int s, int e) {
     int crc = 0x0000;
+    int i = s;
 
-    for (int i = s; i < e; i++) {
+    for (; i + 8 <= e; i += 8) {
+      crc = T7[((crc >>> 8) ^ bytes[i]) & 0xFF] ^ T6[(crc ^ bytes[i + 1]) & 0xFF]
+          ^ T5[bytes[i + 2] & 0xFF] ^ T4[bytes[i + 3] & 0xFF] ^ T3[bytes[i + 4] & 0xFF]
+          ^ T2[bytes[i + 5] & 0xFF] ^ T1[bytes[i + 6] & 0xFF] ^ LOOKUP_TABLE[bytes[i + 7] & 0xFF];
+    }
+    if (i + 4 <= e) {
+      crc = T3[((crc >>> 8) ^ bytes[i]) & 0xFF] ^ T2[(crc ^ bytes[i + 1]) & 0xFF]
+          ^ T1[bytes[i + 2] & 0xFF] ^ LOOKUP_TABLE[bytes[i + 3] & 0xFF];
+      i += 4;
+    }
+    for (; i < e; i++) {
       crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (bytes[i] & 0xFF)) & 0xFF]);
     }
     return crc & 0xFFFF;
@@ -94,7 +138,58 @@ public final class JedisClusterCRC16 {
   }
 
   public static int getCRC16(String key) {
-    byte[] bytesKey = SafeEncoder.encode(key);
-    return getCRC16(bytesKey, 0, bytesKey.length);
+    return getCRC16(key, 0, key.length());
+  }
+
+  /**
+   * CRC16 checksum of the UTF-8 encoding of the chars from s to e, as {@link SafeEncoder#encode(String)}
+   * would encode them, without encoding them: ASCII chars are hashed 8 at a time, and the bytes of
+   * the other chars are hashed as they are encoded.
+   */
+  public static int getCRC16(String key, int s, int e) {
+    int crc = 0x0000;
+    int i = s;
+    // a block of 8 chars which is not all ASCII is hashed char by char
+    int charwiseUntil = s;
+
+    while (i < e) {
+      if (i >= charwiseUntil && i + 8 <= e) {
+        final char c0 = key.charAt(i), c1 = key.charAt(i + 1), c2 = key.charAt(i + 2),
+            c3 = key.charAt(i + 3), c4 = key.charAt(i + 4), c5 = key.charAt(i + 5),
+            c6 = key.charAt(i + 6), c7 = key.charAt(i + 7);
+        if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) < 0x80) {
+          crc = T7[((crc >>> 8) ^ c0) & 0xFF] ^ T6[(crc ^ c1) & 0xFF] ^ T5[c2] ^ T4[c3] ^ T3[c4]
+              ^ T2[c5] ^ T1[c6] ^ LOOKUP_TABLE[c7];
+          i += 8;
+          continue;
+        }
+        charwiseUntil = i + 8;
+      }
+      final char c = key.charAt(i++);
+      if (c < 0x80) {
+        crc = update(crc, c);
+      } else if (c < 0x800) {
+        crc = update(crc, 0xC0 | (c >> 6));
+        crc = update(crc, 0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i < e && Character.isLowSurrogate(key.charAt(i))) {
+        final int cp = Character.toCodePoint(c, key.charAt(i++));
+        crc = update(crc, 0xF0 | (cp >> 18));
+        crc = update(crc, 0x80 | ((cp >> 12) & 0x3F));
+        crc = update(crc, 0x80 | ((cp >> 6) & 0x3F));
+        crc = update(crc, 0x80 | (cp & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        // a lone surrogate is encoded as the replacement byte
+        crc = update(crc, '?');
+      } else {
+        crc = update(crc, 0xE0 | (c >> 12));
+        crc = update(crc, 0x80 | ((c >> 6) & 0x3F));
+        crc = update(crc, 0x80 | (c & 0x3F));
+      }
+    }
+    return crc & 0xFFFF;
+  }
+
+  private static int update(final int crc, final int b) {
+    return (crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ b) & 0xFF];
   }
 }
@@ -8,12 +8,16 @@ public final class JedisURIHelper {
 
   private static final String REDIS = "redis";
   private static final String REDISS = "rediss";
+  private static final String UNIX = "unix";
 
   private JedisURIHelper(){
     throw new InstantiationError( "Must not instantiate this class" );
   }
 
   public static String getUser(URI uri) {
+    if (isUnixSocketScheme(uri)) {
+      return getQueryParameter(uri, "user");
+    }
     String userInfo = uri.getUserInfo();
     if (userInfo != null) {
       String user = userInfo.split(":", 2)[0];
@@ -26,6 +30,9 @@ public final class JedisURIHelper {
   }
 
   public static String getPassword(URI uri) {
+    if (isUnixSocketScheme(uri)) {
+      return getQueryParameter(uri, "password");
+    }
     String userInfo = uri.getUserInfo();
     if (userInfo != null) {
       return userInfo.split(":", 2)[1];
@@ -34,6 +41,10 @@ public final class JedisURIHelper {
   }
 
   public static int getDBIndex(URI uri) {
+    if (isUnixSocketScheme(uri)) {
+      String dbIndexStr = getQueryParameter(uri, "db");
+      return dbIndexStr == null ? DEFAULT_DB : Integer.parseInt(dbIndexStr);
+    }
     String[] pathSplit = uri.getPath().split("/", 2);
     if (pathSplit.length > 1) {
       String dbIndexStr = pathSplit[1];
@@ -47,6 +58,10 @@ public final class JedisURIHelper {
   }
 
   public static boolean isValid(URI uri) {
+    if (isUnixSocketScheme(uri)) {
+      // a path of a directory cannot name a socket file
+      return !isEmpty(uri.getPath()) && !uri.getPath().endsWith("/");
+    }
     if (isEmpty(uri.getScheme()) || isEmpty(uri.getHost()) || uri.getPort() == -1) {
       return false;
     }
@@ -66,4 +81,30 @@ public final class JedisURIHelper {
     return REDISS.equals(uri.getScheme());
   }
 
+  /**
+   * A Unix domain socket URI gives the path of the socket file, and its other settings as query
+   * parameters: unix:///path/to/redis.sock?user=user&amp;password=secret&amp;db=1
+   */
+  public static boolean isUnixSocketScheme(URI uri) {
+    return UNIX.equals(uri.getScheme());
+  }
+
+  public static String getUnixSocketPath(URI uri) {
+    return uri.getPath();
+  }
+
+  private static String getQueryParameter(URI uri, String name) {
+    String query = uri.getQuery();
+    if (query == null) {
+      return null;
+    }
+    for (String parameter : query.split("&")) {
+      String[] nameAndValue = parameter.split("=", 2);
+      if (nameAndValue[0].equals(name)) {
+        return nameAndValue.length > 1 ? nameAndValue[1] : "";
+      }
+    }
+    return null;
+  }
+
 }
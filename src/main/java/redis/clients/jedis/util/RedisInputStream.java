@@ -13,6 +13,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
@@ -181,6 +182,18 @@ public class RedisInputStream extends FilterInputStream {
 
   @Override
   public int read(byte[] b, int off, int len) throws JedisConnectionException {
+    if (count >= limit && len >= buf.length) {
+      // large reads go straight to the destination rather than through the buffer
+      try {
+        final int length = in.read(b, off, len);
+        if (length == -1) {
+          throw new JedisConnectionException("Unexpected end of stream.");
+        }
+        return length;
+      } catch (IOException e) {
+        throw new JedisConnectionException(e);
+      }
+    }
     ensureFill();
 
     final int length = Math.min(limit - count, len);
@@ -189,6 +202,31 @@ public class RedisInputStream extends FilterInputStream {
     return length;
   }
 
+  /**
+   * Copies up to len bytes into the given buffer, limited by its remaining space.
+   * @return the number of bytes copied
+   */
+  public int read(final ByteBuffer dst, final int len) throws JedisConnectionException {
+    ensureFill();
+
+    final int length = Math.min(Math.min(limit - count, len), dst.remaining());
+    dst.put(buf, count, length);
+    count += length;
+    return length;
+  }
+
+  @Override
+  public long skip(final long n) throws JedisConnectionException {
+    if (n <= 0) {
+      return 0;
+    }
+    ensureFill();
+
+    final int length = (int) Math.min(limit - count, n);
+    count += length;
+    return length;
+  }
+
   /**
    * This methods assumes there are required bytes to be read. If we cannot read anymore bytes an
    * exception is thrown to quickly ascertain that the stream was smaller than expected.
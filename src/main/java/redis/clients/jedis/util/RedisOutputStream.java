@@ -13,6 +13,8 @@ public final class RedisOutputStream extends FilterOutputStream {
   protected final byte[] buf;
 
   protected int count;
+  // bytes handed to the underlying stream so far
+  private long flushed;
 
   private final static int[] sizeTable = { 9, 99, 999, 9999, 99999, 999999, 9999999, 99999999,
           999999999, Integer.MAX_VALUE };
@@ -50,6 +52,7 @@ public final class RedisOutputStream extends FilterOutputStream {
   private void flushBuffer() throws IOException {
     if (count > 0) {
       out.write(buf, 0, count);
+      flushed += count;
       count = 0;
     }
   }
@@ -71,6 +74,7 @@ public final class RedisOutputStream extends FilterOutputStream {
     if (len >= buf.length) {
       flushBuffer();
       out.write(b, off, len);
+      flushed += len;
     } else {
       if (len >= buf.length - count) {
         flushBuffer();
@@ -128,6 +132,13 @@ public final class RedisOutputStream extends FilterOutputStream {
     writeCrLf();
   }
 
+  /**
+   * @return number of bytes written to this stream so far, whether still buffered or not
+   */
+  public long getWrittenBytes() {
+    return flushed + count;
+  }
+
   @Override
   public void flush() throws IOException {
     flushBuffer();
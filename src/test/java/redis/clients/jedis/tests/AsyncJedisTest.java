@@ -0,0 +1,112 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.AsyncJedis;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisFuture;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class AsyncJedisTest {
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private AsyncJedis jedis;
+
+  @Before
+  public void setUp() throws Exception {
+    jedis = new AsyncJedis(hnp, "foobared");
+    jedis.flushAll().get();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    jedis.close();
+  }
+
+  @Test
+  public void commandsReturnFutures() throws Exception {
+    JedisFuture<String> set = jedis.set("foo", "bar");
+    JedisFuture<byte[]> get = jedis.get(SafeEncoder.encode("foo"));
+    JedisFuture<List<String>> mget = jedis.mget("foo", "missing");
+    assertEquals("OK", set.get(1, TimeUnit.SECONDS));
+    assertArrayEquals(SafeEncoder.encode("bar"), get.get());
+    assertEquals(Arrays.asList("bar", null), mget.get());
+    assertTrue(get.isDone());
+    assertFalse(get.isFailed());
+  }
+
+  @Test
+  public void listenersAreCalledBack() throws InterruptedException {
+    final int commands = 100;
+    final CountDownLatch latch = new CountDownLatch(commands);
+    final AtomicLong sum = new AtomicLong();
+    for (int i = 0; i < commands; i++) {
+      jedis.incr("counter").addListener(new JedisFuture.Listener<Long>() {
+        @Override
+        public void onComplete(JedisFuture<Long> future) {
+          sum.addAndGet(future.get());
+          latch.countDown();
+        }
+      });
+    }
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(commands * (commands + 1) / 2, sum.get());
+  }
+
+  @Test
+  public void listenerAddedWhenDone() {
+    JedisFuture<String> ping = jedis.ping();
+    assertEquals("PONG", ping.get());
+    final List<String> replies = new ArrayList<>();
+    ping.addListener(new JedisFuture.Listener<String>() {
+      @Override
+      public void onComplete(JedisFuture<String> future) {
+        replies.add(future.get());
+      }
+    });
+    assertEquals(Arrays.asList("PONG"), replies);
+  }
+
+  @Test
+  public void errorReplies() throws InterruptedException {
+    jedis.set("foo", "bar");
+    final AtomicReference<Exception> error = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    jedis.incr("foo").addListener(new JedisFuture.Listener<Long>() {
+      @Override
+      public void onComplete(JedisFuture<Long> future) {
+        try {
+          future.get();
+        } catch (JedisDataException e) {
+          error.set(e);
+        }
+        latch.countDown();
+      }
+    });
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(error.get() instanceof JedisDataException);
+    try {
+      jedis.incr("foo").get();
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import redis.clients.jedis.CallbackPipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.tests.commands.JedisCommandTestBase;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class CallbackPipelineTest extends JedisCommandTestBase {
+
+  @Test
+  public void commandsWithoutCallbacks() {
+    CallbackPipeline p = new CallbackPipeline(jedis);
+    for (int i = 0; i < 1000; i++) {
+      p.set("foo" + i, "bar" + i);
+      p.expire("foo" + i, 100);
+      p.zadd("zfoo", i, "member" + i);
+      p.hincrBy("hfoo", "field", 1);
+    }
+    assertEquals(4000, p.getPendingCount());
+    assertTrue(p.sync().isEmpty());
+    assertEquals(0, p.getPendingCount());
+    assertEquals("bar999", jedis.get("foo999"));
+    assertEquals(Long.valueOf(1000), jedis.zcard("zfoo"));
+    assertEquals("1000", jedis.hget("hfoo", "field"));
+  }
+
+  @Test
+  public void callbacksReceiveReplies() {
+    final List<Object> replies = new ArrayList<>();
+    CallbackPipeline.ReplyCallback callback = new CallbackPipeline.ReplyCallback() {
+      @Override
+      public void onReply(Object reply) {
+        replies.add(reply);
+      }
+    };
+    CallbackPipeline p = new CallbackPipeline(jedis);
+    p.set("foo", "bar");
+    p.incrBy("counter", 5, callback);
+    p.sadd("sfoo", "a");
+    p.sendCommand(callback, Protocol.Command.GET, "foo");
+    p.incrBy("foo", 1, callback);
+    assertTrue(p.sync().isEmpty());
+    assertEquals(3, replies.size());
+    assertEquals(5L, replies.get(0));
+    assertEquals("bar", SafeEncoder.encode((byte[]) replies.get(1)));
+    assertTrue(replies.get(2) instanceof JedisDataException);
+  }
+
+  @Test
+  public void errorsAreCollected() {
+    CallbackPipeline p = new CallbackPipeline(jedis);
+    p.set("foo", "bar");
+    p.incrBy("foo", 1);
+    p.rpush("foo", "a");
+    p.del("foo");
+    List<JedisDataException> errors = p.sync();
+    assertEquals(2, errors.size());
+    assertEquals("PONG", jedis.ping());
+  }
+
+  @Test
+  public void failingCallbackLeavesConnectionUsable() {
+    CallbackPipeline p = new CallbackPipeline(jedis);
+    p.set("foo", "bar", new CallbackPipeline.ReplyCallback() {
+      @Override
+      public void onReply(Object reply) {
+        throw new IllegalStateException();
+      }
+    });
+    p.set("foo", "baz");
+    try {
+      p.close();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertEquals("baz", jedis.get("foo"));
+  }
+}
@@ -0,0 +1,147 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.ClientSideCache;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+public class ClientSideCacheTest {
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private ClientSideCache cache;
+  private Jedis jedis;
+  private Jedis control;
+
+  @Before
+  public void setUp() throws Exception {
+    control = new Jedis(hnp);
+    control.auth("foobared");
+    control.flushAll();
+    cache = new ClientSideCache(hnp, "foobared", 100);
+    jedis = new Jedis(hnp);
+    jedis.auth("foobared");
+    jedis.setClientSideCache(cache);
+    long deadline = System.currentTimeMillis() + 5000;
+    while (cache.getRedirectId() < 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(cache.getRedirectId() >= 0);
+  }
+
+  @After
+  public void tearDown() {
+    jedis.close();
+    cache.close();
+    control.close();
+  }
+
+  @Test
+  public void readsAreCachedUntilInvalidated() throws InterruptedException {
+    control.set("foo", "bar");
+    control.hset("hash", "field", "value");
+    control.sadd("set", "member");
+    assertEquals("bar", jedis.get("foo"));
+    assertEquals("value", jedis.hget("hash", "field"));
+    assertEquals(Collections.singletonMap("field", "value"), jedis.hgetAll("hash"));
+    assertEquals(Collections.singleton("member"), jedis.smembers("set"));
+    assertNull(jedis.get("missing"));
+    assertEquals(4, cache.size());
+
+    control.set("foo", "baz");
+    awaitSize(3);
+    assertEquals("baz", jedis.get("foo"));
+    assertEquals("value", jedis.hget("hash", "field"));
+
+    control.flushAll();
+    awaitSize(0);
+    assertNull(jedis.get("foo"));
+  }
+
+  @Test
+  public void mgetCombinesCachedAndFetchedValues() {
+    control.set("a", "1");
+    control.set("b", "2");
+    assertEquals("1", jedis.get("a"));
+    assertEquals(Arrays.asList("1", "2", null), jedis.mget("a", "b", "c"));
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void cachedRepliesCannotBeModified() {
+    control.hset("hash", "field", "value");
+    jedis.hgetAll("hash").put("other", "value");
+    assertEquals(Collections.singletonMap("field", "value"), jedis.hgetAll("hash"));
+  }
+
+  @Test
+  public void poolConnectionsShareTheCache() throws InterruptedException {
+    control.set("foo", "bar");
+    try (JedisPool pool = new JedisPool(new JedisPoolConfig(), hnp.getHost(), hnp.getPort(), 2000,
+        "foobared")) {
+      pool.setClientSideCache(cache);
+      try (Jedis first = pool.getResource()) {
+        assertEquals("bar", first.get("foo"));
+      }
+      assertEquals(1, cache.size());
+      control.set("foo", "baz");
+      awaitSize(0);
+      try (Jedis second = pool.getResource()) {
+        assertEquals("baz", second.get("foo"));
+      }
+    }
+  }
+
+  @Test
+  public void databasesAreCachedApart() throws InterruptedException {
+    control.set("foo", "bar");
+    control.select(1);
+    control.set("foo", "other");
+    try (Jedis other = new Jedis(hnp)) {
+      other.auth("foobared");
+      other.select(1);
+      other.setClientSideCache(cache);
+      assertEquals("bar", jedis.get("foo"));
+      assertEquals("other", other.get("foo"));
+      assertEquals("bar", jedis.get("foo"));
+      assertEquals(2, cache.size());
+
+      // a connection switching database does not read the replies of the previous one
+      jedis.select(1);
+      assertEquals("other", jedis.get("foo"));
+
+      control.set("foo", "changed");
+      awaitSize(0);
+      assertEquals("changed", other.get("foo"));
+    }
+  }
+
+  @Test
+  public void closedCacheIsBypassed() {
+    control.set("foo", "bar");
+    assertEquals("bar", jedis.get("foo"));
+    cache.close();
+    assertEquals(0, cache.size());
+    control.set("foo", "baz");
+    assertEquals("baz", jedis.get("foo"));
+  }
+
+  private void awaitSize(int size) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (cache.size() != size && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(size, cache.size());
+  }
+}
@@ -1,14 +1,18 @@
 package redis.clients.jedis.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -18,6 +22,8 @@ import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -30,13 +36,20 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import redis.clients.jedis.ClusterBroadcastResult;
+import redis.clients.jedis.ClusterNodeHealth;
+import redis.clients.jedis.ClusterScanIterator;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.ClusterReset;
 import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.JedisClusterPipeline;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.ReadFrom;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.exceptions.*;
 import redis.clients.jedis.tests.utils.ClientKillerUtil;
 import redis.clients.jedis.tests.utils.JedisClusterTestUtil;
@@ -226,6 +239,79 @@ public class JedisClusterTest {
     nodeSlave2.flushDB();
   }
 
+  @Test
+  public void readFromReplica() throws Exception {
+    node1.clusterMeet(localHost, nodeInfoSlave2.getPort());
+    JedisClusterTestUtil.waitForClusterReady(node1, node2, node3, nodeSlave2);
+    nodeSlave2.configSet("masterauth", "cluster");
+    nodeSlave2.clusterReplicate(JedisClusterTestUtil.getNodeId(node2.clusterNodes()));
+    // replicas are listed once they have replicated something
+    node2.set("51", "foo");
+    waitForReplicaInClusterSlots(node1, 1);
+
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(nodeInfo1);
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      assertEquals(ReadFrom.MASTER, jc.getReadFrom());
+      jc.set("51", "foo");
+      assertEquals(1, node2.waitReplicas(1, 1000).longValue());
+
+      long hits = keyspaceHits(nodeSlave2);
+      long readonlyCalls = commandCalls(nodeSlave2, "readonly");
+      jc.setReadFrom(ReadFrom.REPLICA_PREFERRED);
+      assertEquals("foo", jc.get("51"));
+      assertEquals(hits + 1, keyspaceHits(nodeSlave2));
+
+      // writes still go to the master
+      jc.set("51", "bar");
+      assertEquals(1, node2.waitReplicas(1, 1000).longValue());
+      assertEquals("bar", jc.get("51"));
+      assertEquals(hits + 2, keyspaceHits(nodeSlave2));
+
+      jc.setReadFrom(ReadFrom.NEAREST);
+      for (int i = 0; i < 10; i++) {
+        assertEquals("bar", jc.get("51"));
+      }
+      hits = keyspaceHits(nodeSlave2);
+      jc.setReadFrom(ReadFrom.ROUND_ROBIN);
+      for (int i = 0; i < 10; i++) {
+        assertEquals("bar", jc.get("51"));
+      }
+      assertEquals(hits + 5, keyspaceHits(nodeSlave2));
+      // the pooled connection to the replica is switched to read only once
+      assertEquals(readonlyCalls + 1, commandCalls(nodeSlave2, "readonly"));
+    } finally {
+      nodeSlave2.clusterReset(ClusterReset.SOFT);
+      nodeSlave2.flushDB();
+      nodeSlave2.configSet("masterauth", "");
+    }
+  }
+
+  private static void waitForReplicaInClusterSlots(Jedis node, int replicas)
+      throws InterruptedException {
+    for (int i = 0; i < 200; i++) {
+      int found = 0;
+      for (Object range : node.clusterSlots()) {
+        found += ((List<?>) range).size() - 3;
+      }
+      if (found >= replicas) {
+        return;
+      }
+      Thread.sleep(50);
+    }
+    fail("replica not listed in CLUSTER SLOTS: " + node.clusterNodes());
+  }
+
+  private static long keyspaceHits(Jedis node) {
+    for (String line : node.info("stats").split("\r\n")) {
+      if (line.startsWith("keyspace_hits:")) {
+        return Long.parseLong(line.substring("keyspace_hits:".length()));
+      }
+    }
+    throw new IllegalStateException("no keyspace_hits in INFO");
+  }
+
   /**
    * slot->nodes 15363 node3 e
    */
@@ -350,6 +436,240 @@ public class JedisClusterTest {
     assertEquals("foo", jc.get("51"));
   }
 
+  @Test
+  public void backgroundTopologyRefresh() throws InterruptedException {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      jc.enableTopologyRefresh(100, 50);
+      int slot51 = JedisClusterCRC16.getSlot("51");
+      node2.clusterDelSlots(slot51);
+      node3.clusterDelSlots(slot51);
+      node3.clusterAddSlots(slot51);
+      JedisClusterTestUtil.waitForClusterReady(node1, node2, node3);
+
+      // picked up by the periodic refresh, without any redirection
+      int port = 0;
+      for (int i = 0; i < 100 && port != nodeInfo3.getPort(); i++) {
+        Thread.sleep(50);
+        try (Jedis jedis = jc.getConnectionFromSlot(slot51)) {
+          port = jedis.getClient().getPort();
+        }
+      }
+      assertEquals(nodeInfo3.getPort(), port);
+      jc.set("51", "foo");
+      assertEquals("foo", node3.get("51"));
+    }
+  }
+
+  @Test
+  public void movedStormAcrossThreads() throws Exception {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (final JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT,
+        DEFAULT_TIMEOUT, DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      int slot51 = JedisClusterCRC16.getSlot("51");
+      node2.clusterDelSlots(slot51);
+      node3.clusterDelSlots(slot51);
+      node3.clusterAddSlots(slot51);
+      JedisClusterTestUtil.waitForClusterReady(node1, node2, node3);
+      node3.set("51", "foo");
+
+      ExecutorService executor = Executors.newFixedThreadPool(20);
+      try {
+        List<Future<String>> futures = new ArrayList<Future<String>>();
+        for (int i = 0; i < 200; i++) {
+          futures.add(executor.submit(new Callable<String>() {
+            @Override
+            public String call() {
+              return jc.get("51");
+            }
+          }));
+        }
+        for (Future<String> future : futures) {
+          assertEquals("foo", future.get());
+        }
+      } finally {
+        executor.shutdown();
+      }
+      try (Jedis jedis = jc.getConnectionFromSlot(slot51)) {
+        assertEquals(nodeInfo3.getPort(), jedis.getClient().getPort());
+      }
+    }
+  }
+
+  @Test
+  public void circuitBreakerOpensOnUnreachableNode() throws InterruptedException {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (RoutableJedisCluster jc = new RoutableJedisCluster(jedisClusterNode)) {
+      jc.enableCircuitBreaker(2, 200);
+      jc.set("b", "bar");
+      ClusterNodeHealth healthy = jc.getNodeHealth()
+          .get(localHost + ":" + nodeInfo1.getPort());
+      assertTrue(healthy.getSuccesses() > 0);
+      assertTrue(healthy.getLatencyNanos() >= 0);
+      assertEquals(ClusterNodeHealth.State.CLOSED, healthy.getState());
+
+      // nothing listens on this port
+      HostAndPort unreachable = new HostAndPort("127.0.0.1", 7399);
+      int slotB = JedisClusterCRC16.getSlot("b");
+      jc.routeSlot(slotB, unreachable);
+      try {
+        jc.get("b");
+        fail();
+      } catch (JedisClusterMaxAttemptsException e) {
+        // expected
+      }
+      ClusterNodeHealth health = jc.getNodeHealth().get(unreachable.toString());
+      // the attempts after the breaker opened did not try to connect
+      assertEquals(2, health.getFailures());
+      assertEquals(ClusterNodeHealth.State.OPEN, health.getState());
+
+      // once the open duration elapsed, a single probe goes through, and fails
+      Thread.sleep(250);
+      jc.routeSlot(slotB, unreachable);
+      try {
+        jc.get("b");
+        fail();
+      } catch (JedisClusterMaxAttemptsException e) {
+        // expected
+      }
+      assertEquals(3, health.getFailures());
+      assertEquals(ClusterNodeHealth.State.OPEN, health.getState());
+    }
+  }
+
+  @Test
+  public void anyNodeCommandsSkipPingOfHealthyNodes() throws InterruptedException {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      // node1 replied lately, so it is picked without being pinged
+      jc.set("b", "bar");
+      node1.configResetStat();
+      node2.configResetStat();
+      node3.configResetStat();
+      for (int i = 0; i < 10; i++) {
+        jc.publish("channel", "message");
+      }
+      assertEquals(0, pingCalls(node1) + pingCalls(node2) + pingCalls(node3));
+
+      // the other nodes are known to be healthy once pinged in the background
+      jc.enableHealthChecks(50);
+      String node3Key = localHost + ":" + nodeInfo3.getPort();
+      for (int i = 0; i < 100 && !jc.getNodeHealth().get(node3Key).isHealthy(1000); i++) {
+        Thread.sleep(20);
+      }
+      assertTrue(jc.getNodeHealth().get(node3Key).isHealthy(1000));
+      assertTrue(pingCalls(node3) > 0);
+    }
+  }
+
+  private static long pingCalls(Jedis node) {
+    return commandCalls(node, "ping");
+  }
+
+  private static long commandCalls(Jedis node, String command) {
+    String prefix = "cmdstat_" + command + ":calls=";
+    for (String line : node.info("commandstats").split("\r\n")) {
+      if (line.startsWith(prefix)) {
+        return Long.parseLong(line.substring(prefix.length(), line.indexOf(',')));
+      }
+    }
+    return 0;
+  }
+
+  private static class RoutableJedisCluster extends JedisCluster {
+    RoutableJedisCluster(Set<HostAndPort> nodes) {
+      super(nodes, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT, DEFAULT_REDIRECTIONS, "cluster",
+          DEFAULT_CONFIG);
+    }
+
+    void routeSlot(int slot, HostAndPort node) {
+      connectionHandler.assignSlotToNode(slot, node);
+    }
+  }
+
+  @Test
+  public void scanAllMasters() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      Set<String> expected = new HashSet<String>();
+      for (int i = 0; i < 300; i++) {
+        jc.set("scan:" + i, "v");
+        expected.add("scan:" + i);
+        jc.hset("scan-hash", "field" + i, "v" + i);
+      }
+
+      ClusterNodeHealth health = jc.getNodeHealth().get(localHost + ":" + nodeInfo3.getPort());
+      long successes = health.getSuccesses();
+      Set<String> keys = new HashSet<String>();
+      try (ClusterScanIterator<String> pages = jc.scanAll(
+        new ScanParams().match("scan:*").count(20), 2, 2)) {
+        while (pages.hasNext()) {
+          keys.addAll(pages.next());
+        }
+      }
+      assertEquals(expected, keys);
+      // the pages are recorded in the health of the masters
+      assertTrue(health.getSuccesses() > successes);
+
+      Map<String, String> hash = new HashMap<String, String>();
+      try (ClusterScanIterator<Map.Entry<String, String>> pages = jc.hscanAll("scan-hash",
+        new ScanParams().count(20), 2)) {
+        while (pages.hasNext()) {
+          for (Map.Entry<String, String> entry : pages.next()) {
+            hash.put(entry.getKey(), entry.getValue());
+          }
+        }
+      }
+      assertEquals(jc.hgetAll("scan-hash"), hash);
+
+      // closing before the end stops the prefetching threads
+      ClusterScanIterator<String> pages = jc.scanAll(new ScanParams().count(1), 3, 1);
+      assertTrue(pages.hasNext());
+      assertFalse(pages.next().isEmpty());
+      pages.close();
+      assertFalse(pages.hasNext());
+    }
+  }
+
+  @Test
+  public void broadcastToAllMasters() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      // one key on each master
+      jc.set("b", "1");
+      jc.set("51", "2");
+      jc.set("foo", "3");
+
+      ClusterBroadcastResult<Long> sizes = jc.broadcastDbSize();
+      assertTrue(sizes.isSuccessful());
+      assertEquals(3, sizes.getReplies().size());
+      assertEquals(3, jc.dbSizeAll());
+      assertEquals(new HashSet<String>(Arrays.asList("b", "51", "foo")), jc.keysAll("*"));
+
+      String script = "return 1";
+      ClusterBroadcastResult<String> loaded = jc.broadcastScriptLoad(script);
+      assertTrue(loaded.isSuccessful());
+      String sha = loaded.getReplies().values().iterator().next();
+      for (Jedis node : Arrays.asList(node1, node2, node3)) {
+        assertTrue(node.scriptExists(sha));
+      }
+
+      ClusterBroadcastResult<String> flushed = jc.broadcastFlushAll();
+      assertEquals(3, flushed.getReplies().size());
+      assertEquals(0, jc.dbSizeAll());
+    }
+  }
+
   @Test
   public void testAskResponse() throws InterruptedException {
     Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
@@ -363,6 +683,178 @@ public class JedisClusterTest {
     assertEquals("foo", jc.get("51"));
   }
 
+  @Test
+  public void pipelineAcrossNodes() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      List<Response<String>> gets = new ArrayList<Response<String>>();
+      try (JedisClusterPipeline p = jc.pipelined()) {
+        for (int i = 0; i < 100; i++) {
+          p.set("key" + i, "value" + i);
+          gets.add(p.get("key" + i));
+        }
+        Response<Long> incr = p.incr("counter");
+        Response<Long> wrongType = p.incr("key0");
+        p.sync();
+
+        for (int i = 0; i < 100; i++) {
+          assertEquals("value" + i, gets.get(i).get());
+        }
+        assertEquals(Long.valueOf(1), incr.get());
+        try {
+          wrongType.get();
+          fail();
+        } catch (JedisDataException e) {
+          // expected
+        }
+
+        p.set("foo", "bar");
+        p.get("foo");
+        assertEquals(Arrays.<Object> asList("OK", "bar"), p.syncAndReturnAll());
+      }
+      assertEquals("value99", jc.get("key99"));
+    }
+  }
+
+  @Test
+  public void pipelineRecordsNodeHealth() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (RoutableJedisCluster jc = new RoutableJedisCluster(jedisClusterNode)) {
+      jc.enableCircuitBreaker(1, 10000);
+      try (JedisClusterPipeline p = jc.pipelined()) {
+        p.set("51", "foo");
+        p.sync();
+      }
+      ClusterNodeHealth healthy = jc.getNodeHealth().get(localHost + ":" + nodeInfo2.getPort());
+      assertEquals(1, healthy.getSuccesses());
+
+      HostAndPort unreachable = new HostAndPort("127.0.0.1", 7399);
+      jc.routeSlot(JedisClusterCRC16.getSlot("b"), unreachable);
+      for (int i = 0; i < 2; i++) {
+        try (JedisClusterPipeline p = jc.pipelined()) {
+          p.get("b");
+          fail();
+        } catch (JedisConnectionException e) {
+          // expected
+        }
+      }
+      ClusterNodeHealth health = jc.getNodeHealth().get(unreachable.toString());
+      // the second pipeline did not try to connect
+      assertEquals(1, health.getFailures());
+      assertEquals(ClusterNodeHealth.State.OPEN, health.getState());
+    }
+  }
+
+  @Test
+  public void pipelineFollowsRedirections() throws InterruptedException {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      int slot51 = JedisClusterCRC16.getSlot("51");
+      int slot6 = JedisClusterCRC16.getSlot("6");
+      node3.clusterSetSlotImporting(slot51, JedisClusterTestUtil.getNodeId(node2.clusterNodes()));
+      node2.clusterSetSlotMigrating(slot51, JedisClusterTestUtil.getNodeId(node3.clusterNodes()));
+      node2.clusterDelSlots(slot6);
+      node3.clusterDelSlots(slot6);
+      node3.clusterAddSlots(slot6);
+      JedisClusterTestUtil.waitForClusterReady(node1, node2, node3);
+
+      try (JedisClusterPipeline p = jc.pipelined()) {
+        p.set("51", "asked");
+        p.set("6", "moved");
+        Response<String> asked = p.get("51");
+        Response<String> moved = p.get("6");
+        p.sync();
+        assertEquals("asked", asked.get());
+        assertEquals("moved", moved.get());
+      }
+      assertEquals("moved", node3.get("6"));
+    }
+  }
+
+  @Test
+  public void pipelineKeepsRepliesInOrderAroundAsking() throws InterruptedException {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      int slot51 = JedisClusterCRC16.getSlot("51");
+      int slot6 = JedisClusterCRC16.getSlot("6");
+      node3.clusterSetSlotImporting(slot51, JedisClusterTestUtil.getNodeId(node2.clusterNodes()));
+      node2.clusterSetSlotMigrating(slot51, JedisClusterTestUtil.getNodeId(node3.clusterNodes()));
+      node2.clusterDelSlots(slot6);
+      node3.clusterDelSlots(slot6);
+      node3.clusterAddSlots(slot6);
+      JedisClusterTestUtil.waitForClusterReady(node1, node2, node3);
+      node3.set("6", "moved");
+      node3.asking();
+      node3.set("51", "asked");
+
+      // node3 gets the MOVED get, then two commands each preceded by ASKING
+      try (JedisClusterPipeline p = jc.pipelined()) {
+        Response<String> moved = p.get("6");
+        Response<String> set = p.set("{51}a", "other");
+        Response<String> asked = p.get("51");
+        p.sync();
+        assertEquals("moved", moved.get());
+        assertEquals("OK", set.get());
+        assertEquals("asked", asked.get());
+      }
+    }
+  }
+
+  @Test
+  public void multiKeyCommandsAcrossSlots() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (JedisCluster jc = new JedisCluster(jedisClusterNode, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT,
+        DEFAULT_REDIRECTIONS, "cluster", DEFAULT_CONFIG)) {
+      assertEquals("OK", jc.mset("a", "1", "b", "2", "{a}c", "3", "d", "4"));
+      assertEquals(Arrays.asList("1", null, "2", "3", "4"), jc.mget("a", "x", "b", "{a}c", "d"));
+      assertEquals(Long.valueOf(4), jc.exists("a", "b", "x", "{a}c", "d"));
+      assertEquals(Long.valueOf(2), jc.touch("a", "x", "d"));
+      assertEquals(Long.valueOf(2), jc.unlink("a", "x", "b"));
+      assertEquals(Long.valueOf(2), jc.del("{a}c", "d", "x"));
+      assertEquals(Long.valueOf(0), jc.exists("a", "b", "{a}c", "d"));
+
+      byte[] bfoo = "foo".getBytes();
+      byte[] bbar = "bar".getBytes();
+      assertEquals("OK", jc.mset(bfoo, bbar, bbar, bfoo));
+      List<byte[]> values = jc.mget(bbar, "baz".getBytes(), bfoo);
+      assertArrayEquals(bfoo, values.get(0));
+      assertNull(values.get(1));
+      assertArrayEquals(bbar, values.get(2));
+      assertEquals(Long.valueOf(2), jc.del(bfoo, bbar));
+    }
+  }
+
+  @Test
+  public void multiKeyCommandsRetryOnlyTheFailedNode() {
+    Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
+    jedisClusterNode.add(new HostAndPort("127.0.0.1", 7379));
+    try (RoutableJedisCluster jc = new RoutableJedisCluster(jedisClusterNode)) {
+      assertEquals("OK", jc.mset("a", "1", "b", "2", "{a}c", "3", "d", "4"));
+      // the keys of node1 are sent to a node nothing listens on, between the keys of the others
+      HostAndPort unreachable = new HostAndPort("127.0.0.1", 7399);
+      int slotB = JedisClusterCRC16.getSlot("b");
+      jc.routeSlot(slotB, unreachable);
+      // the keys deleted by the first attempt are not deleted again, and still counted
+      assertEquals(Long.valueOf(4), jc.del("a", "b", "{a}c", "d"));
+      assertEquals(Long.valueOf(0), jc.exists("a", "b", "{a}c", "d"));
+    }
+    // a new cluster, as the slots are not renewed twice in a row
+    try (RoutableJedisCluster jc = new RoutableJedisCluster(jedisClusterNode)) {
+      assertEquals("OK", jc.mset("a", "1", "b", "2", "d", "4"));
+      jc.routeSlot(JedisClusterCRC16.getSlot("b"), new HostAndPort("127.0.0.1", 7399));
+      assertEquals(Arrays.asList("1", "2", "4"), jc.mget("a", "b", "d"));
+      assertEquals(Long.valueOf(3), jc.del("a", "b", "d"));
+    }
+  }
+
   @Test(expected = JedisClusterMaxAttemptsException.class)
   public void testRedisClusterMaxRedirections() {
     Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
@@ -19,6 +19,7 @@ import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.RedisProtocol;
 import redis.clients.jedis.Transaction;
 import redis.clients.jedis.exceptions.InvalidURIException;
 import redis.clients.jedis.exceptions.JedisException;
@@ -39,6 +40,19 @@ public class JedisPoolTest {
     assertTrue(pool.isClosed());
   }
 
+  @Test
+  public void checkResp3Connections() {
+    try (JedisPool pool = new JedisPool(new JedisPoolConfig(), hnp.getHost(), hnp.getPort(), 2000,
+        2000, null, "foobared", 1, null, false, null, null, null, RedisProtocol.RESP3);
+        Jedis jedis = pool.getResource()) {
+      assertEquals(RedisProtocol.RESP3, jedis.getClient().getProtocol());
+      jedis.zadd("zfoo", 1.5, "a");
+      assertEquals(Double.valueOf(1.5), jedis.zscore("zfoo", "a"));
+      assertEquals(1, jedis.getDB());
+      jedis.del("zfoo");
+    }
+  }
+
   @Test
   public void checkCloseableConnections() throws Exception {
     JedisPool pool = new JedisPool(new JedisPoolConfig(), hnp.getHost(), hnp.getPort(), 2000);
@@ -0,0 +1,115 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.ChannelJedisSocketFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.MultiplexedPipeline;
+import redis.clients.jedis.NioEventLoop;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.ClientKillParams;
+
+public class MultiplexedPipelineTest {
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private MultiplexedPipeline pipeline;
+
+  @Before
+  public void setUp() throws Exception {
+    pipeline = new MultiplexedPipeline(hnp, "foobared");
+    pipeline.flushAll().get();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pipeline.close();
+  }
+
+  @Test
+  public void responsesDoNotNeedSync() {
+    Response<String> set = pipeline.set("foo", "bar");
+    Response<String> get = pipeline.get("foo");
+    Response<Map<String, String>> hgetAll = pipeline.hgetAll("hash");
+    assertEquals("OK", set.get());
+    assertEquals("bar", get.get());
+    assertTrue(hgetAll.get().isEmpty());
+    assertNull(pipeline.get("missing").get());
+  }
+
+  @Test(expected = JedisDataException.class)
+  public void errorReply() {
+    pipeline.set("foo", "bar");
+    pipeline.incr("foo").get();
+  }
+
+  @Test
+  public void sharedByManyThreads() throws InterruptedException {
+    final int threads = 8;
+    final int commandsPerThread = 1000;
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Thread worker = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          for (int i = 0; i < commandsPerThread; i++) {
+            pipeline.incr("counter");
+          }
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    assertEquals("" + threads * commandsPerThread, pipeline.get("counter").get());
+  }
+
+  @Test
+  public void severalConnectionsAndDatabase() {
+    try (NioEventLoop eventLoop = new NioEventLoop(2);
+        MultiplexedPipeline multi = new MultiplexedPipeline(eventLoop,
+            new ChannelJedisSocketFactory(hnp.getHost(), hnp.getPort()), 3, null, "foobared", 2)) {
+      for (int i = 0; i < 10; i++) {
+        multi.set("foo" + i, "bar" + i);
+      }
+      for (int i = 0; i < 10; i++) {
+        assertEquals("bar" + i, multi.get("foo" + i).get());
+      }
+      assertNull(pipeline.get("foo0").get());
+    }
+  }
+
+  @Test(expected = JedisDataException.class)
+  public void selectIsRejected() {
+    pipeline.select(1);
+  }
+
+  @Test(expected = JedisDataException.class)
+  public void watchIsRejected() {
+    pipeline.watch("foo");
+  }
+
+  @Test
+  public void reconnectsBrokenConnection() throws InterruptedException {
+    pipeline.set("foo", "bar").get();
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.clientKill(new ClientKillParams().skipMe(ClientKillParams.SkipMe.YES));
+    }
+    Thread.sleep(100);
+    assertEquals("bar", pipeline.get("foo").get());
+  }
+}
@@ -0,0 +1,207 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.ChannelJedisSocketFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.NioConnection;
+import redis.clients.jedis.NioEventLoop;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.ClientKillParams;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class NioConnectionTest {
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private NioEventLoop eventLoop;
+  private NioConnection connection;
+
+  @Before
+  public void setUp() throws Exception {
+    eventLoop = new NioEventLoop(2);
+    connection = new NioConnection(eventLoop,
+        new ChannelJedisSocketFactory(hnp.getHost(), hnp.getPort()));
+    connection.connect();
+    assertEquals("OK", SafeEncoder.encode((byte[]) send(Command.AUTH, "foobared")));
+    send(Command.FLUSHALL);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    connection.close();
+    eventLoop.close();
+  }
+
+  @Test
+  public void setAndGet() throws InterruptedException {
+    assertEquals("OK", SafeEncoder.encode((byte[]) send(Command.SET, "foo", "bar")));
+    assertArrayEquals(SafeEncoder.encode("bar"), (byte[]) send(Command.GET, "foo"));
+    assertEquals(1L, send(Command.DEL, "foo"));
+  }
+
+  @Test
+  public void repliesFollowCommandOrder() throws InterruptedException {
+    final int commands = 10000;
+    final List<Object> replies = new ArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(commands);
+    for (int i = 0; i < commands; i++) {
+      connection.sendCommand(Command.INCR, new byte[][] { SafeEncoder.encode("counter") },
+        new NioConnection.Callback() {
+          @Override
+          public void onReply(Object reply) {
+            replies.add(reply);
+            latch.countDown();
+          }
+
+          @Override
+          public void onFailure(JedisConnectionException cause) {
+            fail(cause.getMessage());
+          }
+        });
+    }
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < commands; i++) {
+      assertEquals(Long.valueOf(i + 1), replies.get(i));
+    }
+  }
+
+  @Test
+  public void commandsFromManyThreads() throws InterruptedException {
+    final int threads = 8;
+    final int commandsPerThread = 1000;
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Thread worker = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          for (int i = 0; i < commandsPerThread; i++) {
+            connection.sendCommand(Command.INCR, new byte[][] { SafeEncoder.encode("counter") },
+              new ReplyHolder());
+          }
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    assertEquals(Long.valueOf(threads * commandsPerThread), send(Command.INCRBY, "counter", "0"));
+  }
+
+  @Test
+  public void largeValue() throws InterruptedException {
+    byte[] value = new byte[1024 * 1024];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = (byte) i;
+    }
+    ReplyHolder set = new ReplyHolder();
+    connection.sendCommand(Command.SET, new byte[][] { SafeEncoder.encode("big"), value }, set);
+    assertEquals("OK", SafeEncoder.encode((byte[]) set.await()));
+    assertArrayEquals(value, (byte[]) send(Command.GET, "big"));
+  }
+
+  @Test
+  public void errorReply() throws InterruptedException {
+    send(Command.SET, "foo", "bar");
+    Object reply = send(Command.INCR, "foo");
+    assertTrue(reply instanceof JedisDataException);
+    assertArrayEquals(SafeEncoder.encode("bar"), (byte[]) send(Command.GET, "foo"));
+  }
+
+  @Test
+  public void connectionBreaksWhenServerCloses() throws InterruptedException {
+    Long id = (Long) send(Command.CLIENT, "ID");
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.clientKill(new ClientKillParams().id(String.valueOf(id)));
+    }
+    for (int i = 0; i < 100 && !connection.isBroken(); i++) {
+      Thread.sleep(10);
+    }
+    assertTrue(connection.isBroken());
+    try {
+      connection.sendCommand(Command.PING, new ReplyHolder());
+      fail("Expected a JedisConnectionException to be thrown.");
+    } catch (JedisConnectionException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void channelSocketsWorkWithBlockingConnections() {
+    try (Jedis jedis = new Jedis(new ChannelJedisSocketFactory(hnp.getHost(), hnp.getPort()))) {
+      jedis.auth("foobared");
+      assertEquals("PONG", jedis.ping());
+    }
+  }
+
+  @Test
+  public void sendRightAfterConnecting() throws InterruptedException {
+    // the write request may reach the event loop before the registration of the channel
+    for (int i = 0; i < 200; i++) {
+      NioConnection fresh = new NioConnection(eventLoop,
+          new ChannelJedisSocketFactory(hnp.getHost(), hnp.getPort()));
+      try {
+        ReplyHolder holder = new ReplyHolder();
+        fresh.sendCommand(Command.AUTH, new byte[][] { SafeEncoder.encode("foobared") }, holder);
+        assertEquals("OK", SafeEncoder.encode((byte[]) holder.await()));
+      } finally {
+        fresh.close();
+      }
+    }
+  }
+
+  @Test(expected = JedisConnectionException.class)
+  public void sendOnClosedConnection() {
+    connection.close();
+    connection.sendCommand(Command.PING, new ReplyHolder());
+  }
+
+  private Object send(Command command, String... args) throws InterruptedException {
+    byte[][] bargs = new byte[args.length][];
+    for (int i = 0; i < args.length; i++) {
+      bargs[i] = SafeEncoder.encode(args[i]);
+    }
+    ReplyHolder holder = new ReplyHolder();
+    connection.sendCommand(command, bargs, holder);
+    return holder.await();
+  }
+
+  private static class ReplyHolder implements NioConnection.Callback {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile Object reply;
+
+    @Override
+    public void onReply(Object reply) {
+      this.reply = reply;
+      latch.countDown();
+    }
+
+    @Override
+    public void onFailure(JedisConnectionException cause) {
+      this.reply = cause;
+      latch.countDown();
+    }
+
+    Object await() throws InterruptedException {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+      return reply;
+    }
+  }
+}
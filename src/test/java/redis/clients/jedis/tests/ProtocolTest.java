@@ -8,18 +8,30 @@ import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArrayListEqua
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.PushListener;
+import redis.clients.jedis.ReplyVisitor;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.JedisBusyException;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.util.RedisInputStream;
 import redis.clients.jedis.util.RedisOutputStream;
 import redis.clients.jedis.util.SafeEncoder;
@@ -46,6 +58,140 @@ public class ProtocolTest {
     assertEquals(expectedCommand, sb.toString());
   }
 
+  @Test
+  public void buildACustomCommand() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    RedisOutputStream ros = new RedisOutputStream(out);
+
+    Protocol.sendCommand(ros, new ProtocolCommand() {
+      @Override
+      public byte[] getRaw() {
+        return SafeEncoder.encode("MODULE.CMD");
+      }
+    }, SafeEncoder.encode("a"));
+    Protocol.sendCommand(ros, Protocol.Command.SETEX, SafeEncoder.encode("k"),
+      Protocol.toByteArray(3600), SafeEncoder.encode("v"));
+    ros.flush();
+
+    assertEquals("*2\r\n$10\r\nMODULE.CMD\r\n$1\r\na\r\n"
+        + "*4\r\n$5\r\nSETEX\r\n$1\r\nk\r\n$4\r\n3600\r\n$1\r\nv\r\n",
+      SafeEncoder.encode(out.toByteArray()));
+  }
+
+  @Test
+  public void encodeNumbers() {
+    long[] longs = { 0, 1, -1, 9, 10, 1023, 1024, -2, -1234567, Integer.MAX_VALUE,
+        Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 1000000000000000000L };
+    for (long value : longs) {
+      assertEquals(String.valueOf(value), SafeEncoder.encode(Protocol.toByteArray(value)));
+    }
+    assertEquals("42", SafeEncoder.encode(Protocol.toByteArray(42)));
+    assertEquals("-7", SafeEncoder.encode(Protocol.toByteArray(-7)));
+
+    assertEquals("3", SafeEncoder.encode(Protocol.toByteArray(3.0)));
+    assertEquals("-120", SafeEncoder.encode(Protocol.toByteArray(-120d)));
+    assertEquals("1.5", SafeEncoder.encode(Protocol.toByteArray(1.5)));
+    assertEquals("-0.0", SafeEncoder.encode(Protocol.toByteArray(-0.0)));
+    assertEquals("1.0E20", SafeEncoder.encode(Protocol.toByteArray(1e20)));
+    assertEquals("+inf", SafeEncoder.encode(Protocol.toByteArray(Double.POSITIVE_INFINITY)));
+
+    // the arrays handed out are not shared
+    Protocol.toByteArray(7)[0] = '8';
+    Protocol.toByteArray(7.0)[0] = '8';
+    assertEquals("7", SafeEncoder.encode(Protocol.toByteArray(7L)));
+    assertEquals("7", SafeEncoder.encode(Protocol.toByteArray(7.0)));
+  }
+
+  @Test
+  public void visitReply() {
+    InputStream is = new ByteArrayInputStream(
+        "*4\r\n$3\r\nfoo\r\n*2\r\n:1\r\n$-1\r\n+OK\r\n-ERR nested\r\n".getBytes());
+    final StringBuilder events = new StringBuilder();
+    String result = Protocol.read(new RedisInputStream(is), new ReplyVisitor<String>() {
+      @Override
+      public void arrayStart(int size) {
+        events.append("[").append(size);
+      }
+
+      @Override
+      public void arrayEnd() {
+        events.append("]");
+      }
+
+      @Override
+      public void bulk(byte[] value) {
+        events.append(" bulk ").append(SafeEncoder.encode(value));
+      }
+
+      @Override
+      public void status(byte[] value) {
+        events.append(" status ").append(SafeEncoder.encode(value));
+      }
+
+      @Override
+      public void integer(long value) {
+        events.append(" int ").append(value);
+      }
+
+      @Override
+      public void nil() {
+        events.append(" nil");
+      }
+
+      @Override
+      public void error(JedisDataException error) {
+        events.append(" error ").append(error.getMessage());
+      }
+
+      @Override
+      public String result() {
+        return events.toString();
+      }
+    });
+    assertEquals("[4 bulk foo[2 int 1 nil] status OK error ERR nested]", result);
+  }
+
+  @Test
+  public void visitorFailureConsumesWholeReply() {
+    RedisInputStream is = new RedisInputStream(new ByteArrayInputStream(
+        "*2\r\n:1\r\n:2\r\n$3\r\nbar\r\n".getBytes()));
+    try {
+      Protocol.read(is, BuilderFactory.STRING_MAP.visitor());
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      // integers are not expected in a map reply
+    }
+    assertArrayEquals(SafeEncoder.encode("bar"), (byte[]) Protocol.read(is));
+  }
+
+  @Test(expected = JedisBusyException.class)
+  public void visitTopLevelError() {
+    InputStream is = new ByteArrayInputStream("-BUSY busy\r\n".getBytes());
+    Protocol.read(new RedisInputStream(is), BuilderFactory.TUPLE_ZSET.visitor());
+  }
+
+  @Test
+  public void visitorsBuildLikeBuilders() {
+    assertVisitedLikeBuilt(BuilderFactory.STRING_MAP, "*4\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$1\r\n2\r\n");
+    assertVisitedLikeBuilt(BuilderFactory.TUPLE_ZSET, "*4\r\n$1\r\na\r\n$3\r\n1.5\r\n$1\r\nb\r\n$4\r\n+inf\r\n");
+    assertVisitedLikeBuilt(BuilderFactory.TUPLE_ZSET, "*-1\r\n");
+    assertVisitedLikeBuilt(BuilderFactory.STREAM_ENTRY_LIST, "*2\r\n"
+        + "*2\r\n$3\r\n1-0\r\n*2\r\n$1\r\nf\r\n$1\r\nv\r\n"
+        + "*2\r\n$3\r\n2-0\r\n*4\r\n$1\r\nf\r\n$1\r\nw\r\n$1\r\ng\r\n$1\r\nx\r\n");
+    assertVisitedLikeBuilt(BuilderFactory.STREAM_ENTRY_LIST, "*0\r\n");
+
+    Map<byte[], byte[]> binary = Protocol.read(new RedisInputStream(new ByteArrayInputStream(
+        "*2\r\n$1\r\na\r\n$1\r\n1\r\n".getBytes())), BuilderFactory.BYTE_ARRAY_MAP.visitor());
+    assertArrayEquals(SafeEncoder.encode("1"), binary.get(SafeEncoder.encode("a")));
+  }
+
+  private <T> void assertVisitedLikeBuilt(Builder<T> builder, String reply) {
+    Object tree = Protocol.read(new RedisInputStream(new ByteArrayInputStream(reply.getBytes())));
+    T visited = Protocol.read(new RedisInputStream(new ByteArrayInputStream(reply.getBytes())),
+      builder.visitor());
+    assertEquals(String.valueOf(builder.build(tree)), String.valueOf(visited));
+  }
+
   @Test(expected = IOException.class)
   public void writeOverflow() throws IOException {
     RedisOutputStream ros = new RedisOutputStream(new OutputStream() {
@@ -138,4 +284,163 @@ public class ProtocolTest {
     }
     fail("Expected a JedisBusyException to be thrown.");
   }
+
+  @Test
+  public void scanCompleteReplies() {
+    assertScanned("+OK\r\n");
+    assertScanned(":123\r\n");
+    assertScanned("-ERR wrong\r\n");
+    assertScanned("$6\r\nfoobar\r\n");
+    assertScanned("$0\r\n\r\n");
+    assertScanned("$-1\r\n");
+    assertScanned("*-1\r\n");
+    assertScanned("*0\r\n");
+    assertScanned("*3\r\n$3\r\nfoo\r\n*2\r\n:1\r\n$-1\r\n+bar\r\n");
+  }
+
+  @Test
+  public void scanIncompleteReplies() {
+    String reply = "*3\r\n$3\r\nfoo\r\n*2\r\n:1\r\n$-1\r\n+bar\r\n";
+    byte[] bytes = SafeEncoder.encode(reply);
+    for (int limit = 0; limit < bytes.length; limit++) {
+      assertEquals(-1, Protocol.scanReply(bytes, 0, limit));
+    }
+  }
+
+  @Test
+  public void scanRepliesBackToBack() {
+    byte[] bytes = SafeEncoder.encode("xx$3\r\nfoo\r\n:42\r\n$2\r\nb");
+    assertEquals(11, Protocol.scanReply(bytes, 2, bytes.length));
+    assertEquals(16, Protocol.scanReply(bytes, 11, bytes.length));
+    assertEquals(-1, Protocol.scanReply(bytes, 16, bytes.length));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void resp3Replies() {
+    assertEquals(1.5, read(",1.5\r\n"));
+    assertEquals(Double.NEGATIVE_INFINITY, read(",-inf\r\n"));
+    assertEquals(Boolean.TRUE, read("#t\r\n"));
+    assertEquals(new BigInteger("3492890328409238509324850943850943825024385"),
+      read("(3492890328409238509324850943850943825024385\r\n"));
+    assertNull(read("_\r\n"));
+    assertArrayEquals(SafeEncoder.encode("Some string"), (byte[]) read("=15\r\ntxt:Some string\r\n"));
+    List<Object> map = (List<Object>) read("%2\r\n+first\r\n:1\r\n+second\r\n,2.5\r\n");
+    assertEquals(4, map.size());
+    assertEquals(2.5, map.get(3));
+    List<Object> set = (List<Object>) read("~2\r\n+a\r\n+b\r\n");
+    assertEquals(2, set.size());
+    assertEquals(42L, read("|1\r\n+ttl\r\n:3600\r\n:42\r\n"));
+    try {
+      read("!21\r\nSYNTAX invalid syntax\r\n");
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals("SYNTAX invalid syntax", e.getMessage());
+    }
+  }
+
+  @Test
+  public void resp3RepliesWithBuilders() {
+    Map<String, String> hash = BuilderFactory.STRING_MAP.build(read("%1\r\n$1\r\nf\r\n$1\r\nv\r\n"));
+    assertEquals("v", hash.get("f"));
+    assertEquals(Double.valueOf(1.5), BuilderFactory.DOUBLE.build(read(",1.5\r\n")));
+    String zset = "*2\r\n*2\r\n$1\r\na\r\n,1\r\n*2\r\n$1\r\nb\r\n,2.5\r\n";
+    Set<Tuple> expected = new LinkedHashSet<>();
+    expected.add(new Tuple("a", 1d));
+    expected.add(new Tuple("b", 2.5));
+    assertEquals(expected, BuilderFactory.TUPLE_ZSET.build(read(zset)));
+    assertEquals(expected, Protocol.read(stream(zset), BuilderFactory.TUPLE_ZSET.visitor()));
+    assertEquals(hash, Protocol.read(stream("%1\r\n$1\r\nf\r\n$1\r\nv\r\n"),
+      BuilderFactory.STRING_MAP.visitor()));
+  }
+
+  @Test
+  public void pushMessages() {
+    final List<List<Object>> pushes = new ArrayList<>();
+    PushListener listener = new PushListener() {
+      @Override
+      public void onPush(List<Object> push) {
+        pushes.add(push);
+      }
+    };
+    String invalidate = ">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nfoo\r\n";
+    assertEquals(7L, Protocol.read(stream(invalidate + ":7\r\n"), listener));
+    assertEquals(1, pushes.size());
+    assertEquals("invalidate", SafeEncoder.encode((byte[]) pushes.get(0).get(0)));
+    ReplyVisitor<Long> visitor = new ReplyVisitor<Long>() {
+      private Long value;
+
+      @Override
+      public void integer(long value) {
+        this.value = value;
+      }
+
+      @Override
+      public Long result() {
+        return value;
+      }
+    };
+    assertEquals(Long.valueOf(7), Protocol.read(stream(invalidate + ":7\r\n"), visitor, listener));
+    assertEquals(2, pushes.size());
+    // without a listener the push message is the reply
+    assertEquals(2, ((List<?>) Protocol.read(stream(invalidate))).size());
+  }
+
+  @Test
+  public void scanResp3Replies() {
+    assertScanned(",1.5\r\n");
+    assertScanned("#f\r\n");
+    assertScanned("_\r\n");
+    assertScanned("(12345678901234567890\r\n");
+    assertScanned("=15\r\ntxt:Some string\r\n");
+    assertScanned("!3\r\nERR\r\n");
+    assertScanned("%2\r\n+a\r\n:1\r\n+b\r\n~1\r\n:2\r\n");
+    assertScanned(">2\r\n+invalidate\r\n*1\r\n+foo\r\n");
+    assertScanned("|1\r\n+ttl\r\n:3600\r\n:42\r\n");
+  }
+
+  private static RedisInputStream stream(String reply) {
+    return new RedisInputStream(new ByteArrayInputStream(SafeEncoder.encode(reply)));
+  }
+
+  private static Object read(String reply) {
+    return Protocol.read(stream(reply));
+  }
+
+  private void assertScanned(String reply) {
+    byte[] bytes = SafeEncoder.encode(reply + "trailing");
+    assertEquals(reply.length(), Protocol.scanReply(bytes, 0, bytes.length));
+  }
+
+  @Test
+  public void readBulkReplyLengthOfResp3Replies() {
+    RedisInputStream is = stream("_\r\n$3\r\nbar\r\n");
+    assertEquals(-1, Protocol.readBulkReplyLength(is));
+    assertEquals(3, Protocol.readBulkReplyLength(is));
+
+    is = stream("!21\r\nSYNTAX invalid syntax\r\n:1\r\n");
+    try {
+      Protocol.readBulkReplyLength(is);
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals("SYNTAX invalid syntax", e.getMessage());
+    }
+    assertEquals(Long.valueOf(1), Protocol.read(is));
+  }
+
+  @Test
+  public void scanReplyIncrementally() {
+    byte[] bytes = SafeEncoder.encode("*3\r\n$3\r\nfoo\r\n*2\r\n:1\r\n+OK\r\n$-1\r\n:7\r\n");
+    int replyEnd = bytes.length - 4;
+    Protocol.ReplyScanner scanner = new Protocol.ReplyScanner();
+    // bytes arrive one at a time, and the reply moves within the buffer between two reads
+    for (int limit = 0; limit < replyEnd; limit++) {
+      byte[] moved = new byte[limit + 1];
+      System.arraycopy(bytes, 0, moved, 1, limit);
+      assertEquals(-1, scanner.scan(moved, 1, limit + 1));
+    }
+    assertEquals(replyEnd, scanner.scan(bytes, 0, bytes.length));
+    // the scanner is ready for the next reply
+    assertEquals(bytes.length, scanner.scan(bytes, replyEnd, bytes.length));
+  }
 }
@@ -5,9 +5,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,6 +68,27 @@ public class ShardedJedisPipelineTest {
     assertEquals("bar", results.get(1));
   }
 
+  @Test
+  public void interruptedSyncWaitsForAllShards() {
+    ShardedJedisPipeline p = jedis.pipelined();
+    List<Response<String>> sets = new ArrayList<Response<String>>();
+    for (int i = 0; i < 100; i++) {
+      sets.add(p.set("key" + i, "value" + i));
+    }
+    Thread.currentThread().interrupt();
+    try {
+      p.sync();
+      // the interrupt is kept for the caller
+      assertTrue(Thread.interrupted());
+    } finally {
+      Thread.interrupted();
+    }
+    for (Response<String> set : sets) {
+      assertEquals("OK", set.get());
+    }
+    assertEquals("value99", jedis.get("key99"));
+  }
+
   @Test
   public void pipelineResponse() {
     jedis.set("string", "foo");
@@ -152,4 +175,30 @@ public class ShardedJedisPipelineTest {
     jedis2.close();
   }
 
+  @Test
+  public void repliesInOrderAcrossShards() {
+    jedis.lpush("list", "foo");
+    ShardedJedisPipeline p = jedis.pipelined();
+    List<Response<Long>> counters = new ArrayList<Response<Long>>();
+    for (int i = 0; i < 100; i++) {
+      counters.add(p.incrBy("counter" + i, i));
+    }
+    Response<Long> wrongType = p.incr("list");
+    p.sync();
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Long.valueOf(i), counters.get(i).get());
+    }
+    try {
+      wrongType.get();
+      fail();
+    } catch (JedisDataException e) {
+      // expected
+    }
+
+    p.incr("counter99");
+    p.incr("counter0");
+    assertEquals(Arrays.<Object> asList(100L, 1L), p.syncAndReturnAll());
+  }
+
 }
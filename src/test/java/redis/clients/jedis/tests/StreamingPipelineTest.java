@@ -0,0 +1,140 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.junit.Test;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.StreamingPipeline;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.tests.commands.JedisCommandTestBase;
+
+public class StreamingPipelineTest extends JedisCommandTestBase {
+
+  @Test
+  public void repliesAreDrainedWhileSending() {
+    final List<Object> replies = new ArrayList<>();
+    final int[] sent = new int[1];
+    final int[] maxPending = new int[1];
+    StreamingPipeline p = new StreamingPipeline(jedis, 100, Integer.MAX_VALUE,
+        new StreamingPipeline.Listener() {
+          @Override
+          public void onReply(Object reply) {
+            replies.add(reply);
+          }
+        });
+    for (int i = 0; i < 1050; i++) {
+      p.incr("counter");
+      sent[0]++;
+      maxPending[0] = Math.max(maxPending[0], sent[0] - replies.size());
+    }
+    assertEquals(1000, replies.size());
+    assertTrue(maxPending[0] <= 100);
+    p.close();
+    assertEquals(1050, replies.size());
+    assertEquals(Long.valueOf(1050), replies.get(1049));
+    assertEquals("1050", jedis.get("counter"));
+  }
+
+  @Test
+  public void drainsOnSentBytes() {
+    final List<Object> replies = new ArrayList<>();
+    StreamingPipeline p = new StreamingPipeline(jedis, Integer.MAX_VALUE, 10 * 1024,
+        new StreamingPipeline.Listener() {
+          @Override
+          public void onReply(Object reply) {
+            replies.add(reply);
+          }
+        });
+    char[] value = new char[1024];
+    Arrays.fill(value, 'x');
+    for (int i = 0; i < 20; i++) {
+      p.set("foo" + i, new String(value));
+    }
+    assertTrue(replies.size() >= 9);
+    p.sync();
+    assertEquals(20, replies.size());
+  }
+
+  @Test
+  public void responsesAndErrors() {
+    final List<Object> replies = new ArrayList<>();
+    StreamingPipeline p = new StreamingPipeline(jedis, new StreamingPipeline.Listener() {
+      @Override
+      public void onReply(Object reply) {
+        replies.add(reply);
+      }
+    });
+    p.set("foo", "bar");
+    Response<Long> incr = p.incr("foo");
+    Response<String> get = p.get("foo");
+    p.sync();
+    assertEquals("bar", get.get());
+    assertTrue(replies.get(1) instanceof JedisDataException);
+    try {
+      incr.get();
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void repliesToQueue() throws InterruptedException {
+    final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(500);
+    try (StreamingPipeline p = new StreamingPipeline(jedis, 10, Integer.MAX_VALUE, queue)) {
+      for (int i = 0; i < 100; i++) {
+        p.echo("" + i);
+      }
+    }
+    for (int i = 0; i < 100; i++) {
+      assertEquals("" + i, queue.take());
+    }
+    assertEquals("PONG", jedis.ping());
+  }
+
+  @Test
+  public void interruptedQueueBreaksTheConnection() throws InterruptedException {
+    final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(5);
+    final StreamingPipeline p = new StreamingPipeline(jedis, 10, Integer.MAX_VALUE, queue);
+    final Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          for (int i = 0; i < 100; i++) {
+            p.echo("" + i);
+          }
+        } catch (JedisConnectionException e) {
+          // expected once interrupted
+        }
+      }
+    });
+    producer.start();
+    // the producer blocks on the full queue
+    for (int i = 0; i < 100 && producer.getState() != Thread.State.WAITING; i++) {
+      Thread.sleep(10);
+    }
+    producer.interrupt();
+    producer.join(5000);
+    assertFalse(producer.isAlive());
+    assertEquals(5, queue.size());
+    // the unread replies are not taken for the replies of the next commands
+    assertTrue(jedis.getClient().isBroken());
+    try {
+      jedis.ping();
+      fail("Expected a JedisConnectionException to be thrown.");
+    } catch (JedisConnectionException e) {
+      // expected
+    }
+  }
+}
@@ -1,77 +1,53 @@
 package redis.clients.jedis.tests;
 
 import org.junit.Test;
-import org.newsclub.net.unix.AFUNIXSocket;
-import org.newsclub.net.unix.AFUNIXSocketAddress;
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisSocketFactory;
-import redis.clients.jedis.Protocol;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.UnixDomainJedisSocketFactory;
 
-import java.io.File;
-import java.io.IOException;
-import java.net.Socket;
+import java.net.URI;
 
 import static org.junit.Assert.assertEquals;
 
 public class UdsTest {
 
+  private static final String UDS_SOCKET = "/tmp/redis_uds.sock";
+
   @Test
   public void testConnectsToUds() {
-    try (Jedis jedis = new Jedis(new UdsJedisSocketFactory())) {
+    try (Jedis jedis = new Jedis(new UnixDomainJedisSocketFactory(UDS_SOCKET))) {
       assertEquals("PONG", jedis.ping());
     }
   }
 
-  private static class UdsJedisSocketFactory implements JedisSocketFactory {
-
-    private static final File UDS_SOCKET = new File("/tmp/redis_uds.sock");
-
-    @Override
-    public Socket createSocket() throws IOException {
-      Socket socket = AFUNIXSocket.newStrictInstance();
-      socket.connect(new AFUNIXSocketAddress(UDS_SOCKET), Protocol.DEFAULT_TIMEOUT);
-      return socket;
-    }
-
-    @Override
-    public String getDescription() {
-      return UDS_SOCKET.toString();
-    }
-
-    @Override
-    public String getHost() {
-      return UDS_SOCKET.toString();
-    }
-
-    @Override
-    public void setHost(String host) {
-    }
-
-    @Override
-    public int getPort() {
-      return 0;
-    }
-
-    @Override
-    public void setPort(int port) {
-    }
-
-    @Override
-    public int getConnectionTimeout() {
-      return Protocol.DEFAULT_TIMEOUT;
-    }
-
-    @Override
-    public void setConnectionTimeout(int connectionTimeout) {
+  @Test
+  public void testConnectsToUdsWithUri() {
+    try (Jedis jedis = new Jedis(URI.create("unix://" + UDS_SOCKET + "?db=2"))) {
+      assertEquals("PONG", jedis.ping());
+      assertEquals(2, jedis.getDB());
     }
+  }
 
-    @Override
-    public int getSoTimeout() {
-      return Protocol.DEFAULT_TIMEOUT;
+  @Test
+  public void testPoolOverUds() {
+    try (JedisPool pool = new JedisPool(new JedisPoolConfig(), URI.create("unix://" + UDS_SOCKET
+        + "?db=1"))) {
+      try (Jedis jedis = pool.getResource()) {
+        jedis.set("foo", "bar");
+      }
+      try (Jedis jedis = pool.getResource()) {
+        assertEquals("bar", jedis.get("foo"));
+        assertEquals(1, jedis.getDB());
+        jedis.del("foo");
+      }
     }
+  }
 
-    @Override
-    public void setSoTimeout(int soTimeout) {
+  @Test
+  public void testPoolOverUdsFromString() {
+    try (JedisPool pool = new JedisPool("unix://" + UDS_SOCKET); Jedis jedis = pool.getResource()) {
+      assertEquals("PONG", jedis.ping());
     }
   }
-}
\ No newline at end of file
+}
@@ -1,25 +1,93 @@
 package redis.clients.jedis.tests.benchmark;
 
-import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
 
+/**
+ * Slot hashing of String and byte[] keys, against the former byte at a time CRC16 of the encoded
+ * String. Run with the test classpath, e.g. from the IDE, or through {@link #main(String[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
 public class CRC16Benchmark {
-  private static final int TOTAL_OPERATIONS = 100000000;
-
-  private static String[] TEST_SET = { "", "123456789", "sfger132515",
-      "hae9Napahngaikeethievubaibogiech", "AAAAAAAAAAAAAAAAAAAAAA", "Hello, World!" };
 
-  public static void main(String[] args) {
-    long begin = Calendar.getInstance().getTimeInMillis();
+  private static final int[] BYTEWISE_TABLE = new int[256];
 
-    for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
-      JedisClusterCRC16.getSlot(TEST_SET[n % TEST_SET.length]);
+  static {
+    for (int b = 0; b < 256; b++) {
+      int crc = b << 8;
+      for (int bit = 0; bit < 8; bit++) {
+        crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+      }
+      BYTEWISE_TABLE[b] = crc & 0xFFFF;
     }
+  }
+
+  @Param({ "123456789", "hae9Napahngaikeethievubaibogiech",
+      "{user1000}.followers", "session:3f2c1d7e-6a8b-4b6e-9d1f-0c5e2a7b9d43:profile:preferences",
+      "caf\u00e9:cr\u00e8me:br\u00fbl\u00e9e:r\u00e9sum\u00e9" })
+  public String key;
 
-    long elapsed = Calendar.getInstance().getTimeInMillis() - begin;
+  private byte[] keyBytes;
 
-    System.out.println(((1000 * TOTAL_OPERATIONS) / elapsed) + " ops");
+  @Setup
+  public void setup() {
+    keyBytes = SafeEncoder.encode(key);
   }
 
-}
\ No newline at end of file
+  @Benchmark
+  public int slotOfString() {
+    return JedisClusterCRC16.getSlot(key);
+  }
+
+  @Benchmark
+  public int slotOfBytes() {
+    return JedisClusterCRC16.getSlot(keyBytes);
+  }
+
+  /**
+   * The former String path: hash tag substring, UTF-8 encoding, then one byte at a time.
+   */
+  @Benchmark
+  public int slotOfStringBytewise() {
+    String hashed = key;
+    int s = key.indexOf("{");
+    if (s > -1) {
+      int e = key.indexOf("}", s + 1);
+      if (e > -1 && e != s + 1) {
+        hashed = key.substring(s + 1, e);
+      }
+    }
+    byte[] bytes = SafeEncoder.encode(hashed);
+    int crc = 0;
+    for (byte b : bytes) {
+      crc = (crc << 8) ^ BYTEWISE_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF];
+    }
+    return crc & 0xFFFF & (16384 - 1);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CRC16Benchmark.class.getSimpleName()).build()).run();
+  }
+}
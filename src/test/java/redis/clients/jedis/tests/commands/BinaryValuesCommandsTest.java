@@ -2,8 +2,10 @@ package redis.clients.jedis.tests.commands;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static redis.clients.jedis.Protocol.Command.GET;
 import static redis.clients.jedis.Protocol.Command.LRANGE;
 import static redis.clients.jedis.Protocol.Command.RPUSH;
@@ -11,14 +13,29 @@ import static redis.clients.jedis.Protocol.Command.SET;
 import static redis.clients.jedis.params.SetParams.setParams;
 import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArrayListEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import redis.clients.jedis.BulkSource;
+import redis.clients.jedis.ChannelJedisSocketFactory;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Protocol.Keyword;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -55,6 +72,130 @@ public class BinaryValuesCommandsTest extends JedisCommandTestBase {
     assertNull(jedis.get(bbar));
   }
 
+  @Test
+  public void getInto() {
+    jedis.set(bfoo, binaryValue);
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(2048);
+    assertEquals(binaryValue.length, jedis.getInto(bfoo, buffer));
+    buffer.flip();
+    byte[] value = new byte[buffer.remaining()];
+    buffer.get(value);
+    assertArrayEquals(binaryValue, value);
+
+    assertEquals(-1, jedis.getInto(bbar, buffer));
+
+    ByteBuffer small = ByteBuffer.allocate(10);
+    try {
+      jedis.getInto(bfoo, small);
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals(0, small.position());
+    }
+    // the skipped value does not corrupt the next reply
+    assertArrayEquals(binaryValue, jedis.get(bfoo));
+  }
+
+  @Test
+  public void getAsStream() throws IOException {
+    byte[] bigValue = new byte[1024 * 1024];
+    for (int i = 0; i < bigValue.length; i++) {
+      bigValue[i] = (byte) i;
+    }
+    jedis.set(bfoo, bigValue);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream in = jedis.getAsStream(bfoo)) {
+      byte[] chunk = new byte[1000];
+      int read;
+      while ((read = in.read(chunk)) != -1) {
+        out.write(chunk, 0, read);
+      }
+    }
+    assertArrayEquals(bigValue, out.toByteArray());
+    assertNull(jedis.getAsStream(bbar));
+
+    // an unread stream is skipped by the next command
+    InputStream in = jedis.getAsStream(bfoo);
+    assertEquals(bigValue[0], (byte) in.read());
+    assertArrayEquals(bigValue, jedis.getSet(bfoo, binaryValue));
+    assertEquals(-1, in.read());
+  }
+
+  @Test
+  public void missingKeyOnResp3() {
+    jedis.hello(RedisProtocol.RESP3);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    assertEquals(-1, jedis.getInto(bbar, buffer));
+    assertNull(jedis.getAsStream(bbar));
+    assertEquals(-1, jedis.hgetInto(bbar, bfoo, buffer));
+    assertNull(jedis.hgetAsStream(bbar, bfoo));
+    assertEquals(0, buffer.position());
+    // the connection is still usable
+    jedis.set(bfoo, binaryValue);
+    assertArrayEquals(binaryValue, jedis.get(bfoo));
+  }
+
+  @Test
+  public void setFromSources() {
+    assertEquals("OK", jedis.set(bfoo, BulkSource.of(new ByteArrayInputStream(binaryValue),
+      binaryValue.length)));
+    assertArrayEquals(binaryValue, jedis.get(bfoo));
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(binaryValue.length);
+    direct.put(binaryValue).flip();
+    assertEquals("OK", jedis.set(bbar, BulkSource.of(direct), setParams().nx()));
+    assertArrayEquals(binaryValue, jedis.get(bbar));
+    assertEquals(binaryValue.length, direct.remaining());
+    assertNull(jedis.set(bbar, BulkSource.of(direct), setParams().nx()));
+
+    assertEquals(Long.valueOf(binaryValue.length * 2), jedis.append(bfoo,
+      BulkSource.of(ByteBuffer.wrap(binaryValue))));
+    assertEquals(Long.valueOf(binaryValue.length * 2), jedis.setrange(bfoo, 0,
+      BulkSource.of(bbar)));
+    assertEquals(Long.valueOf(1), jedis.hset(bxx, bfoo, BulkSource.of(bbar)));
+    assertArrayEquals(bbar, jedis.hget(bxx, bfoo));
+  }
+
+  @Test
+  public void setFromFileOverChannel() throws IOException {
+    byte[] bigValue = new byte[1024 * 1024];
+    for (int i = 0; i < bigValue.length; i++) {
+      bigValue[i] = (byte) i;
+    }
+    File file = File.createTempFile("jedis", ".bin");
+    try (Jedis channelJedis = new Jedis(new ChannelJedisSocketFactory(hnp.getHost(),
+        hnp.getPort()))) {
+      Files.write(file.toPath(), bigValue);
+      channelJedis.auth("foobared");
+      try (FileChannel channel = FileChannel.open(file.toPath())) {
+        assertEquals("OK", channelJedis.set(bfoo, BulkSource.of(channel)));
+        assertEquals(Long.valueOf(bigValue.length + 10), channelJedis.append(bfoo,
+          BulkSource.of(channel, 0, 10)));
+        Map<byte[], BulkSource> fields = new HashMap<>();
+        fields.put(bbar, BulkSource.of(channel, 1, 100));
+        assertNotNull(channelJedis.xaddStreaming(bbar, SafeEncoder.encode("*"), fields,
+          Long.MAX_VALUE, false));
+      }
+      byte[] value = channelJedis.get(bfoo);
+      assertEquals(bigValue.length + 10, value.length);
+      assertArrayEquals(bigValue, Arrays.copyOf(value, bigValue.length));
+      assertEquals(1, channelJedis.xlen(bbar).longValue());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void streamEndingEarlyBreaksConnection() {
+    try {
+      jedis.set(bfoo, BulkSource.of(new ByteArrayInputStream(bbar), 100));
+      fail("Expected a JedisConnectionException to be thrown.");
+    } catch (JedisConnectionException e) {
+      assertTrue(jedis.getClient().isBroken());
+    }
+  }
+
   @Test
   public void setNxExAndGet() {
     String status = jedis.set(bfoo, binaryValue, setParams().nx().ex(expireSeconds));
@@ -2,11 +2,20 @@ package redis.clients.jedis.tests.commands;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.Test;
 
 import redis.clients.jedis.BinaryJedis;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Tuple;
 import redis.clients.jedis.tests.HostAndPortUtil;
 
 public class ConnectionHandlingCommandsTest {
@@ -23,4 +32,34 @@ public class ConnectionHandlingCommandsTest {
     BinaryJedis bj = new BinaryJedis(hnp);
     assertEquals("OK", bj.quit());
   }
+
+  @Test
+  public void resp3() {
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.hello(RedisProtocol.RESP3);
+      assertEquals(RedisProtocol.RESP3, jedis.getClient().getProtocol());
+      jedis.del("foo", "zfoo");
+      jedis.hset("foo", "field", "value");
+      assertEquals(Collections.singletonMap("field", "value"), jedis.hgetAll("foo"));
+      jedis.zadd("zfoo", 1.5, "a");
+      jedis.zadd("zfoo", 2, "b");
+      assertEquals(Double.valueOf(1.5), jedis.zscore("zfoo", "a"));
+      Set<Tuple> expected = new LinkedHashSet<>();
+      expected.add(new Tuple("a", 1.5));
+      expected.add(new Tuple("b", 2d));
+      assertEquals(expected, jedis.zrangeWithScores("zfoo", 0, -1));
+      Pipeline p = jedis.pipelined();
+      Response<Set<Tuple>> tuples = p.zrangeWithScores("zfoo", 0, -1);
+      Response<Map<String, String>> hash = p.hgetAll("foo");
+      p.sync();
+      assertEquals(expected, tuples.get());
+      assertEquals("value", hash.get().get("field"));
+
+      // the protocol is negotiated again on reconnection
+      jedis.disconnect();
+      assertEquals(expected, jedis.zrangeWithScores("zfoo", 0, -1));
+      jedis.del("foo", "zfoo");
+    }
+  }
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArrayListEqua
 import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArraySetEquals;
 import static redis.clients.jedis.tests.utils.AssertUtil.assertCollectionContains;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -65,6 +68,25 @@ public class HashesCommandsTest extends JedisCommandTestBase {
     assertArrayEquals(bcar, jedis.hget(bfoo, bbar));
   }
 
+  @Test
+  public void hgetIntoAndAsStream() throws IOException {
+    jedis.hset("foo", "bar", "car");
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    assertEquals(3, jedis.hgetInto("foo", "bar", buffer));
+    assertEquals(-1, jedis.hgetInto("foo", "car", buffer));
+    assertEquals("car", new String(buffer.array(), 0, buffer.position()));
+
+    // Binary
+    jedis.hset(bfoo, bbar, bcar);
+    try (InputStream in = jedis.hgetAsStream(bfoo, bbar)) {
+      byte[] value = new byte[bcar.length];
+      assertEquals(bcar.length, in.read(value));
+      assertArrayEquals(bcar, value);
+      assertEquals(-1, in.read());
+    }
+    assertNull(jedis.hgetAsStream(bfoo, bcar));
+  }
+
   @Test
   public void hsetnx() {
     long status = jedis.hsetnx("foo", "bar", "car");
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotEquals;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -64,4 +65,42 @@ public class JedisClusterCRC16Test {
       JedisClusterCRC16.getSlot("bar".getBytes()));
   }
 
+  @Test
+  public void testSlicingMatchesBytewise() {
+    Random random = new Random(42);
+    for (int length = 0; length < 40; length++) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      int crc = 0;
+      for (byte b : bytes) {
+        // bit by bit, polynomial 0x1021
+        crc ^= (b & 0xFF) << 8;
+        for (int bit = 0; bit < 8; bit++) {
+          crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+        }
+        crc &= 0xFFFF;
+      }
+      assertEquals(crc, JedisClusterCRC16.getCRC16(bytes));
+    }
+  }
+
+  @Test
+  public void testStringMatchesEncodedBytes() {
+    char[] alphabet = { 'a', 'Z', '0', '{', '}', '\u00e9', '\u00ff', '\u07ff', '\u0800', '\u4e2d',
+        '\uffff', '\ud83d', '\ude00' };
+    Random random = new Random(42);
+    for (int n = 0; n < 2000; n++) {
+      char[] chars = new char[random.nextInt(30)];
+      for (int i = 0; i < chars.length; i++) {
+        // mostly ASCII runs, as in real keys
+        chars[i] = random.nextInt(4) == 0 ? alphabet[random.nextInt(alphabet.length)]
+            : (char) ('a' + random.nextInt(26));
+      }
+      String key = new String(chars);
+      byte[] encoded = SafeEncoder.encode(key);
+      assertEquals(key, JedisClusterCRC16.getCRC16(encoded), JedisClusterCRC16.getCRC16(key));
+      assertEquals(key, JedisClusterCRC16.getSlot(encoded), JedisClusterCRC16.getSlot(key));
+    }
+  }
+
 }
@@ -3,6 +3,7 @@ package redis.clients.jedis.tests.utils;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -58,6 +59,23 @@ public class JedisURIHelperTest {
     assertFalse(JedisURIHelper.isValid(new URI("user:password@host:9000/0")));
     assertFalse(JedisURIHelper.isValid(new URI("host:9000/0")));
     assertFalse(JedisURIHelper.isValid(new URI("redis://host/0")));
+    assertFalse(JedisURIHelper.isValid(new URI("unix:///")));
+  }
+
+  @Test
+  public void shouldGetSettingsFromUnixSocketURI() throws URISyntaxException {
+    URI uri = new URI("unix:///var/run/redis.sock?user=user&password=secret&db=2");
+    assertTrue(JedisURIHelper.isValid(uri));
+    assertTrue(JedisURIHelper.isUnixSocketScheme(uri));
+    assertEquals("/var/run/redis.sock", JedisURIHelper.getUnixSocketPath(uri));
+    assertEquals("user", JedisURIHelper.getUser(uri));
+    assertEquals("secret", JedisURIHelper.getPassword(uri));
+    assertEquals(2, JedisURIHelper.getDBIndex(uri));
+
+    uri = new URI("unix:///var/run/redis.sock");
+    assertNull(JedisURIHelper.getUser(uri));
+    assertNull(JedisURIHelper.getPassword(uri));
+    assertEquals(0, JedisURIHelper.getDBIndex(uri));
   }
 
 }